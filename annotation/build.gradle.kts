@@ -34,6 +34,7 @@ import io.spine.gradle.report.coverage.creditTestCoverageFrom
 plugins {
     module
     id("io.spine.core-jvm")
+    `jmh-module`
 }
 
 dependencies {
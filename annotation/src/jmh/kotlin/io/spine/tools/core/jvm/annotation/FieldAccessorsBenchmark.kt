@@ -0,0 +1,156 @@
+/*
+ * Copyright 2026, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.tools.core.jvm.annotation
+
+import com.intellij.psi.PsiJavaFile
+import io.spine.string.camelCase
+import io.spine.tools.compiler.ast.FieldName
+import io.spine.tools.compiler.ast.fieldName
+import io.spine.tools.compiler.jvm.ClassName
+import io.spine.tools.compiler.jvm.file.locate
+import io.spine.tools.compiler.render.TextFactory.text
+import java.util.concurrent.TimeUnit.MILLISECONDS
+import org.openjdk.jmh.annotations.Benchmark
+import org.openjdk.jmh.annotations.BenchmarkMode
+import org.openjdk.jmh.annotations.Mode
+import org.openjdk.jmh.annotations.OutputTimeUnit
+import org.openjdk.jmh.annotations.Param
+import org.openjdk.jmh.annotations.Scope
+import org.openjdk.jmh.annotations.Setup
+import org.openjdk.jmh.annotations.State
+import org.openjdk.jmh.infra.Blackhole
+
+/**
+ * Measures finding the accessors of the fields in the code generated by `protoc`
+ * for a message with many fields.
+ *
+ * Compares locating the accessors [field by field][FieldAccessors], which parses
+ * the code for each field, with [FileAnnotations] which parses the code once.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(MILLISECONDS)
+open class FieldAccessorsBenchmark {
+
+    /**
+     * The number of the fields of the message.
+     */
+    @Param("8", "32", "128")
+    @JvmField
+    var fieldCount: Int = 0
+
+    private val className = ClassName(PACKAGE, CLASS)
+    private lateinit var fields: List<FieldName>
+    private lateinit var code: String
+
+    @Setup
+    fun setUp() {
+        fields = (0 until fieldCount).map { fieldName { value = "field_$it" } }
+        code = protocLikeCode(fields)
+    }
+
+    @Benchmark
+    fun locateByField(blackhole: Blackhole) {
+        fields.forEach {
+            blackhole.consume(FieldAccessors(className, it).locate(code))
+        }
+    }
+
+    @Benchmark
+    fun locateInBatch(): String {
+        val annotations = FileAnnotations()
+        fields.forEach {
+            annotations.add(className, it, ANNOTATION)
+        }
+        val psiFile = text(code).locate(className)!!.containingFile as PsiJavaFile
+        return annotations.applyTo(psiFile)
+    }
+
+    private companion object {
+
+        const val PACKAGE = "io.spine.tools.core.jvm.given.synthetic"
+        const val CLASS = "Message0"
+        const val ANNOTATION = "@io.spine.annotation.Internal"
+
+        /**
+         * Creates the code shaped as the one `protoc` generates for a message
+         * with the string [fields].
+         *
+         * The code has the members of the message class and its builder which
+         * `protoc` generates for each field, and omits the rest of the members.
+         */
+        fun protocLikeCode(fields: List<FieldName>): String = buildString {
+            appendLine("package $PACKAGE;")
+            appendLine()
+            appendLine("public final class $CLASS extends com.google.protobuf.GeneratedMessage {")
+            fields.forEachIndexed { index, field ->
+                val name = field.value.camelCase()
+                val member = name.replaceFirstChar { it.lowercase() } + "_"
+                appendLine("""
+                    |  public static final int ${field.value.uppercase()}_FIELD_NUMBER = ${index + 1};
+                    |  private volatile java.lang.Object $member = "";
+                    |  /**
+                    |   * <code>string ${field.value} = ${index + 1};</code>
+                    |   * @return The ${field.value.replace('_', ' ')}.
+                    |   */
+                    |  @java.lang.Override
+                    |  public java.lang.String get$name() {
+                    |    return (java.lang.String) $member;
+                    |  }
+                    |  /**
+                    |   * <code>string ${field.value} = ${index + 1};</code>
+                    |   * @return The bytes for ${field.value.replace('_', ' ')}.
+                    |   */
+                    |  @java.lang.Override
+                    |  public com.google.protobuf.ByteString get${name}Bytes() {
+                    |    return com.google.protobuf.ByteString.copyFromUtf8((java.lang.String) $member);
+                    |  }
+                    """.trimMargin())
+            }
+            appendLine("  public static final class Builder {")
+            fields.forEach { field ->
+                val name = field.value.camelCase()
+                appendLine("""
+                    |    public java.lang.String get$name() {
+                    |      return "";
+                    |    }
+                    |    public Builder set$name(java.lang.String value) {
+                    |      return this;
+                    |    }
+                    |    public Builder clear$name() {
+                    |      return this;
+                    |    }
+                    |    public Builder set${name}Bytes(com.google.protobuf.ByteString value) {
+                    |      return this;
+                    |    }
+                    """.trimMargin())
+            }
+            appendLine("  }")
+            appendLine("}")
+        }
+    }
+}
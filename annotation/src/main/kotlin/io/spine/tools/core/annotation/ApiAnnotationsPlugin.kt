@@ -29,6 +29,7 @@ package io.spine.tools.core.annotation
 import io.spine.tools.compiler.plugin.Plugin
 import io.spine.server.BoundedContextBuilder
 import io.spine.tools.core.jvm.annotation.ClassPatternAnnotator
+import io.spine.tools.core.jvm.annotation.ClosePsiSession
 import io.spine.tools.core.jvm.annotation.EnumAnnotator
 import io.spine.tools.core.jvm.annotation.FieldAnnotator
 import io.spine.tools.core.jvm.annotation.MessageAnnotator
@@ -69,7 +70,9 @@ public class ApiAnnotationsPlugin : Plugin(
         OuterClassAnnotator(),
         FieldAnnotator(),
         ClassPatternAnnotator(),
-        MethodPatternAnnotator()
+        MethodPatternAnnotator(),
+        // Goes last to write and release the PSI trees kept for the renderers above.
+        ClosePsiSession()
     ),
     views = setOf(
         EnumAnnotationsView::class.java,
@@ -29,8 +29,12 @@ package io.spine.tools.core.jvm.annotation
 import io.spine.tools.compiler.jvm.annotation.TypeAnnotation
 import io.spine.tools.compiler.render.SourceFile
 import io.spine.tools.compiler.render.SourceFileSet
-import io.spine.tools.compiler.render.forEachOfLanguage
 import io.spine.tools.code.Java
+import io.spine.tools.core.jvm.render.IncrementalRendering
+import io.spine.tools.core.jvm.render.PerFileWork
+import io.spine.tools.core.jvm.render.PipelineMetrics
+import io.spine.tools.core.jvm.render.PsiSession
+import io.spine.tools.core.jvm.render.javaFilesInOrder
 
 /**
  * Annotates classes matching [name patterns specified][Settings.getInternalClassPatternList]
@@ -39,6 +43,9 @@ import io.spine.tools.code.Java
  * The annotation type to be used is obtained from
  * the [`internal`][Settings.AnnotationTypes.getInternal] field of
  * the [Settings.AnnotationTypes] message.
+ *
+ * The files are processed as [PerFileWork], so that the class names may be matched
+ * against the patterns in parallel when the parallel rendering is turned on.
  */
 internal class ClassPatternAnnotator : PatternAnnotator() {
 
@@ -46,14 +53,28 @@ internal class ClassPatternAnnotator : PatternAnnotator() {
         settings.internalClassPatternList
 
     override fun render(sources: SourceFileSet) {
-        sources.forEachOfLanguage<Java> { file ->
-            val className = file.qualifiedTopClassName()
-            if (matches(className)) {
-                annotate(sources, file)
-            }
+        // The annotations are added to the code of the files, not to the trees.
+        PsiSession.flush()
+        PipelineMetrics.measure(this) {
+            PerFileWork.fromSystemProperties().run(
+                sources.javaFilesInOrder(),
+                prepare = ::needsAnnotation,
+                commit = { file, _ -> annotate(sources, file) }
+            )
         }
     }
 
+    /**
+     * Tells if the top class of the given file matches the patterns.
+     *
+     * @return `true` if the class needs the annotation, `null` otherwise.
+     */
+    private fun needsAnnotation(file: SourceFile<Java>): Boolean? {
+        val matching = matches(file.qualifiedTopClassName()) &&
+                !IncrementalRendering.isRestored(file)
+        return matching.takeIf { it }
+    }
+
     private fun annotate(sources: SourceFileSet, file: SourceFile<Java>) {
         TopClassAnnotation(annotationClass, file = file).let {
             it.registerWith(context)
@@ -0,0 +1,53 @@
+/*
+ * Copyright 2026, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.tools.core.jvm.annotation
+
+import io.spine.logging.WithLogging
+import io.spine.tools.compiler.jvm.render.JavaRenderer
+import io.spine.tools.compiler.render.SourceFileSet
+import io.spine.tools.core.jvm.render.PsiSession
+
+/**
+ * Writes the pending changes of [PsiSession] and releases its trees
+ * after the last CoreJvm renderer.
+ *
+ * [ApiAnnotationsPlugin][io.spine.tools.core.annotation.ApiAnnotationsPlugin] is the last
+ * CoreJvm plugin in the pipeline, so this renderer goes last in the list of its renderers.
+ * The renderers which follow, such as the code style formatter, work with
+ * the code of the files and do not need the trees.
+ */
+internal class ClosePsiSession : JavaRenderer(), WithLogging {
+
+    override fun render(sources: SourceFileSet) {
+        PsiSession.close()
+        val counters = PsiSession.counters()
+        logger.atInfo().log {
+            "PSI session: ${counters.parsed} file(s) parsed," +
+                    " ${counters.reused} parse(s) avoided, ${counters.written} file write(s)."
+        }
+    }
+}
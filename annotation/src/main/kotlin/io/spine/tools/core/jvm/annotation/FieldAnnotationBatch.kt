@@ -0,0 +1,176 @@
+/*
+ * Copyright 2026, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.tools.core.jvm.annotation
+
+import com.intellij.psi.PsiClass
+import com.intellij.psi.PsiJavaFile
+import io.spine.string.Separator
+import io.spine.string.camelCase
+import io.spine.tools.code.Java
+import io.spine.tools.compiler.ast.FieldName
+import io.spine.tools.compiler.jvm.ClassName
+import io.spine.tools.compiler.render.SourceFile
+import io.spine.tools.core.jvm.render.PsiSession
+import io.spine.tools.psi.java.Environment.elementFactory
+import io.spine.tools.psi.java.execute
+
+/**
+ * Collects annotations to be added to field accessors and applies them file by file.
+ *
+ * Adding an annotation via a [FieldAccessors] insertion point parses the whole file
+ * for each field and each class. The batch obtains the tree of each file from
+ * [PsiSession] once, finds the accessors of all the pending fields in one walk over
+ * the methods of each class, annotates them in the tree, and passes the tree back
+ * to the session. So, the file is not parsed again by the next renderer working
+ * with it via the session.
+ *
+ * Like [FieldAccessors], the batch treats as an accessor of a field every method
+ * which contains a `CamelCase` version of the field name in its name.
+ */
+internal class FieldAnnotationBatch {
+
+    private val pending = mutableMapOf<String, Pair<SourceFile<*>, FileAnnotations>>()
+
+    /**
+     * Schedules adding the [annotationLine] to the accessors of the [field]
+     * declared in the class with the given name.
+     */
+    fun add(
+        file: SourceFile<*>,
+        className: ClassName,
+        field: FieldName,
+        annotationLine: String
+    ) {
+        val key = file.relativePath.toString()
+        val (_, annotations) = pending.getOrPut(key) { file to FileAnnotations() }
+        annotations.add(className, field, annotationLine)
+    }
+
+    /**
+     * Applies all the pending annotations and clears the batch.
+     *
+     * The files are processed in the order of their paths.
+     */
+    fun apply() {
+        pending.keys.sorted().forEach {
+            val (file, annotations) = pending[it]!!
+            @Suppress("UNCHECKED_CAST") // Accessors are declared in Java files.
+            val javaFile = file as SourceFile<Java>
+            val psiFile = PsiSession.psi(javaFile)
+            execute {
+                annotations.applyTo(psiFile)
+            }
+            PsiSession.write(javaFile, psiFile)
+        }
+        pending.clear()
+    }
+}
+
+/**
+ * An annotation to be added to the accessors of a field.
+ */
+private class FieldAnnotation(val field: FieldName, val annotationLine: String) {
+
+    val camelCase: String = field.value.camelCase()
+}
+
+/**
+ * The annotations pending for the classes declared in one file.
+ */
+internal class FileAnnotations {
+
+    private val byClass = linkedMapOf<String, MutableList<FieldAnnotation>>()
+
+    /**
+     * Schedules adding the [annotationLine] to the accessors of the [field]
+     * declared in the class with the given name.
+     */
+    fun add(className: ClassName, field: FieldName, annotationLine: String) {
+        byClass.getOrPut(className.canonical) { mutableListOf() }
+            .add(FieldAnnotation(field, annotationLine))
+    }
+
+    /**
+     * Adds the annotations to the accessors in the tree of the given file.
+     *
+     * Must be called within a PSI write command.
+     */
+    fun applyTo(psiFile: PsiJavaFile) {
+        val classes = psiFile.classesByName()
+        byClass.forEach { (className, annotations) ->
+            val psiClass = classes[className]
+            check(psiClass != null) {
+                "Unable to find the class `$className` in the code below:" +
+                        Separator.nl().repeat(2) + psiFile.text
+            }
+            psiClass.annotateAccessors(annotations)
+        }
+    }
+
+    /**
+     * Walks the methods of this class once adding the annotations to the accessors.
+     *
+     * The annotations are placed before the other modifiers of an accessor in the order
+     * in which they were [added][add].
+     */
+    private fun PsiClass.annotateAccessors(annotations: List<FieldAnnotation>) {
+        val found = BooleanArray(annotations.size)
+        val linesByMethod = methods.associateWith { method ->
+            annotations.withIndex()
+                .filter { (_, annotation) -> method.name.contains(annotation.camelCase) }
+                .map { (index, annotation) ->
+                    found[index] = true
+                    annotation.annotationLine
+                }
+        }
+        val missing = annotations.filterIndexed { index, _ -> !found[index] }
+        check(missing.isEmpty()) {
+            val fields = missing.joinToString { "`$qualifiedName.${it.field.value}`" }
+            "Unable to find getter(s) for the field(s) $fields in the code below:" +
+                    Separator.nl().repeat(2) + containingFile.text
+        }
+        linesByMethod.forEach { (method, lines) ->
+            val modifiers = method.modifierList
+            lines.asReversed().forEach { line ->
+                val annotation = elementFactory.createAnnotationFromText(line, method)
+                modifiers.addBefore(annotation, modifiers.firstChild)
+            }
+        }
+    }
+}
+
+/**
+ * Obtains all the classes declared in this file, including nested ones,
+ * by their qualified names.
+ */
+private fun PsiJavaFile.classesByName(): Map<String, PsiClass> = buildMap {
+    fun collect(cls: PsiClass) {
+        cls.qualifiedName?.let { put(it, cls) }
+        cls.innerClasses.forEach { collect(it) }
+    }
+    classes.forEach { collect(it) }
+}
@@ -34,11 +34,15 @@ import io.spine.tools.core.annotation.ApiOption
 import io.spine.tools.core.annotation.FieldOptions
 import io.spine.tools.core.annotation.MessageFieldAnnotations
 import io.spine.tools.core.annotation.isTrue
+import io.spine.tools.core.jvm.render.IncrementalRendering
 import io.spine.tools.java.reference
 
 /**
  * Annotates methods for accessing fields of a message class, the builder of the message, and
  * `MessageOrBuilder` interface.
+ *
+ * The annotations are collected into a [FieldAnnotationBatch] while annotating the views,
+ * and then applied once per file.
  */
 internal class FieldAnnotator :
     ProtoAnnotator<MessageFieldAnnotations>(MessageFieldAnnotations::class.java) {
@@ -51,12 +55,23 @@ internal class FieldAnnotator :
         MessageOrBuilderConvention(typeSystem)
     }
 
+    private val batch = FieldAnnotationBatch()
+
+    override fun isRestored(view: MessageFieldAnnotations): Boolean {
+        val messageType = typeSystem.findMessage(view.type)!!.first
+        return IncrementalRendering.isRestored(messageType.file)
+    }
+
     override fun annotate(view: MessageFieldAnnotations) {
         view.fieldOptionsList.forEach { fieldOption ->
             annotateField(view, fieldOption)
         }
     }
 
+    override fun afterAnnotating() {
+        batch.apply()
+    }
+
     private fun annotateField(
         view: MessageFieldAnnotations,
         fieldOption: FieldOptions
@@ -93,19 +108,13 @@ internal class FieldAnnotator :
 
         val annotationLine = "@${annotationClass.reference}"
 
-        val gettersInMessage = FieldAccessors(messageClass, fieldName)
-        messageFile.at(gettersInMessage)
-            .add(annotationLine)
+        batch.add(messageFile, messageClass, fieldName, annotationLine)
 
         val builderClass = messageClass.nested("Builder")
-        val builderAccessors = FieldAccessors(builderClass, fieldName)
-        messageFile.at(builderAccessors)
-            .add(annotationLine)
+        batch.add(messageFile, builderClass, fieldName, annotationLine)
 
         val messageOrBuilderFile = sources.file(messageOrBuilderDeclaration.path)
         val messageOrBuilderClass = messageOrBuilderDeclaration.name
-        val accessors = FieldAccessors(messageOrBuilderClass, fieldName)
-        messageOrBuilderFile.at(accessors)
-            .add(annotationLine)
+        batch.add(messageOrBuilderFile, messageOrBuilderClass, fieldName, annotationLine)
     }
 }
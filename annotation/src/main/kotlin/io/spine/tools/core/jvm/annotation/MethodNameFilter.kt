@@ -0,0 +1,165 @@
+/*
+ * Copyright 2026, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.tools.core.jvm.annotation
+
+import io.spine.tools.core.jvm.settings.alternationOf
+
+/**
+ * Finds out if Java source code declares or calls methods with names
+ * matching the given patterns without parsing the code.
+ *
+ * All the patterns are [joined][alternationOf] into one regular expression, so that
+ * a name is checked by one automaton instead of trying the patterns one by one.
+ * If the patterns cannot be joined, e.g., because they refer to groups, the patterns
+ * are tried one by one.
+ * The code is scanned once for identifiers followed by an opening parenthesis,
+ * skipping comments and string literals. Each distinct name is checked only once.
+ *
+ * The filter may report a candidate for a name which is not a method name,
+ * e.g., for a constructor or a method call. This is fine because the filter only
+ * decides if the code needs to be parsed. It never misses a method declaration
+ * with a matching name, though.
+ *
+ * @param patterns The regular expressions to match whole method names.
+ */
+internal class MethodNameFilter(private val patterns: List<Regex>) {
+
+    private val combined: Regex? = when (patterns.size) {
+        0 -> null
+        1 -> patterns[0]
+        else -> alternationOf(patterns.map { it.pattern })
+    }
+
+    /**
+     * Tells if the filter has no patterns and, therefore, never finds candidates.
+     */
+    val isEmpty: Boolean
+        get() = patterns.isEmpty()
+
+    /**
+     * Tells if the given code contains at least one method name matching the patterns.
+     */
+    fun hasCandidates(code: CharSequence): Boolean {
+        if (isEmpty) {
+            return false
+        }
+        val checked = HashSet<String>()
+        val scanner = Scanner(code)
+        while (true) {
+            val name = scanner.nextCallable() ?: return false
+            if (checked.add(name) && matches(name)) {
+                return true
+            }
+        }
+    }
+
+    private fun matches(name: String): Boolean =
+        combined?.matches(name) ?: patterns.any { it.matches(name) }
+}
+
+/**
+ * Walks the code looking for identifiers followed by an opening parenthesis.
+ */
+private class Scanner(private val code: CharSequence) {
+
+    private var pos = 0
+
+    /**
+     * Obtains the next identifier followed by `(`, or `null` if the end of code is reached.
+     */
+    @Suppress("LoopWithTooManyJumpStatements", "CyclomaticComplexMethod")
+    fun nextCallable(): String? {
+        val length = code.length
+        while (pos < length) {
+            val c = code[pos]
+            when {
+                c == '/' && next(1) == '/' -> skipLine()
+                c == '/' && next(1) == '*' -> skipBlockComment()
+                c == '"' && next(1) == '"' && next(2) == '"' -> skipTextBlock()
+                c == '"' || c == '\'' -> skipLiteral(c)
+                Character.isJavaIdentifierStart(c) -> {
+                    val start = pos
+                    pos++
+                    while (pos < length && Character.isJavaIdentifierPart(code[pos])) {
+                        pos++
+                    }
+                    val end = pos
+                    while (pos < length && code[pos].isWhitespace()) {
+                        pos++
+                    }
+                    if (pos < length && code[pos] == '(') {
+                        return code.substring(start, end)
+                    }
+                }
+                else -> pos++
+            }
+        }
+        return null
+    }
+
+    private fun next(offset: Int): Char? =
+        if (pos + offset < code.length) code[pos + offset] else null
+
+    private fun skipLine() {
+        while (pos < code.length && code[pos] != '\n') {
+            pos++
+        }
+    }
+
+    private fun skipBlockComment() {
+        pos += 2
+        while (pos < code.length && !(code[pos] == '*' && next(1) == '/')) {
+            pos++
+        }
+        pos += 2
+    }
+
+    private fun skipTextBlock() {
+        pos += 3
+        while (pos < code.length && !(code[pos] == '"' && next(1) == '"' && next(2) == '"')) {
+            if (code[pos] == '\\') {
+                pos++
+            }
+            pos++
+        }
+        pos += 3
+    }
+
+    /**
+     * Skips a string or a character literal.
+     */
+    private fun skipLiteral(quote: Char) {
+        pos++
+        while (pos < code.length && code[pos] != quote) {
+            if (code[pos] == '\\') {
+                pos++
+            }
+            pos++
+        }
+        pos++
+    }
+}
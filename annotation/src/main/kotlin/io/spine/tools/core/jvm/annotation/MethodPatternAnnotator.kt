@@ -29,14 +29,20 @@ package io.spine.tools.core.jvm.annotation
 import com.intellij.psi.PsiClass
 import com.intellij.psi.PsiJavaFile
 import com.intellij.psi.PsiMethod
+import io.spine.logging.WithLogging
 import io.spine.tools.compiler.render.SourceFile
 import io.spine.tools.compiler.render.SourceFileSet
-import io.spine.tools.compiler.render.forEachOfLanguage
 import io.spine.tools.code.Java
+import io.spine.tools.core.jvm.render.IncrementalRendering
+import io.spine.tools.core.jvm.render.PerFileWork
+import io.spine.tools.core.jvm.render.PipelineMetrics
+import io.spine.tools.core.jvm.render.PsiSession
+import io.spine.tools.core.jvm.render.javaFilesInOrder
 import io.spine.tools.java.isRepeatable
 import io.spine.tools.java.reference
 import io.spine.tools.psi.java.annotate
 import io.spine.tools.psi.java.execute
+import java.util.concurrent.atomic.AtomicInteger
 
 /**
  * Annotates methods matching [name patterns specified][Settings.getInternalMethodNameList]
@@ -45,8 +51,17 @@ import io.spine.tools.psi.java.execute
  * The annotation type to be used is obtained from
  * the [`internal`][Settings.AnnotationTypes.getInternal] field of
  * the [Settings.AnnotationTypes] message.
+ *
+ * The files are processed as [PerFileWork], so that parsing and looking up
+ * the methods may run in parallel when the parallel rendering is turned on.
+ *
+ * Before parsing a file, the annotator checks its code with [MethodNameFilter].
+ * Files without method names matching the patterns are not parsed.
+ *
+ * The files [restored][IncrementalRendering.isRestored] by the incremental rendering
+ * are skipped.
  */
-internal class MethodPatternAnnotator : PatternAnnotator() {
+internal class MethodPatternAnnotator : PatternAnnotator(), WithLogging {
 
     override fun loadPatterns(): List<String> =
         settings.internalMethodNameList
@@ -55,46 +70,93 @@ internal class MethodPatternAnnotator : PatternAnnotator() {
         "@${annotationClass.reference}"
     }
 
+    private val filter: MethodNameFilter by lazy {
+        MethodNameFilter(patterns)
+    }
+
+    /**
+     * Counts the files skipped by the [filter] and the parsed ones.
+     */
+    internal val stats = FilterStats()
+
     override fun render(sources: SourceFileSet) {
-        sources.forEachOfLanguage<Java> {
-            annotateIn(it)
+        if (filter.isEmpty) {
+            return
+        }
+        PipelineMetrics.measure(this) {
+            annotateMethods(sources)
         }
     }
 
-    private fun annotateIn(file: SourceFile<Java>) {
-        var updated = false
-        val javaFile = file.psi() as PsiJavaFile
-        execute {
-            javaFile.classes.forEach {
-                if (annotateInClass(it)) {
-                    updated = true
-                }
-            }
+    private fun annotateMethods(sources: SourceFileSet) {
+        val files = sources.javaFilesInOrder().filterNot { IncrementalRendering.isRestored(it) }
+        PerFileWork.fromSystemProperties().run(
+            files,
+            prepare = ::findMethods,
+            commit = ::annotateIn
+        )
+        logger.atDebug().log {
+            "Method name pre-filter skipped ${stats.skipped} file(s)" +
+                    " and passed ${stats.parsed} file(s) for parsing."
+        }
+    }
+
+    /**
+     * Finds the methods to be annotated in the given file.
+     *
+     * Does not modify the file, so can be called for different files concurrently.
+     * The methods are looked up under the [read action][PsiSession.read].
+     *
+     * @return the methods to annotate or `null` if there are none.
+     */
+    private fun findMethods(file: SourceFile<Java>): List<PsiMethod>? {
+        if (!filter.hasCandidates(file.code())) {
+            stats.skipped.incrementAndGet()
+            return null
         }
-        if (updated) {
-            val updatedCode = javaFile.text
-            file.overwrite(updatedCode)
+        stats.parsed.incrementAndGet()
+        val javaFile = PsiSession.psi(file)
+        val methods = PsiSession.read {
+            javaFile.classes.flatMap { methodsToAnnotate(it) }
         }
+        return methods.ifEmpty { null }
     }
 
-    private fun annotateInClass(cls: PsiClass): Boolean {
-        var updated = false
+    private fun methodsToAnnotate(cls: PsiClass): List<PsiMethod> =
         cls.methods.filter {
-            matches(it.name)
-        }.forEach {
-            if (annotate(it)) {
-                updated = true
+            matches(it.name) && needsAnnotation(it)
+        }
+
+    private fun annotateIn(file: SourceFile<Java>, methods: List<PsiMethod>) {
+        val javaFile = methods.first().containingFile as PsiJavaFile
+        execute {
+            methods.forEach {
+                it.annotate(annotationCode)
             }
         }
-        return updated
+        PsiSession.write(file, javaFile)
     }
 
-    private fun annotate(method: PsiMethod): Boolean {
+    private fun needsAnnotation(method: PsiMethod): Boolean {
         val alreadyAnnotated = method.hasAnnotation(annotationClass.reference)
-        if (alreadyAnnotated && !annotationClass.isRepeatable) {
-            return false
-        }
-        method.annotate(annotationCode)
-        return true
+        return !alreadyAnnotated || annotationClass.isRepeatable
     }
 }
+
+/**
+ * The numbers of files skipped and parsed by [MethodPatternAnnotator].
+ *
+ * The counters are atomic because files may be checked in parallel.
+ */
+internal class FilterStats {
+
+    /**
+     * The number of files which were not parsed because they have no candidate names.
+     */
+    val skipped = AtomicInteger()
+
+    /**
+     * The number of files which were parsed.
+     */
+    val parsed = AtomicInteger()
+}
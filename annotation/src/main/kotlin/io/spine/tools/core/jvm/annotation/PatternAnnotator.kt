@@ -37,7 +37,10 @@ import java.io.File
  */
 internal abstract class PatternAnnotator : Annotator() {
 
-    private val patterns: List<Regex> by lazy {
+    /**
+     * The patterns loaded by [loadPatterns] compiled into regular expressions.
+     */
+    protected val patterns: List<Regex> by lazy {
         loadPatterns().map {
             it.toRegex()
         }
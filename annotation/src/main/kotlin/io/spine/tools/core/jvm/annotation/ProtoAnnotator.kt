@@ -28,6 +28,8 @@ package io.spine.tools.core.jvm.annotation
 
 import io.spine.base.EntityState
 import io.spine.tools.compiler.render.SourceFileSet
+import io.spine.tools.core.jvm.render.PipelineMetrics
+import io.spine.tools.core.jvm.render.PsiSession
 
 /**
  * An abstract base for annotation renderers that annotate Protobuf generated code
@@ -47,19 +49,40 @@ internal abstract class ProtoAnnotator<T>(
     final override fun render(sources: SourceFileSet) {
         if (suitableFor(sources)) {
             this.sources = sources
-            doRender()
+            // The annotations are added to the code of the files, not to the trees.
+            PsiSession.flush()
+            PipelineMetrics.measure(this) {
+                doRender()
+            }
         }
     }
 
     private fun doRender() {
-        val annotated: Set<T> = select(viewClass).all()
+        val annotated = select(viewClass).all()
+            .filterNot { isRestored(it) }
         annotated.forEach {
             annotate(it)
         }
+        afterAnnotating()
     }
 
+    /**
+     * Tells if the code of the proto file described by the given view was
+     * [restored][io.spine.tools.core.jvm.render.IncrementalRendering] from
+     * the previous run and must not be annotated again.
+     */
+    protected abstract fun isRestored(view: T): Boolean
+
     /**
      * Annotates the code according to the given view state.
      */
     protected abstract fun annotate(view: T)
+
+    /**
+     * Called after all the views are [annotated][annotate].
+     *
+     * Derived classes may override this method for applying the changes
+     * collected when annotating the views. The default implementation does nothing.
+     */
+    protected open fun afterAnnotating() = Unit
 }
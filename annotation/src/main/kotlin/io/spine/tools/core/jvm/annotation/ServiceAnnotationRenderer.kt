@@ -55,6 +55,12 @@ internal class ServiceAnnotationRenderer :
     override fun suitableFor(sources: SourceFileSet): Boolean =
         sources.hasGrpcRoot
 
+    /**
+     * Always returns `false` because the incremental rendering does not
+     * restore the code generated by gRPC.
+     */
+    override fun isRestored(view: ServiceAnnotations): Boolean = false
+
     /**
      * Always returns `true` because gRPC services are top-level classes and
      * as such are always annotated.
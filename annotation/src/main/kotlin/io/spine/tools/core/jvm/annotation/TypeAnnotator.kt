@@ -35,6 +35,7 @@ import io.spine.tools.core.annotation.WithOptions
 import io.spine.tools.core.annotation.file
 import io.spine.tools.core.annotation.isTrue
 import io.spine.tools.core.annotation.optionList
+import io.spine.tools.core.jvm.render.IncrementalRendering
 
 /**
  * Adds annotations to the types in the generated code.
@@ -43,6 +44,9 @@ internal abstract class TypeAnnotator<T>(
     viewClass: Class<T>
 ): ProtoAnnotator<T>(viewClass) where T : EntityState<*>, T : WithOptions {
 
+    override fun isRestored(view: T): Boolean =
+        IncrementalRendering.isRestored(view.file)
+
     /**
      * Annotates the type in accordance with the API level options of the given view.
      *
@@ -0,0 +1,137 @@
+/*
+ * Copyright 2026, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.tools.core.jvm.annotation
+
+import com.intellij.psi.PsiClass
+import com.intellij.psi.PsiJavaFile
+import io.kotest.assertions.throwables.shouldThrow
+import io.kotest.matchers.collections.shouldContainExactly
+import io.kotest.matchers.string.shouldContain
+import io.spine.tools.compiler.ast.fieldName
+import io.spine.tools.compiler.jvm.ClassName
+import io.spine.tools.compiler.jvm.file.locate
+import io.spine.tools.compiler.render.TextFactory.text
+import io.spine.tools.psi.java.execute
+import org.junit.jupiter.api.DisplayName
+import org.junit.jupiter.api.Test
+
+@DisplayName("`FileAnnotations` should")
+internal class FileAnnotationsSpec {
+
+    private val className = ClassName("given.test", "Sample")
+    private val builderClass = className.nested("Builder")
+    private val myField = fieldName { value = "my_field" }
+    private val other = fieldName { value = "other" }
+
+    private val code = """
+        package given.test;
+
+        public class Sample {
+
+            /** Obtains the value. */
+            public String getMyField() { return ""; }
+
+            public int getOther() { return 0; }
+
+            public static class Builder {
+
+                public Builder setMyField(String value) { return this; }
+            }
+        }
+        """.trimIndent()
+
+    private val psiFile: PsiJavaFile by lazy {
+        text(code).locate(className)!!.containingFile as PsiJavaFile
+    }
+
+    @Test
+    fun `annotate accessors of several fields in several classes at once`() {
+        val annotations = FileAnnotations()
+        annotations.add(className, myField, "@Internal")
+        annotations.add(className, other, "@Beta")
+        annotations.add(builderClass, myField, "@Internal")
+        execute {
+            annotations.applyTo(psiFile)
+        }
+        val sample = psiFile.classes.single()
+        sample.annotationsOf("getMyField") shouldContainExactly listOf("Internal")
+        sample.annotationsOf("getOther") shouldContainExactly listOf("Beta")
+        sample.innerClasses.single().annotationsOf("setMyField") shouldContainExactly
+                listOf("Internal")
+    }
+
+    @Test
+    fun `place annotations before the modifiers and after the doc comment`() {
+        val annotations = FileAnnotations()
+        annotations.add(className, myField, "@Internal")
+        execute {
+            annotations.applyTo(psiFile)
+        }
+        psiFile.text shouldContain Regex(
+            """/\*\* Obtains the value. \*/\s+@Internal\s+public String getMyField\(\)"""
+        )
+    }
+
+    @Test
+    fun `keep the order of annotations added to the same accessor`() {
+        val annotations = FileAnnotations()
+        annotations.add(className, other, "@Internal")
+        annotations.add(className, other, "@Beta")
+        execute {
+            annotations.applyTo(psiFile)
+        }
+        psiFile.classes.single().annotationsOf("getOther") shouldContainExactly
+                listOf("Internal", "Beta")
+    }
+
+    @Test
+    fun `fail when the class is not present in the code`() {
+        val annotations = FileAnnotations()
+        annotations.add(ClassName("given.test", "Missing"), myField, "@Internal")
+        val exception = shouldThrow<IllegalStateException> {
+            annotations.applyTo(psiFile)
+        }
+        exception.message shouldContain "Unable to find the class"
+    }
+
+    @Test
+    fun `fail when the field has no accessors`() {
+        val annotations = FileAnnotations()
+        annotations.add(className, fieldName { value = "unknown_field" }, "@Internal")
+        val exception = shouldThrow<IllegalStateException> {
+            annotations.applyTo(psiFile)
+        }
+        exception.message shouldContain "Unable to find getter(s)"
+    }
+}
+
+private fun PsiClass.annotationsOf(methodName: String): List<String?> =
+    findMethodsByName(methodName, false)
+        .single()
+        .modifierList
+        .annotations
+        .map { it.nameReferenceElement?.referenceName }
@@ -0,0 +1,121 @@
+/*
+ * Copyright 2026, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.tools.core.jvm.annotation
+
+import io.kotest.matchers.booleans.shouldBeFalse
+import io.kotest.matchers.booleans.shouldBeTrue
+import org.junit.jupiter.api.DisplayName
+import org.junit.jupiter.api.Nested
+import org.junit.jupiter.api.Test
+
+@DisplayName("`MethodNameFilter` should")
+internal class MethodNameFilterSpec {
+
+    private val filter = MethodNameFilter(listOf(Regex("internal.*"), Regex("getSecret")))
+
+    @Test
+    fun `have no candidates without patterns`() {
+        val empty = MethodNameFilter(listOf())
+        empty.isEmpty.shouldBeTrue()
+        empty.hasCandidates("void internalMethod() {}").shouldBeFalse()
+    }
+
+    @Nested inner class
+    `find a method name` {
+
+        @Test
+        fun `matching a regular expression`() {
+            filter.hasCandidates("""
+                class Sample {
+                    void internalMethod() {}
+                }
+                """.trimIndent()
+            ).shouldBeTrue()
+        }
+
+        @Test
+        fun `matching one of several patterns`() {
+            filter.hasCandidates("public String getSecret () { return \"\"; }").shouldBeTrue()
+        }
+
+        @Test
+        fun `with a parenthesis on the next line`() {
+            filter.hasCandidates("void internalMethod\n(\n) {}").shouldBeTrue()
+        }
+
+        @Test
+        fun `matching a pattern with a back reference`() {
+            val filter = MethodNameFilter(
+                listOf(Regex("(get|set)Internal"), Regex("([a-z])\\1[a-z]*"))
+            )
+            filter.hasCandidates("void eerie() {}").shouldBeTrue()
+        }
+
+        @Test
+        fun `matching one of the patterns declaring the same named group`() {
+            val filter = MethodNameFilter(
+                listOf(Regex("(?<verb>get)Secret"), Regex("(?<verb>set)Secret"))
+            )
+            filter.hasCandidates("void setSecret(String value) {}").shouldBeTrue()
+        }
+    }
+
+    @Nested inner class
+    `not find a method name` {
+
+        @Test
+        fun `matching only partially`() {
+            filter.hasCandidates("String getSecretValue() { return null; }").shouldBeFalse()
+        }
+
+        @Test
+        fun `which is not followed by a parenthesis`() {
+            filter.hasCandidates("int internalField = 0;").shouldBeFalse()
+        }
+
+        @Test
+        fun `in comments`() {
+            filter.hasCandidates("""
+                // internalMethod()
+                /* getSecret() */
+                /** Calls {@link #internalMethod()}. */
+                void other() {}
+                """.trimIndent()
+            ).shouldBeFalse()
+        }
+
+        @Test
+        fun `in literals`() {
+            filter.hasCandidates("""
+                String s = "internalMethod()";
+                char c = '(';
+                String t = "\"getSecret()";
+                """.trimIndent()
+            ).shouldBeFalse()
+        }
+    }
+}
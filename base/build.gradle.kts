@@ -38,6 +38,7 @@ plugins {
     module
     id("io.spine.artifact-meta")
     id("io.spine.core-jvm")
+    `jmh-module`
 }
 
 /**
@@ -109,6 +110,9 @@ dependencies {
     testFixturesImplementation(Logging.testLib)?.because(
         "Because we need `tapConsole`."
     )
+    jmhImplementation(testFixtures(project))?.because(
+        "Benchmarks take synthetic proto types from `SyntheticTypes`."
+    )
 }
 
 forceSpineBase()
@@ -0,0 +1,122 @@
+/*
+ * Copyright 2026, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.tools.core.jvm.settings
+
+import io.spine.tools.compiler.ast.FilePatternFactory
+import io.spine.tools.compiler.ast.MessageType
+import io.spine.tools.core.jvm.SyntheticTypes
+import io.spine.tools.proto.code.protoTypeName
+import java.util.concurrent.TimeUnit.MICROSECONDS
+import org.openjdk.jmh.annotations.Benchmark
+import org.openjdk.jmh.annotations.BenchmarkMode
+import org.openjdk.jmh.annotations.Mode
+import org.openjdk.jmh.annotations.OutputTimeUnit
+import org.openjdk.jmh.annotations.Param
+import org.openjdk.jmh.annotations.Scope
+import org.openjdk.jmh.annotations.Setup
+import org.openjdk.jmh.annotations.State
+import org.openjdk.jmh.infra.Blackhole
+
+/**
+ * Measures matching message types against the patterns of the settings.
+ *
+ * Compares checking the [patterns one by one][Pattern.matches] with
+ * querying a [PatternIndex] built from the same patterns.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(MICROSECONDS)
+open class PatternsBenchmark {
+
+    /**
+     * The number of the patterns to match each type against.
+     */
+    @Param("10", "100", "1000")
+    @JvmField
+    var patternCount: Int = 0
+
+    private lateinit var types: List<MessageType>
+    private lateinit var patterns: List<Pattern>
+    private lateinit var index: PatternIndex<Pattern>
+
+    @Setup
+    fun setUp() {
+        types = SyntheticTypes(messageCount = TYPE_COUNT, fieldCount = 1).messageTypes
+        patterns = (0 until patternCount).map(::pattern)
+        val builder = PatternIndex.newBuilder<Pattern>()
+        patterns.forEach { builder.add(it, it) }
+        index = builder.build()
+    }
+
+    @Benchmark
+    fun matchEach(blackhole: Blackhole) {
+        types.forEach { type ->
+            blackhole.consume(patterns.filter { it.matches(type) })
+        }
+    }
+
+    @Benchmark
+    fun matchIndex(blackhole: Blackhole) {
+        types.forEach { type ->
+            blackhole.consume(index.matching(type))
+        }
+    }
+
+    @Benchmark
+    fun buildIndex(): PatternIndex<Pattern> {
+        val builder = PatternIndex.newBuilder<Pattern>()
+        patterns.forEach { builder.add(it, it) }
+        return builder.build()
+    }
+
+    private companion object {
+
+        const val TYPE_COUNT = 100
+
+        /**
+         * Creates a pattern of one of the supported kinds depending on the [index].
+         *
+         * Some of the patterns match the synthetic types, the others do not.
+         */
+        fun pattern(index: Int): Pattern = when (index % 4) {
+            0 -> pattern {
+                type = typePattern {
+                    expectedType = protoTypeName { value = "given.synthetic.Message$index" }
+                }
+            }
+            1 -> pattern {
+                type = typePattern { regex = ".*\\.Message${index}\\d*" }
+            }
+            2 -> pattern {
+                file = FilePatternFactory.suffix("other_$index.proto")
+            }
+            else -> pattern {
+                file = FilePatternFactory.prefix("given/other_$index/")
+            }
+        }
+    }
+}
@@ -44,19 +44,49 @@ import com.squareup.kotlinpoet.AnnotationSpec as KAnnotationSpec
  * We would like to avoid unwanted propagation of a modification that could be made by
  * one renderer to others.
  *
+ * ## Reproducible mode
+ * By default, the value of the annotation refers to the version of the CoreJvm Compiler.
+ * So, the code generated by different versions differs in each annotated element.
+ * If the [REPRODUCIBLE_PROPERTY] system property is set to `true`, the default value
+ * does not mention the version.
+ *
  * @see Generated
  * @see forPsi
  * @see VersionHolder
  */
 public object GeneratedAnnotation {
 
-    private val defaultValue = "by Spine CoreJvm Compiler (version: ${version.value})"
+    /**
+     * The name of the system property which turns on the reproducible mode.
+     *
+     * The property is passed to the Spine Compiler process by the CoreJvm Gradle plugin when
+     * [RenderingOptions.reproducible][io.spine.tools.core.jvm.gradle.RenderingOptions.reproducible]
+     * is set. KSP processors receive it as a processor option with the same name.
+     */
+    public const val REPRODUCIBLE_PROPERTY: String = "io.spine.tools.core.jvm.reproducible"
+
+    private const val VERSIONLESS_VALUE = "by Spine CoreJvm Compiler"
+
+    private val versionedValue = "$VERSIONLESS_VALUE (version: ${version.value})"
+
+    private val defaultValue: String
+        get() = valueFor(System.getProperty(REPRODUCIBLE_PROPERTY).toBoolean())
+
+    /**
+     * Obtains the default value of the annotation.
+     *
+     * @param reproducible If `true`, the value does not refer to the version of
+     *   the CoreJvm Compiler.
+     */
+    public fun valueFor(reproducible: Boolean): String =
+        if (reproducible) VERSIONLESS_VALUE else versionedValue
 
     /**
      * Creates a new [PsiAnnotation] with the [Generated] annotation.
      *
      * @param value The string to be put into the annotation `value` parameter.
-     *  The default value refers to the current version of Spine Model Compiler.
+     *  The default value refers to the current version of Spine Model Compiler
+     *  unless the reproducible mode is on.
      */
     public fun forPsi(value: String = defaultValue): PsiAnnotation {
         val reference = Generated::class.java.reference
@@ -73,7 +103,8 @@ public object GeneratedAnnotation {
      * Creates a new [PsiAnnotation] with the [Generated] annotation.
      *
      * @param value The string to be put into the annotation `value` parameter.
-     *  The default value refers to the current version of Spine Model Compiler.
+     *  The default value refers to the current version of Spine Model Compiler
+     *  unless the reproducible mode is on.
      */
     public fun forJavaPoet(value: String = defaultValue): JAnnotationSpec =
         JAnnotationSpec.builder(Generated::class.java)
@@ -84,7 +115,8 @@ public object GeneratedAnnotation {
      * Creates a new [PsiAnnotation] with the [Generated] annotation.
      *
      * @param value The string to be put into the annotation `value` parameter.
-     *  The default value refers to the current version of Spine Model Compiler.
+     *  The default value refers to the current version of Spine Model Compiler
+     *  unless the reproducible mode is on.
      */
     public fun forKotlinPoet(value: String = defaultValue): KAnnotationSpec =
         KAnnotationSpec.builder(Generated::class)
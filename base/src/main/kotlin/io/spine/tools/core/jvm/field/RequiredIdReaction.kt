@@ -50,6 +50,7 @@ import io.spine.tools.compiler.ast.qualifiedName
 import io.spine.tools.compiler.ast.ref
 import io.spine.tools.compiler.check
 import io.spine.tools.compiler.plugin.Reaction
+import io.spine.tools.core.jvm.render.PipelineMetrics
 import io.spine.tools.validation.event.RequiredFieldDiscovered
 import io.spine.tools.validation.event.requiredFieldDiscovered
 import io.spine.tools.validation.option.required.RequiredFieldSupport.isSupported
@@ -102,31 +103,39 @@ public abstract class RequiredIdReaction : Reaction<TypeDiscovered>() {
      * @param file The file declaring the type which owns the [field].
      * @param message The error message for the violation.
      */
-    @Suppress("ReturnCount") // Prefer sooner exit and precise conditions.
     protected fun withField(
         field: Field,
         file: File,
         message: String
     ): EitherOf2<RequiredFieldDiscovered, NoReaction> {
+        val discovered = PipelineMetrics.measure(this) {
+            discover(field, file, message)
+        }
+        PipelineMetrics.reacted(this, matched = discovered != null)
+        return discovered?.asA() ?: ignore()
+    }
+
+    @Suppress("ReturnCount") // Prefer sooner exit and precise conditions.
+    private fun discover(field: Field, file: File, message: String): RequiredFieldDiscovered? {
         checkIdTypeSupported(field, file)
 
         val requiredOption = field.findOption(OptionsProto.required)
         if (requiredOption != null) {
-            return ignore()
+            return null
         }
 
         checkFieldIsNotEmpty(field, file)
 
         val fieldTypeUnsupported = field.type.isSupported().not()
         if (fieldTypeUnsupported) {
-            return ignore()
+            return null
         }
 
         return requiredFieldDiscovered {
             id = field.ref
             defaultErrorMessage = message
             subject = field
-        }.asA()
+        }
     }
 }
 
@@ -70,6 +70,12 @@ public abstract class CoreJvmOptions {
     @get:Nested
     public abstract val module: ModuleOptions
 
+    /**
+     * Options controlling how the CoreJvm Compiler plugins render the generated code.
+     */
+    @get:Nested
+    public abstract val rendering: RenderingOptions
+
     init {
         initConventions()
     }
@@ -99,6 +105,13 @@ public abstract class CoreJvmOptions {
         action.execute(compiler!!)
     }
 
+    /**
+     * Applies the given action for `rendering` options.
+     */
+    public fun rendering(action: Action<RenderingOptions>) {
+        action.execute(rendering)
+    }
+
     /**
      * Configures the `generateAnnotations` closure.
      */
@@ -0,0 +1,156 @@
+/*
+ * Copyright 2026, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.tools.core.jvm.gradle
+
+import io.spine.tools.core.jvm.GeneratedAnnotation
+import io.spine.tools.core.jvm.render.IncrementalCache
+import io.spine.tools.core.jvm.render.PerFileWork
+import io.spine.tools.core.jvm.render.PipelineMetrics
+import io.spine.tools.core.jvm.render.PipelineTrace
+import org.gradle.api.provider.Property
+
+/**
+ * Options controlling how the CoreJvm Compiler plugins render the generated code.
+ *
+ * @see CoreJvmOptions
+ */
+@Suppress("LeakingThis") // as advised by Gradle API.
+public abstract class RenderingOptions {
+
+    /**
+     * Tells if the renderers may process source files in parallel.
+     *
+     * When enabled, the renderers which support the parallel mode split their work
+     * into per-file units, prepare the units on a bounded fork-join pool, and then
+     * apply the changes to the files one by one in the order of their paths.
+     *
+     * The default value is `false`.
+     *
+     * @see PerFileWork
+     */
+    public abstract val parallel: Property<Boolean>
+
+    /**
+     * The maximum number of threads used for the [parallel] rendering.
+     *
+     * The value of zero, which is the default, means the number of processors
+     * available to the Spine Compiler process.
+     */
+    public abstract val parallelism: Property<Int>
+
+    /**
+     * Tells if the generated code must not depend on the version of the CoreJvm Compiler.
+     *
+     * When enabled, the values of the [Generated][io.spine.annotation.Generated] annotations
+     * do not refer to the version, so that upgrading the Compiler does not change
+     * the generated files.
+     *
+     * The CoreJvm Gradle plugin also adds the `checkSpineCompilerReproducibility` task,
+     * which runs the Compiler twice and fails if the rendered code differs.
+     * The task is run only when requested explicitly.
+     *
+     * The default value is `false`.
+     *
+     * @see GeneratedAnnotation.REPRODUCIBLE_PROPERTY
+     */
+    public abstract val reproducible: Property<Boolean>
+
+    /**
+     * Tells if the CoreJvm plugins may reuse the results of the previous runs of
+     * the Spine Compiler for the proto files which did not change since then.
+     *
+     * When enabled, the Java code rendered for each proto file is stored under
+     * the `build/spine/incremental/<task name>` directory. The code of the proto files
+     * which come with the same definitions, dependencies, and `protoc` output is
+     * restored from there instead of being rendered.
+     *
+     * The default value is `false`.
+     *
+     * @see IncrementalCache
+     */
+    public abstract val incremental: Property<Boolean>
+
+    /**
+     * Tells if the Spine Compiler should report the measures of the CoreJvm components.
+     *
+     * When enabled, the time, allocations, and counters of the renderers and reactions,
+     * along with the number of applied code generation actions, are written as JSON to
+     * `build/spine/reports/<task name>/pipeline-metrics.json` at the end of
+     * the Compiler pipeline. The file is an output of the task running the Compiler.
+     *
+     * The default value is `false`.
+     *
+     * @see PipelineMetrics
+     */
+    public abstract val metrics: Property<Boolean>
+
+    /**
+     * Tells if the Spine Compiler should record the timeline of the CoreJvm components.
+     *
+     * When enabled, the spans of the renderers, reactions, and the processing of
+     * individual files are written in Chrome Trace Event Format to
+     * `build/spine/reports/<task name>/pipeline-trace.json` at the end of
+     * the Compiler pipeline. The file is an output of the task running the Compiler.
+     * The file can be opened by a trace viewer, such as `chrome://tracing` or Perfetto.
+     *
+     * The default value is `false`.
+     *
+     * @see PipelineTrace
+     */
+    public abstract val trace: Property<Boolean>
+
+    init {
+        parallel.convention(false)
+        parallelism.convention(0)
+        reproducible.convention(false)
+        incremental.convention(false)
+        metrics.convention(false)
+        trace.convention(false)
+    }
+
+    /**
+     * Obtains the system properties to be passed to the Spine Compiler process.
+     *
+     * The properties turning on the [incremental] rendering, the [metrics], and
+     * the [trace] are not included because their values depend on the task
+     * running the Compiler.
+     */
+    public fun systemProperties(): Map<String, String> {
+        val result = mutableMapOf<String, String>()
+        if (reproducible.get()) {
+            result[GeneratedAnnotation.REPRODUCIBLE_PROPERTY] = "true"
+        }
+        if (parallel.get()) {
+            result[PerFileWork.PARALLEL_PROPERTY] = "true"
+            val threads = parallelism.get()
+            if (threads > 0) {
+                result[PerFileWork.PARALLELISM_PROPERTY] = threads.toString()
+            }
+        }
+        return result
+    }
+}
@@ -37,6 +37,45 @@ import org.gradle.api.Project
 public class ComparableSettings(project: Project) :
     SettingsWithActions<Comparables>(project, DEFAULT_ACTIONS) {
 
+    /**
+     * Makes the generated `compareTo()` method compare the fields of a message
+     * one by one, returning as soon as a field differs.
+     *
+     * Such a method reads the fields through direct getter calls instead of
+     * the chain of key extractors of the static `comparator` field. This allows
+     * the JIT compiler to inline the comparison of messages with many fields.
+     *
+     * The static `comparator` field is still generated.
+     */
+    public fun unrollCompareTo() {
+        replaceAction(ADD_COMPARE_TO, ADD_UNROLLED_COMPARE_TO)
+    }
+
+    /**
+     * Makes the generated `compareTo()` method delegate to the static `comparator` field.
+     *
+     * This is the default behavior.
+     */
+    public fun delegateCompareTo() {
+        replaceAction(ADD_UNROLLED_COMPARE_TO, ADD_COMPARE_TO)
+    }
+
+    /**
+     * Adds the methods writing the sort key to comparable messages.
+     *
+     * The sort key is an array of bytes which orders the messages the same way
+     * as their `compareTo()` method when the arrays are compared as unsigned bytes.
+     * Storages can use the keys for sorting and indexing the messages
+     * without parsing them.
+     *
+     * All the fields referred in the `(compare_by)` option must be primitives, enums,
+     * well-known wrappers, `Timestamp`, `Duration`, or messages with the `(compare_by)`
+     * option themselves. Otherwise, the compilation fails.
+     */
+    public fun generateSortKeys() {
+        useAction(ADD_SORT_KEY)
+    }
+
     override fun toProto(): Comparables = comparables {
         actions = actions()
     }
@@ -48,12 +87,27 @@ public class ComparableSettings(project: Project) :
          */
         private const val PKG = "io.spine.tools.core.jvm.comparable.action"
 
+        /**
+         * The action adding `compareTo()` which delegates to the static `comparator` field.
+         */
+        private const val ADD_COMPARE_TO = "$PKG.AddCompareTo"
+
+        /**
+         * The action adding `compareTo()` which compares the fields one by one.
+         */
+        private const val ADD_UNROLLED_COMPARE_TO = "$PKG.AddUnrolledCompareTo"
+
+        /**
+         * The action adding the methods writing the sort key.
+         */
+        private const val ADD_SORT_KEY = "$PKG.AddSortKey"
+
         /**
          * The actions applied by default to comparable messages.
          */
         private val DEFAULT_ACTIONS = mapOf(
             "$PKG.AddComparator" to noParameter,
-            "$PKG.AddCompareTo" to noParameter,
+            ADD_COMPARE_TO to noParameter,
             "$PKG.ImplementComparable" to noParameter,
         )
     }
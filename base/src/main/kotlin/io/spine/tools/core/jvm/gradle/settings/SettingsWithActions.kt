@@ -166,6 +166,26 @@ public abstract class SettingsWithActions<S : Message>(
         useActions(classNames.toList())
     }
 
+    /**
+     * Replaces the action with the given [className] by the [replacement] action
+     * which takes no parameters.
+     *
+     * Does nothing if the action with the given [className] is not used.
+     *
+     * @param className The binary name of the action class to replace.
+     * @param replacement The binary name of the action class to use instead.
+     */
+    protected fun replaceAction(className: BinaryClassName, replacement: BinaryClassName) {
+        val current: ActionMap = actions.get()
+        if (!current.containsKey(className)) {
+            return
+        }
+        val replaced = current.entries.associate { (name, parameter) ->
+            if (name == className) replacement to noParameter else name to parameter
+        }
+        actions.set(replaced)
+    }
+
     /**
      * Obtains currently assigned codegen actions.
      */
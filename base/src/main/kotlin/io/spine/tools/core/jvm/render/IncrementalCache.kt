@@ -0,0 +1,261 @@
+/*
+ * Copyright 2026, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.tools.core.jvm.render
+
+import io.spine.tools.core.jvm.VersionHolder
+import java.nio.file.Path
+import java.security.MessageDigest
+import kotlin.io.path.createDirectories
+import kotlin.io.path.deleteIfExists
+import kotlin.io.path.exists
+import kotlin.io.path.isDirectory
+import kotlin.io.path.isRegularFile
+import kotlin.io.path.listDirectoryEntries
+import kotlin.io.path.name
+import kotlin.io.path.readBytes
+import kotlin.io.path.readLines
+import kotlin.io.path.readText
+import kotlin.io.path.writeLines
+import kotlin.io.path.writeText
+
+/**
+ * Persists the Java code produced by the CoreJvm renderers for each proto file
+ * between the runs of the Spine Compiler.
+ *
+ * For each proto file, the manifest of the cache keeps the key of the rendering input
+ * and the hashes of the Java files rendered for the proto file. The code of the files
+ * is stored by its hash. When a proto file comes with the same key again, the stored
+ * files are restored instead of being rendered.
+ *
+ * The key is calculated by [IncrementalRendering] from the proto file, the message types
+ * it depends on, and the code `protoc` generated for it. So, an edit of a proto file
+ * changes the keys of the proto file and of those depending on its types, leaving
+ * the keys of other files intact.
+ *
+ * The manifest also holds the hash of the settings of the Compiler plugins and the version
+ * of the CoreJvm Compiler. If any of them changes, the manifest is discarded and
+ * all the files are rendered again.
+ *
+ * When [saved][save], the cache drops the entries of the proto files which are
+ * no longer compiled and deletes the stored code not referenced by the remaining entries.
+ */
+public class IncrementalCache private constructor(
+    private val dir: Path,
+    private val settingsHash: String
+) {
+
+    private val manifestFile = dir.resolve(MANIFEST_FILE)
+    private val blobsDir = dir.resolve(BLOBS_DIR)
+
+    private val entries: MutableMap<String, Entry> = loadEntries()
+
+    /**
+     * The number of proto files the output of which was taken from the cache
+     * since the cache was loaded.
+     */
+    public var hits: Int = 0
+        private set
+
+    /**
+     * The number of proto files the output of which had to be rendered
+     * since the cache was loaded.
+     */
+    public var misses: Int = 0
+        private set
+
+    /**
+     * Obtains the Java files previously rendered for the proto file with the given path.
+     *
+     * @param protoFile The path of the proto file.
+     * @param key The key of the current rendering input of the proto file.
+     * @return the code of the rendered files by their relative paths, or `null` if
+     *   the proto file has to be rendered.
+     */
+    internal fun lookup(protoFile: String, key: String): Map<String, String>? {
+        val entry = entries[protoFile]
+        if (entry == null || entry.key != key) {
+            misses++
+            return null
+        }
+        val blobs = entry.outputs.mapValues { blobsDir.resolve(it.value) }
+        if (blobs.values.any { !it.exists() }) {
+            misses++
+            return null
+        }
+        hits++
+        return blobs.mapValues { it.value.readText() }
+    }
+
+    /**
+     * Records the Java files rendered for the proto file with the given path.
+     *
+     * @param protoFile The path of the proto file.
+     * @param key The key of the rendering input of the proto file.
+     * @param outputs The code of the rendered files by their relative paths.
+     */
+    internal fun record(protoFile: String, key: String, outputs: Map<String, String>) {
+        blobsDir.createDirectories()
+        val hashes = outputs.mapValues { (_, code) ->
+            val hash = hash(code.toByteArray())
+            val blob = blobsDir.resolve(hash)
+            if (!blob.exists()) {
+                blob.writeText(code)
+            }
+            hash
+        }
+        entries[protoFile] = Entry(key, hashes.toSortedMap())
+    }
+
+    /**
+     * Writes the manifest to the disk.
+     *
+     * @param protoFiles The paths of the proto files compiled in the current run.
+     *   The entries of other proto files are removed together with the code
+     *   which is referenced only by them.
+     */
+    internal fun save(protoFiles: Set<String>) {
+        entries.keys.retainAll(protoFiles)
+        dir.createDirectories()
+        val lines = listOf(header()) + entries.toSortedMap().map { (protoFile, entry) ->
+            val outputs = entry.outputs.flatMap { listOf(it.key, it.value) }
+            (listOf(protoFile, entry.key) + outputs).joinToString(SEPARATOR)
+        }
+        manifestFile.writeLines(lines)
+        collectGarbage()
+    }
+
+    /**
+     * Deletes the stored code not referenced by the entries of the manifest.
+     */
+    private fun collectGarbage() {
+        if (!blobsDir.isDirectory()) {
+            return
+        }
+        val referenced = entries.values.flatMapTo(mutableSetOf()) { it.outputs.values }
+        blobsDir.listDirectoryEntries()
+            .filter { it.name !in referenced }
+            .forEach { it.deleteIfExists() }
+    }
+
+    private fun header(): String =
+        listOf(FORMAT, VersionHolder.version.value, settingsHash).joinToString(SEPARATOR)
+
+    private fun loadEntries(): MutableMap<String, Entry> {
+        if (!manifestFile.exists()) {
+            return mutableMapOf()
+        }
+        val lines = manifestFile.readLines()
+        if (lines.firstOrNull() != header()) {
+            return mutableMapOf()
+        }
+        return lines.drop(1)
+            .map { it.split(SEPARATOR) }
+            .filter { it.size >= 2 && it.size % 2 == 0 }
+            .associateTo(mutableMapOf()) { columns ->
+                val outputs = columns.drop(2)
+                    .chunked(2)
+                    .associate { (path, hash) -> path to hash }
+                columns[0] to Entry(columns[1], outputs)
+            }
+    }
+
+    /**
+     * The key of the rendering input of a proto file and the hashes of
+     * the Java files rendered for it.
+     */
+    private data class Entry(val key: String, val outputs: Map<String, String>)
+
+    public companion object {
+
+        /**
+         * The name of the system property with the path to the directory
+         * for storing the cache.
+         *
+         * The property is passed to the Spine Compiler process by the CoreJvm Gradle plugin
+         * when [RenderingOptions.incremental][io.spine.tools.core.jvm.gradle.RenderingOptions.incremental]
+         * is set. If the property is not set, the renderers do not use the cache.
+         */
+        public const val DIR_PROPERTY: String = "io.spine.tools.core.jvm.incremental.dir"
+
+        /**
+         * The name of the system property with the path to the directory with
+         * the settings of the Compiler plugins.
+         *
+         * The settings affect the code produced by the renderers, so the cache
+         * is discarded when they change.
+         */
+        public const val SETTINGS_PROPERTY: String = "io.spine.tools.core.jvm.incremental.settings"
+
+        private const val MANIFEST_FILE = "manifest.tsv"
+        private const val BLOBS_DIR = "blobs"
+        private const val FORMAT = "v2"
+        private const val SEPARATOR = "\t"
+
+        /**
+         * Loads the cache if the incremental rendering is turned on by
+         * the [DIR_PROPERTY] system property.
+         *
+         * @return the cache, or `null` if the incremental rendering is off.
+         */
+        @JvmStatic
+        public fun load(): IncrementalCache? {
+            val root = System.getProperty(DIR_PROPERTY) ?: return null
+            val settingsDir = System.getProperty(SETTINGS_PROPERTY)
+            val settings = settingsDir?.let { settingsOf(Path.of(it)) } ?: ByteArray(0)
+            return load(Path.of(root), settings)
+        }
+
+        /**
+         * Loads the cache stored under the [root] directory.
+         *
+         * @param root The directory of the cache.
+         * @param settings The settings affecting the code produced by the renderers.
+         */
+        @JvmStatic
+        public fun load(root: Path, settings: ByteArray): IncrementalCache =
+            IncrementalCache(root, hash(settings))
+
+        /**
+         * Reads the names and the content of the files in the given settings directory.
+         */
+        private fun settingsOf(dir: Path): ByteArray {
+            if (!dir.isDirectory()) {
+                return ByteArray(0)
+            }
+            return dir.listDirectoryEntries()
+                .filter { it.isRegularFile() }
+                .sortedBy { it.name }
+                .flatMap { it.name.toByteArray().asList() + it.readBytes().asList() }
+                .toByteArray()
+        }
+
+        internal fun hash(bytes: ByteArray): String {
+            val digest = MessageDigest.getInstance("SHA-256").digest(bytes)
+            return digest.joinToString(separator = "") { "%02x".format(it) }
+        }
+    }
+}
@@ -0,0 +1,89 @@
+/*
+ * Copyright 2026, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+
+package io.spine.tools.core.jvm.render
+
+import io.spine.logging.WithLogging
+import io.spine.tools.compiler.ast.ProtobufSourceFile
+import io.spine.tools.compiler.jvm.file.hasJavaRoot
+import io.spine.tools.compiler.jvm.render.JavaRenderer
+import io.spine.tools.compiler.plugin.Plugin
+import io.spine.tools.compiler.render.SourceFileSet
+
+/**
+ * Restores the Java code rendered for the unchanged proto files from [IncrementalCache].
+ *
+ * The plugin must go before the CoreJvm plugins in the pipeline. The plugins between
+ * this one and [IncrementalRecordPlugin] must skip the [restored][IncrementalRendering.isRestored]
+ * files. The CoreJvm Gradle plugin does not pass [IncrementalCache] to the Compiler
+ * if any other plugin goes between the two, which makes both plugins do nothing.
+ *
+ * @see IncrementalRendering
+ */
+public class IncrementalRestorePlugin : Plugin(renderers = listOf(RestoreRenderedCode()))
+
+/**
+ * Records the Java code rendered for the proto files in [IncrementalCache].
+ *
+ * The plugin must follow the CoreJvm plugins in the pipeline.
+ *
+ * @see IncrementalRendering
+ */
+public class IncrementalRecordPlugin : Plugin(renderers = listOf(RecordRenderedCode()))
+
+private class RestoreRenderedCode : JavaRenderer() {
+
+    override fun render(sources: SourceFileSet) {
+        if (!sources.hasJavaRoot) {
+            return
+        }
+        val cache = IncrementalCache.load() ?: return
+        PipelineMetrics.measure(this) {
+            val protoFiles = select(ProtobufSourceFile::class.java).all()
+            val run = IncrementalRun(cache, sources, protoFiles, typeSystem)
+            run.restore(sources)
+            IncrementalRendering.start(run)
+        }
+    }
+}
+
+private class RecordRenderedCode : JavaRenderer(), WithLogging {
+
+    override fun render(sources: SourceFileSet) {
+        if (!sources.hasJavaRoot) {
+            return
+        }
+        val run = IncrementalRendering.finish() ?: return
+        PipelineMetrics.measure(this) {
+            run.record(sources)
+        }
+        logger.atDebug().log {
+            "Incremental rendering restored the output of ${run.restored} proto file(s)" +
+                    " and rendered ${run.rendered} proto file(s)."
+        }
+    }
+}
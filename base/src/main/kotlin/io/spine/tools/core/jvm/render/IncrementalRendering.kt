@@ -0,0 +1,289 @@
+/*
+ * Copyright 2026, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+
+package io.spine.tools.core.jvm.render
+
+import com.google.protobuf.CodedOutputStream
+import com.google.protobuf.Message
+import io.spine.tools.code.Java
+import io.spine.tools.compiler.ast.File
+import io.spine.tools.compiler.ast.MessageType
+import io.spine.tools.compiler.ast.ProtobufSourceFile
+import io.spine.tools.compiler.ast.isTopLevel
+import io.spine.tools.compiler.ast.qualifiedName
+import io.spine.tools.compiler.jvm.javaPackage
+import io.spine.tools.compiler.render.SourceFile
+import io.spine.tools.compiler.render.SourceFileSet
+import io.spine.tools.compiler.type.TypeSystem
+import java.io.ByteArrayOutputStream
+
+/**
+ * Restores the Java code rendered for the proto files which did not change since
+ * the previous run of the Spine Compiler, and tells the renderers to skip this code.
+ *
+ * The output of a proto file is taken from [IncrementalCache] by
+ * [IncrementalRestorePlugin] which goes before the CoreJvm plugins in the pipeline.
+ * The CoreJvm renderers check [isRestored] for the files and proto files they
+ * are about to modify, and skip the restored ones. [IncrementalRecordPlugin], which
+ * follows the CoreJvm plugins, records the output of the rendered proto files.
+ *
+ * The output of a proto file consists of the Java files which `protoc` generated for it,
+ * as told by the `// source:` comment in their header, and the Java files named after
+ * its top-level message types in the directory of its Java package. The latter covers
+ * the rejection throwables which the CoreJvm renderers create.
+ * A proto file which shares such a file with another proto file is always rendered.
+ */
+public object IncrementalRendering {
+
+    @Volatile
+    private var run: IncrementalRun? = null
+
+    /**
+     * Tells if the given Java file was restored from the cache and must not be rendered.
+     */
+    @JvmStatic
+    public fun isRestored(file: SourceFile<*>): Boolean =
+        run?.isRestored(file.key) ?: false
+
+    /**
+     * Tells if the output of the given proto file was restored from the cache
+     * and must not be rendered.
+     */
+    @JvmStatic
+    public fun isRestored(protoFile: File): Boolean =
+        run?.isRestored(protoFile) ?: false
+
+    internal fun start(run: IncrementalRun) {
+        this.run = run
+    }
+
+    internal fun finish(): IncrementalRun? {
+        val result = run
+        run = null
+        return result
+    }
+}
+
+/**
+ * The incremental rendering of the Java source files of one run of the Spine Compiler.
+ *
+ * @param cache The cache of the previous runs.
+ * @param sources The Java source files generated by `protoc`.
+ * @param protoFiles The proto files compiled in this run.
+ * @param typeSystem The type system for resolving the message types the proto files depend on.
+ */
+internal class IncrementalRun(
+    private val cache: IncrementalCache,
+    sources: SourceFileSet,
+    protoFiles: Collection<ProtobufSourceFile>,
+    private val typeSystem: TypeSystem
+) {
+
+    /**
+     * The relative paths of the Java files rendered for a proto file, by its path.
+     */
+    private val outputs: Map<String, List<String>>
+
+    /**
+     * The keys of the rendering input of the proto files which can be taken from the cache.
+     */
+    private val keys: Map<String, String>
+
+    private val restoredProtoFiles = mutableSetOf<String>()
+    private val restoredFiles = mutableSetOf<String>()
+
+    init {
+        val files = sources.javaFilesInOrder().associateBy { it.key }
+        val generated = files.values
+            .mapNotNull { file -> file.protocSource()?.let { it to file.key } }
+            .groupBy({ it.first }, { it.second })
+        outputs = protoFiles.associate { protoFile ->
+            val path = protoFile.file.path
+            val javaFiles = generated[path].orEmpty() + protoFile.createdJavaFiles()
+            path to javaFiles.distinct().sorted()
+        }
+        val shared = outputs.values.flatten()
+            .groupingBy { it }
+            .eachCount()
+            .filterValues { it > 1 }
+            .keys
+        keys = protoFiles
+            .filter { protoFile -> outputs[protoFile.file.path]!!.none { it in shared } }
+            .mapNotNull { protoFile ->
+                key(protoFile, files)?.let { protoFile.file.path to it }
+            }
+            .toMap()
+    }
+
+    /**
+     * The number of proto files the output of which was restored.
+     */
+    val restored: Int
+        get() = restoredProtoFiles.size
+
+    /**
+     * The number of proto files the output of which was rendered.
+     */
+    val rendered: Int
+        get() = outputs.size - restoredProtoFiles.size
+
+    fun isRestored(file: String): Boolean = file in restoredFiles
+
+    fun isRestored(protoFile: File): Boolean = protoFile.path in restoredProtoFiles
+
+    /**
+     * Writes the output of the proto files found in the cache to the given [sources].
+     */
+    fun restore(sources: SourceFileSet) {
+        val files = sources.javaFilesInOrder().associateBy { it.key }
+        keys.forEach { (protoFile, key) ->
+            val cached = cache.lookup(protoFile, key) ?: return@forEach
+            cached.forEach { (path, code) ->
+                val file = files[path]
+                when {
+                    file == null -> sources.createFile(sources.outputRoot.resolve(path), code)
+                    file.code() != code -> {
+                        file.overwrite(code)
+                        PipelineMetrics.overwritten(code)
+                    }
+                }
+            }
+            restoredProtoFiles += protoFile
+            restoredFiles += outputs[protoFile]!!
+        }
+    }
+
+    /**
+     * Stores the output of the rendered proto files found in the given [sources]
+     * and saves the cache.
+     */
+    fun record(sources: SourceFileSet) {
+        val files = sources.javaFilesInOrder().associateBy { it.key }
+        keys.filterKeys { it !in restoredProtoFiles }.forEach { (protoFile, key) ->
+            val rendered = outputs[protoFile]!!
+                .mapNotNull { path -> files[path]?.let { path to it.code() } }
+                .toMap()
+            cache.record(protoFile, key, rendered)
+        }
+        cache.save(outputs.keys)
+    }
+
+    /**
+     * Calculates the key of the rendering input of the given proto file.
+     *
+     * The key covers the definitions of the proto file, the definitions of the message
+     * types its messages refer to, directly or transitively, and the Java files
+     * generated for the proto file before the CoreJvm renderers.
+     *
+     * @return the key, or `null` if some of the referred types are not known.
+     */
+    private fun key(
+        protoFile: ProtobufSourceFile,
+        files: Map<String, SourceFile<Java>>
+    ): String? {
+        val dependencies = dependencies(protoFile) ?: return null
+        val input = ByteArrayOutputStream()
+        protoFile.writeDeterministically(input)
+        dependencies.forEach {
+            it.writeDeterministically(input)
+        }
+        outputs[protoFile.file.path]!!.forEach { path ->
+            files[path]?.let {
+                input.write(path.toByteArray())
+                input.write(it.code().toByteArray())
+            }
+        }
+        return IncrementalCache.hash(input.toByteArray())
+    }
+
+    /**
+     * Finds the message types declared in other proto files which are referred
+     * by the messages of the given proto file, ordered by their names.
+     *
+     * @return the types, or `null` if some of them are not known to the type system.
+     */
+    private fun dependencies(protoFile: ProtobufSourceFile): Collection<MessageType>? {
+        val own = protoFile.typeMap.values
+        val visited = own.mapTo(mutableSetOf()) { it.name.qualifiedName }
+        val found = sortedMapOf<String, MessageType>()
+        val queue = ArrayDeque(own)
+        while (queue.isNotEmpty()) {
+            val type = queue.removeFirst()
+            type.fieldList
+                .filter { it.type.isMessage }
+                .map { it.type.message }
+                .filter { visited.add(it.qualifiedName) }
+                .forEach {
+                    val (dependency, _) = typeSystem.findMessage(it) ?: return null
+                    found[it.qualifiedName] = dependency
+                    queue += dependency
+                }
+        }
+        return found.values
+    }
+}
+
+internal val SourceFile<*>.key: String
+    get() = relativePath.toString().replace('\\', '/')
+
+/**
+ * The comment by which `protoc` tells the proto file a Java file is generated for.
+ */
+private val protocSourceComment = Regex("""^// source: (.+)$""")
+
+/**
+ * The number of the header lines of a Java file searched for [protocSourceComment].
+ */
+private const val PROTOC_HEADER_LINES = 10
+
+/**
+ * Obtains the path of the proto file for which `protoc` generated this Java file,
+ * or `null` if this file was not generated by `protoc`.
+ */
+private fun SourceFile<Java>.protocSource(): String? =
+    code().lineSequence()
+        .take(PROTOC_HEADER_LINES)
+        .firstNotNullOfOrNull { protocSourceComment.find(it.trim())?.groupValues?.get(1) }
+
+/**
+ * Obtains the relative paths of the Java files which the CoreJvm renderers may
+ * create for this proto file.
+ */
+private fun ProtobufSourceFile.createdJavaFiles(): List<String> {
+    val packageDir = header.javaPackage().replace('.', '/')
+    return typeMap.values
+        .filter { it.isTopLevel }
+        .map { it.name.simpleName }
+        .map { if (packageDir.isEmpty()) "$it.java" else "$packageDir/$it.java" }
+}
+
+private fun Message.writeDeterministically(output: ByteArrayOutputStream) {
+    val coded = CodedOutputStream.newInstance(output)
+    coded.useDeterministicSerialization()
+    writeTo(coded)
+    coded.flush()
+}
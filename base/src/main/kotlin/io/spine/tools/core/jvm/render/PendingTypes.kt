@@ -0,0 +1,76 @@
+/*
+ * Copyright 2026, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+
+package io.spine.tools.core.jvm.render
+
+import io.spine.tools.code.Java
+import io.spine.tools.compiler.ast.MessageType
+import io.spine.tools.compiler.ast.qualifiedName
+import io.spine.tools.compiler.render.SourceFile
+
+/**
+ * Collects the message types passed to a renderer one by one, and then renders
+ * them grouped by their files.
+ *
+ * Renderers extending [TypeListRenderer][io.spine.tools.compiler.jvm.render.TypeListRenderer]
+ * receive the types via `doRender(type, file)`. Such a renderer [adds][add] the types
+ * and [renders][render] them after all the types are received.
+ *
+ * The files are processed in the order of their paths, and the types of a file
+ * in the order of their names.
+ *
+ * The types are rendered in the calling thread rather than as [PerFileWork],
+ * because the renderers apply code generation actions which parse the files
+ * themselves. So, there is no work to be prepared for a file in parallel.
+ */
+public class PendingTypes {
+
+    private val types = mutableMapOf<SourceFile<Java>, MutableList<MessageType>>()
+
+    /**
+     * Adds the type to be rendered in the given file.
+     */
+    public fun add(type: MessageType, file: SourceFile<Java>) {
+        types.getOrPut(file) { mutableListOf() }.add(type)
+    }
+
+    /**
+     * Renders the added types and forgets them.
+     *
+     * @param renderType The function rendering a type in its file.
+     */
+    public fun render(renderType: (MessageType, SourceFile<Java>) -> Unit) {
+        val pending = types.toMap()
+        types.clear()
+        val files = pending.keys.sortedBy { it.relativePath.toString() }
+        files.forEach { file ->
+            pending[file]!!
+                .sortedBy { it.qualifiedName }
+                .forEach { renderType(it, file) }
+        }
+    }
+}
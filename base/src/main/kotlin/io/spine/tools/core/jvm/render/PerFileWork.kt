@@ -0,0 +1,219 @@
+/*
+ * Copyright 2026, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.tools.core.jvm.render
+
+import io.spine.tools.code.Java
+import io.spine.tools.compiler.render.SourceFile
+import io.spine.tools.compiler.render.SourceFileSet
+import io.spine.tools.compiler.render.forEachOfLanguage
+import java.util.concurrent.Callable
+import java.util.concurrent.ConcurrentHashMap
+import java.util.concurrent.ExecutionException
+import java.util.concurrent.ForkJoinPool
+import java.util.stream.Collectors.toList
+
+/**
+ * Runs the rendering work for a list of source files split into per-file work units.
+ *
+ * Each unit consists of two phases:
+ *
+ *  1. The `prepare` phase which reads the file, e.g., by parsing it and looking up
+ *     the elements to change. The phase must not modify anything outside the file
+ *     it is given, so that units can run concurrently.
+ *  2. The `commit` phase which applies the prepared changes to the file.
+ *
+ * When the work is [parallel][isParallel], the `prepare` phases run on a fork-join
+ * pool limited to [parallelism] threads. The pool is created once for each value of
+ * the parallelism and is shared by all the runs. The `commit` phases always run in
+ * the calling thread in the order of the files passed to [run]. So, the resulting
+ * source file set does not depend on the scheduling of the threads, and PSI write
+ * commands are never executed concurrently.
+ *
+ * The `prepare` phases may obtain the trees of the files via [PsiSession], which
+ * parses one file at a time. The trees are then read concurrently, each by the thread
+ * preparing its file. Such reads must be made under the [read action][PsiSession.read].
+ *
+ * Running the `prepare` phases in parallel pays off only if they do substantial work,
+ * such as parsing a file and looking up its elements. Work which only collects
+ * the data for the `commit` phases should not use this class.
+ *
+ * The phases of each unit are recorded by [PipelineTrace] as events
+ * named after the processed file. The PSI parses made by the `prepare` phases are
+ * counted by [PipelineMetrics] for the component which runs the work.
+ *
+ * With [parallelism] of `1` both phases of a unit run one after another in
+ * the calling thread, which is how the renderers work by default.
+ *
+ * @property parallelism The maximum number of threads running the `prepare` phases.
+ */
+public class PerFileWork(public val parallelism: Int) {
+
+    init {
+        require(parallelism > 0) {
+            "The parallelism must be positive. Encountered: $parallelism."
+        }
+    }
+
+    /**
+     * Tells if the `prepare` phases of the units may run concurrently.
+     */
+    public val isParallel: Boolean
+        get() = parallelism > 1
+
+    /**
+     * Runs the work units for the given [files].
+     *
+     * @param files The files to process, in the order of commits.
+     * @param prepare The function preparing the changes for a file.
+     *   Returns `null` if the file does not need to be changed.
+     * @param commit The function applying the prepared changes to the file.
+     */
+    public fun <F, R : Any> run(
+        files: List<F>,
+        prepare: (F) -> R?,
+        commit: (F, R) -> Unit
+    ) {
+        if (!isParallel || files.size < 2) {
+            files.forEach { file ->
+                prepareTraced(file, prepare)?.let { commitTraced(file, it, commit) }
+            }
+            return
+        }
+        val prepared = prepareInParallel(files, prepare)
+        files.forEachIndexed { index, file ->
+            prepared[index]?.let { commitTraced(file, it, commit) }
+        }
+    }
+
+    private fun <F, R : Any> prepareInParallel(files: List<F>, prepare: (F) -> R?): List<R?> {
+        val component = PipelineMetrics.currentComponent()
+        val task = Callable {
+            files.parallelStream()
+                .map { file ->
+                    PipelineMetrics.attributedTo(component) {
+                        Prepared(prepareTraced(file, prepare))
+                    }
+                }
+                .collect(toList())
+        }
+        val pool = pools.computeIfAbsent(parallelism, ::ForkJoinPool)
+        val result = try {
+            pool.submit(task).get()
+        } catch (e: ExecutionException) {
+            throw e.cause ?: e
+        }
+        return result.map { it.value }
+    }
+
+    private fun <F, R : Any> prepareTraced(file: F, prepare: (F) -> R?): R? {
+        if (!PipelineTrace.isEnabled) {
+            return prepare(file)
+        }
+        return PipelineTrace.span(traceName(file), PREPARE_CATEGORY) {
+            prepare(file)
+        }
+    }
+
+    private fun <F, R : Any> commitTraced(file: F, prepared: R, commit: (F, R) -> Unit) {
+        if (!PipelineTrace.isEnabled) {
+            commit(file, prepared)
+            return
+        }
+        PipelineTrace.span(traceName(file), COMMIT_CATEGORY) {
+            commit(file, prepared)
+        }
+    }
+
+    private fun traceName(file: Any?): String =
+        (file as? SourceFile<*>)?.relativePath?.toString() ?: file.toString()
+
+    /**
+     * Wraps a nullable result, which cannot be passed through a stream directly.
+     */
+    private class Prepared<R : Any>(val value: R?)
+
+    public companion object {
+
+        /**
+         * The name of the system property which turns on the parallel rendering.
+         *
+         * The property is passed to the Spine Compiler process by the CoreJvm Gradle plugin
+         * when [RenderingOptions.parallel][io.spine.tools.core.jvm.gradle.RenderingOptions.parallel]
+         * is set.
+         */
+        public const val PARALLEL_PROPERTY: String = "io.spine.tools.core.jvm.render.parallel"
+
+        /**
+         * The name of the system property with the maximum number of threads
+         * used by the parallel rendering.
+         *
+         * If the property is not set, the number of available processors is used.
+         */
+        public const val PARALLELISM_PROPERTY: String =
+            "io.spine.tools.core.jvm.render.parallelism"
+
+        /**
+         * The pools running the `prepare` phases by their parallelism.
+         *
+         * The threads of the pools are daemon ones, so the pools do not need to be
+         * shut down.
+         */
+        private val pools = ConcurrentHashMap<Int, ForkJoinPool>()
+
+        private const val PREPARE_CATEGORY = "prepare"
+        private const val COMMIT_CATEGORY = "commit"
+
+        /**
+         * Creates the instance configured by the [PARALLEL_PROPERTY] and
+         * [PARALLELISM_PROPERTY] system properties.
+         */
+        @JvmStatic
+        public fun fromSystemProperties(): PerFileWork {
+            val parallel = System.getProperty(PARALLEL_PROPERTY).toBoolean()
+            if (!parallel) {
+                return PerFileWork(1)
+            }
+            val parallelism = System.getProperty(PARALLELISM_PROPERTY)?.toIntOrNull()
+                ?.takeIf { it > 0 }
+                ?: Runtime.getRuntime().availableProcessors()
+            return PerFileWork(parallelism)
+        }
+    }
+}
+
+/**
+ * Obtains Java files of this source file set ordered by their relative paths.
+ *
+ * The order does not depend on the order in which the files were added to the set,
+ * making it suitable for committing the results of [PerFileWork].
+ */
+public fun SourceFileSet.javaFilesInOrder(): List<SourceFile<Java>> {
+    val javaFiles = buildList {
+        forEachOfLanguage<Java> { add(it) }
+    }
+    return javaFiles.sortedBy { it.relativePath.toString() }
+}
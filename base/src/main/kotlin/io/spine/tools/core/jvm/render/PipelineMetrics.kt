@@ -0,0 +1,388 @@
+/*
+ * Copyright 2026, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.tools.core.jvm.render
+
+import com.google.common.base.Utf8
+import java.lang.management.ManagementFactory
+import java.lang.management.MemoryType.HEAP
+import java.nio.file.Path
+import java.util.concurrent.ConcurrentHashMap
+import java.util.concurrent.atomic.AtomicLong
+import kotlin.io.path.createDirectories
+import kotlin.io.path.writeText
+import com.sun.management.OperatingSystemMXBean as SunOperatingSystemMXBean
+import com.sun.management.ThreadMXBean as SunThreadMXBean
+
+/**
+ * Collects the measures of the CoreJvm Compiler components running in
+ * the Spine Compiler process.
+ *
+ * A component is a renderer or a reaction. The components are measured by the base classes
+ * shared by the CoreJvm renderers and reactions, e.g., `ProtoAnnotator`, `SignalRenderer`,
+ * or [RequiredIdReaction][io.spine.tools.core.jvm.field.RequiredIdReaction].
+ * For each component, the following measures are collected:
+ *
+ *  1. Wall time, CPU time, and the number of bytes allocated by the [measured][measure]
+ *     invocations of the component. CPU time and allocations are taken for the calling
+ *     thread only. So, the work done on the pool of the [parallel rendering][PerFileWork]
+ *     is reflected only in the wall time.
+ *  2. The number of [reactions][reacted] which emitted an event and the number of
+ *     those which returned `NoReaction`.
+ *  3. The number of PSI parses made via [PsiSession] and the number of file
+ *     overwrites with their sizes, attributed to the component being measured by
+ *     the current thread. [PerFileWork] attributes the parses made by the threads
+ *     preparing the files to the component which runs the work.
+ *
+ * The components are grouped into plugins by their package, which corresponds to
+ * a CoreJvm Compiler plugin, e.g., `io.spine.tools.core.jvm.signal`.
+ * Measures of nested invocations are included into the measures of both components.
+ * The code generation actions are not measured individually. For them, the report gives
+ * the number of [applications][applied] by the renderers.
+ *
+ * The timeline of the measured invocations is recorded by [PipelineTrace].
+ *
+ * The measures are collected only if the [REPORT_PROPERTY] system property is set.
+ * Otherwise, the components do not pay for the measuring, except for the timestamps
+ * taken when [PipelineTrace] is enabled.
+ *
+ * If the [REPORT_PROPERTY] system property is set, the measures are written as JSON
+ * to the file specified by the property by [PipelineReportPlugin], which
+ * concludes the pipeline. Components which are not a part of this repository,
+ * such as the Validation plugin, are not measured, but their time is reflected in
+ * the total time of the process given in the report along with the peak heap usage.
+ */
+public object PipelineMetrics {
+
+    /**
+     * The name of the system property with the path to the file
+     * for the report of the measures.
+     *
+     * The property is passed to the Spine Compiler process by the CoreJvm Gradle plugin
+     * when [RenderingOptions.metrics][io.spine.tools.core.jvm.gradle.RenderingOptions.metrics]
+     * is set. The file is declared as an output of the task launching the Compiler.
+     */
+    public const val REPORT_PROPERTY: String = "io.spine.tools.core.jvm.report.file"
+
+    /**
+     * Tells if the measures are collected.
+     */
+    @Volatile
+    public var isEnabled: Boolean = System.getProperty(REPORT_PROPERTY) != null
+        internal set
+
+    private val components = ConcurrentHashMap<String, Measures>()
+    private val actions = ConcurrentHashMap<String, Measures>()
+
+    private val threads = ManagementFactory.getThreadMXBean()
+
+    /**
+     * The measures of the component being executed by the current thread.
+     */
+    private val current = ThreadLocal<Measures?>()
+
+    /**
+     * Runs the given [block] measuring it as an invocation of the given [component].
+     *
+     * @param detail Optional information about the invocation, e.g., the path of
+     *   the processed file, shown with the invocation in [PipelineTrace].
+     */
+    public inline fun <T> measure(component: Any, detail: String? = null, block: () -> T): T {
+        if (!isEnabled && !PipelineTrace.isEnabled) {
+            return block()
+        }
+        val invocation = start(component, detail)
+        try {
+            return block()
+        } finally {
+            finish(invocation)
+        }
+    }
+
+    /**
+     * Counts the applications of code generation actions of the given classes
+     * by [RenderActions][io.spine.tools.compiler.jvm.render.RenderActions].
+     */
+    @JvmStatic
+    public fun applied(actionClasses: Iterable<String>) {
+        if (!isEnabled) {
+            return
+        }
+        actionClasses.forEach {
+            actions.computeIfAbsent(it, ::Measures).applications.incrementAndGet()
+        }
+    }
+
+    /**
+     * Counts a reaction of the given [component] to an event.
+     *
+     * @param matched `true` if the reaction emitted an event,
+     *   `false` if it returned `NoReaction`.
+     */
+    @JvmStatic
+    public fun reacted(component: Any, matched: Boolean) {
+        if (!isEnabled) {
+            return
+        }
+        val measures = components.of(component)
+        if (matched) {
+            measures.matched.incrementAndGet()
+        } else {
+            measures.skipped.incrementAndGet()
+        }
+    }
+
+    /**
+     * Counts a PSI parse made by the current component.
+     */
+    @JvmStatic
+    public fun parsed() {
+        current.get()?.parses?.incrementAndGet()
+    }
+
+    /**
+     * Counts an overwrite of a file with the given [code] by the current component.
+     *
+     * The size of the code is counted in UTF-8 without encoding it.
+     */
+    @JvmStatic
+    public fun overwritten(code: String) {
+        current.get()?.run {
+            overwrites.incrementAndGet()
+            overwrittenBytes.addAndGet(Utf8.encodedLength(code).toLong())
+        }
+    }
+
+    /**
+     * Obtains the report of the collected measures in JSON.
+     */
+    @JvmStatic
+    public fun toJson(): String = buildString {
+        val runtime = ManagementFactory.getRuntimeMXBean()
+        val os = ManagementFactory.getOperatingSystemMXBean() as? SunOperatingSystemMXBean
+        val psi = PsiSession.counters()
+        append("{\n")
+        append("  \"process\": {")
+        append("\"wallMillis\": ${runtime.uptime}")
+        os?.let { append(", \"cpuMillis\": ${it.processCpuTime / NANOS_IN_MILLI}") }
+        append(", \"peakHeapBytes\": ${peakHeapBytes()}")
+        append(", \"psiParsed\": ${psi.parsed}, \"psiReused\": ${psi.reused}")
+        append("},\n")
+        append("  \"plugins\": ")
+        appendPlugins()
+        append(",\n  \"actions\": ")
+        appendMeasures(actions.values, indent = "  ")
+        append("\n}\n")
+    }
+
+    /**
+     * Clears the collected measures.
+     */
+    @JvmStatic
+    public fun reset() {
+        components.clear()
+        actions.clear()
+    }
+
+    /**
+     * Writes the report to the file specified by the [REPORT_PROPERTY] system property.
+     *
+     * Does nothing if the property is not set.
+     */
+    internal fun writeReport() {
+        val file = System.getProperty(REPORT_PROPERTY)?.let { Path.of(it) } ?: return
+        file.parent?.createDirectories()
+        file.writeText(toJson())
+    }
+
+    /**
+     * Obtains the measures of the component being executed by the current thread.
+     */
+    internal fun currentComponent(): Measures? = current.get()
+
+    /**
+     * Runs the given [block] attributing the parses and overwrites made by
+     * the current thread to the given [component].
+     *
+     * Used for the work which a component passes to other threads.
+     */
+    internal fun <T> attributedTo(component: Measures?, block: () -> T): T {
+        val previous = current.get()
+        current.set(component)
+        try {
+            return block()
+        } finally {
+            current.set(previous)
+        }
+    }
+
+    /**
+     * Starts measuring an invocation of the given component.
+     *
+     * If only [PipelineTrace] is enabled, takes just the start time of the invocation.
+     */
+    @PublishedApi
+    internal fun start(component: Any, detail: String?): Invocation {
+        if (!isEnabled) {
+            return Invocation(
+                name = component.javaClass.name,
+                measures = null,
+                detail,
+                previous = null,
+                wallStart = System.nanoTime(),
+                cpuStart = 0L,
+                allocatedStart = 0L
+            )
+        }
+        val measures = components.of(component)
+        val invocation = Invocation(
+            measures.name,
+            measures,
+            detail,
+            previous = current.get(),
+            wallStart = System.nanoTime(),
+            cpuStart = threads.currentThreadCpuTime,
+            allocatedStart = threadAllocatedBytes()
+        )
+        current.set(measures)
+        return invocation
+    }
+
+    /**
+     * Completes measuring the given invocation.
+     */
+    @PublishedApi
+    internal fun finish(invocation: Invocation) {
+        invocation.measures?.run {
+            val wall = System.nanoTime() - invocation.wallStart
+            val cpu = threads.currentThreadCpuTime - invocation.cpuStart
+            val allocated = threadAllocatedBytes() - invocation.allocatedStart
+            invocations.incrementAndGet()
+            wallNanos.addAndGet(wall)
+            cpuNanos.addAndGet(cpu)
+            allocatedBytes.addAndGet(allocated)
+            current.set(invocation.previous)
+        }
+        val name = invocation.name
+        PipelineTrace.record(
+            name = name.substringAfterLast('.'),
+            category = name.substringBeforeLast('.'),
+            detail = invocation.detail,
+            start = invocation.wallStart
+        )
+    }
+
+    /**
+     * Obtains the sum of the peak usages of the heap memory pools.
+     *
+     * The pools reach their peaks at different moments. So, the value is the upper bound
+     * of the heap used by the process, which is stable enough to compare the runs
+     * processing proto schemas of different sizes.
+     */
+    private fun peakHeapBytes(): Long =
+        ManagementFactory.getMemoryPoolMXBeans()
+            .filter { it.type == HEAP }
+            .sumOf { it.peakUsage?.used ?: 0L }
+
+    private fun threadAllocatedBytes(): Long =
+        (threads as? SunThreadMXBean)?.currentThreadAllocatedBytes ?: 0L
+
+    private fun StringBuilder.appendPlugins() {
+        val plugins = components.values.groupBy { it.name.substringBeforeLast('.') }
+        append("{")
+        plugins.toSortedMap().entries.forEachIndexed { index, (plugin, measures) ->
+            if (index > 0) {
+                append(",")
+            }
+            append("\n    ${plugin.quoted()}: ")
+            appendMeasures(measures, indent = "    ")
+        }
+        append("\n  }")
+    }
+
+    private fun StringBuilder.appendMeasures(measures: Collection<Measures>, indent: String) {
+        append("[")
+        measures.sortedBy { it.name }.forEachIndexed { index, m ->
+            if (index > 0) {
+                append(",")
+            }
+            append("\n$indent  ")
+            append(m.toJson())
+        }
+        append("\n$indent]")
+    }
+
+    private fun ConcurrentHashMap<String, Measures>.of(component: Any): Measures =
+        computeIfAbsent(component.javaClass.name, ::Measures)
+
+    private const val NANOS_IN_MILLI = 1_000_000L
+
+    /**
+     * An invocation of a component being measured.
+     *
+     * The [measures] are `null` if only the [PipelineTrace] is enabled.
+     */
+    @PublishedApi
+    internal class Invocation(
+        val name: String,
+        val measures: Measures?,
+        val detail: String?,
+        val previous: Measures?,
+        val wallStart: Long,
+        val cpuStart: Long,
+        val allocatedStart: Long
+    )
+
+    /**
+     * The measures of a component.
+     */
+    internal class Measures(val name: String) {
+        val invocations = AtomicLong()
+        val applications = AtomicLong()
+        val wallNanos = AtomicLong()
+        val cpuNanos = AtomicLong()
+        val allocatedBytes = AtomicLong()
+        val matched = AtomicLong()
+        val skipped = AtomicLong()
+        val parses = AtomicLong()
+        val overwrites = AtomicLong()
+        val overwrittenBytes = AtomicLong()
+
+        fun toJson(): String = listOf(
+            "\"name\": ${name.quoted()}",
+            "\"invocations\": ${invocations.get()}",
+            "\"applications\": ${applications.get()}",
+            "\"wallMillis\": ${wallNanos.get() / NANOS_IN_MILLI}",
+            "\"cpuMillis\": ${cpuNanos.get() / NANOS_IN_MILLI}",
+            "\"allocatedBytes\": ${allocatedBytes.get()}",
+            "\"reactionsMatched\": ${matched.get()}",
+            "\"reactionsSkipped\": ${skipped.get()}",
+            "\"psiParses\": ${parses.get()}",
+            "\"overwrites\": ${overwrites.get()}",
+            "\"overwrittenBytes\": ${overwrittenBytes.get()}",
+        ).joinToString(separator = ", ", prefix = "{", postfix = "}")
+    }
+}
@@ -0,0 +1,52 @@
+/*
+ * Copyright 2026, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.tools.core.jvm.render
+
+import io.spine.tools.compiler.jvm.render.JavaRenderer
+import io.spine.tools.compiler.plugin.Plugin
+import io.spine.tools.compiler.render.SourceFileSet
+
+/**
+ * Writes the report of [PipelineMetrics] and the timeline of [PipelineTrace]
+ * at the end of the pipeline.
+ *
+ * The plugin must be the last one in the pipeline so that the reports cover
+ * all the components which run before it. Each of the reports is written only
+ * if it is turned on by its system property.
+ *
+ * The reports are written after each source file set processed by the pipeline.
+ * So, the files written last cover the whole run of the Compiler.
+ */
+public class PipelineReportPlugin : Plugin(renderers = listOf(WritePipelineReports()))
+
+private class WritePipelineReports : JavaRenderer() {
+
+    override fun render(sources: SourceFileSet) {
+        PipelineMetrics.writeReport()
+        PipelineTrace.writeTrace()
+    }
+}
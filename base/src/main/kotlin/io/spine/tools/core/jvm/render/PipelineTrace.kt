@@ -0,0 +1,213 @@
+/*
+ * Copyright 2026, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.tools.core.jvm.render
+
+import java.nio.file.Path
+import java.util.concurrent.ConcurrentHashMap
+import java.util.concurrent.ConcurrentLinkedQueue
+import kotlin.io.path.createDirectories
+import kotlin.io.path.writeText
+
+/**
+ * Records the timeline of the CoreJvm components running in the Spine Compiler process
+ * in [Chrome Trace Event Format](https://docs.google.com/document/d/1CvAClvFfyA5R-PhYUmn5OOQtYMH4h6I0nSsKchNAySU).
+ *
+ * Each invocation [measured][PipelineMetrics.measure] by [PipelineMetrics] becomes
+ * a complete event (`"ph": "X"`) named after the component class and categorized by
+ * its package, which corresponds to a CoreJvm Compiler plugin. The prepare and commit
+ * phases of [PerFileWork] become events named after the processed files. The events carry
+ * the thread which ran them. So, a trace viewer shows which components run concurrently
+ * and which of them serialize the pipeline.
+ *
+ * The trace is recorded only if the [TRACE_PROPERTY] system property is set.
+ * The events are written to the file specified by the property by [PipelineReportPlugin],
+ * which concludes the pipeline.
+ */
+public object PipelineTrace {
+
+    /**
+     * The name of the system property with the path to the file for the trace.
+     *
+     * The property is passed to the Spine Compiler process by the CoreJvm Gradle plugin
+     * when [RenderingOptions.trace][io.spine.tools.core.jvm.gradle.RenderingOptions.trace]
+     * is set. The file is declared as an output of the task launching the Compiler.
+     */
+    public const val TRACE_PROPERTY: String = "io.spine.tools.core.jvm.trace.file"
+
+    private val events = ConcurrentLinkedQueue<Event>()
+    private val threads = ConcurrentHashMap<Long, String>()
+    private val origin = System.nanoTime()
+
+    /**
+     * Tells if the events are recorded.
+     */
+    @Volatile
+    public var isEnabled: Boolean = System.getProperty(TRACE_PROPERTY) != null
+        internal set
+
+    /**
+     * Runs the given [block] recording it as an event with the given [name] and [category].
+     *
+     * @param detail Optional information shown with the event, e.g., a file path.
+     */
+    public inline fun <T> span(
+        name: String,
+        category: String,
+        detail: String? = null,
+        block: () -> T
+    ): T {
+        if (!isEnabled) {
+            return block()
+        }
+        val start = System.nanoTime()
+        try {
+            return block()
+        } finally {
+            record(name, category, detail, start)
+        }
+    }
+
+    /**
+     * Runs the given [block] recording it as an event of the given [component].
+     *
+     * The event is named after the simple name of the class of the component and
+     * is categorized by its package, like the invocations measured by [PipelineMetrics].
+     * Used for the components which are not measured, e.g., views.
+     *
+     * @param detail Optional information shown with the event, e.g., a type name.
+     */
+    public inline fun <T> spanOf(component: Any, detail: String? = null, block: () -> T): T {
+        if (!isEnabled) {
+            return block()
+        }
+        val name = component.javaClass.name
+        return span(name.substringAfterLast('.'), name.substringBeforeLast('.'), detail, block)
+    }
+
+    /**
+     * Records the event started at the given time by the current thread and ending now.
+     *
+     * @param start The value of [System.nanoTime] at the start of the event.
+     */
+    @PublishedApi
+    internal fun record(name: String, category: String, detail: String?, start: Long) {
+        if (!isEnabled) {
+            return
+        }
+        val end = System.nanoTime()
+        val thread = Thread.currentThread()
+        @Suppress("DEPRECATION") // `threadId()` is not available in Java 17.
+        val threadId = thread.id
+        threads.putIfAbsent(threadId, thread.name)
+        events.add(Event(name, category, detail, start - origin, end - start, threadId))
+    }
+
+    /**
+     * Obtains the recorded events as a JSON object in Chrome Trace Event Format.
+     */
+    @JvmStatic
+    public fun toJson(): String = buildString {
+        append("{\"displayTimeUnit\": \"ms\", \"traceEvents\": [\n")
+        val lines = threads.map { (id, name) -> threadName(id, name) } +
+                events.sortedBy { it.start }.map { it.toJson() }
+        append(lines.joinToString(separator = ",\n"))
+        append("\n]}\n")
+    }
+
+    /**
+     * Clears the recorded events.
+     */
+    @JvmStatic
+    public fun reset() {
+        events.clear()
+        threads.clear()
+    }
+
+    /**
+     * Writes the recorded events to the file specified by the [TRACE_PROPERTY]
+     * system property.
+     *
+     * Does nothing if the property is not set.
+     */
+    internal fun writeTrace() {
+        val file = System.getProperty(TRACE_PROPERTY)?.let { Path.of(it) } ?: return
+        file.parent?.createDirectories()
+        file.writeText(toJson())
+    }
+
+    private fun threadName(id: Long, name: String): String =
+        "{\"name\": \"thread_name\", \"ph\": \"M\", \"pid\": $PID, \"tid\": $id," +
+                " \"args\": {\"name\": ${name.quoted()}}}"
+
+    /**
+     * The process ID shown in the trace.
+     *
+     * The trace has events of one process, so the actual ID does not matter.
+     */
+    private const val PID = 1
+
+    private const val NANOS_IN_MICRO = 1_000L
+
+    /**
+     * A complete event of the trace.
+     *
+     * @property start The start of the event in nanoseconds since the trace was started.
+     * @property duration The duration of the event in nanoseconds.
+     */
+    private class Event(
+        val name: String,
+        val category: String,
+        val detail: String?,
+        val start: Long,
+        val duration: Long,
+        val threadId: Long
+    ) {
+        fun toJson(): String = buildString {
+            append("{\"name\": ${name.quoted()}, \"cat\": ${category.quoted()}, \"ph\": \"X\"")
+            append(", \"ts\": ${start / NANOS_IN_MICRO}, \"dur\": ${duration / NANOS_IN_MICRO}")
+            append(", \"pid\": $PID, \"tid\": $threadId")
+            detail?.let { append(", \"args\": {\"detail\": ${it.quoted()}}") }
+            append("}")
+        }
+    }
+}
+
+/**
+ * Converts this string to a JSON string literal.
+ */
+internal fun String.quoted(): String = buildString {
+    append('"')
+    this@quoted.forEach { c ->
+        when {
+            c == '"' -> append("\\\"")
+            c == '\\' -> append("\\\\")
+            c < ' ' -> append("\\u%04x".format(c.code))
+            else -> append(c)
+        }
+    }
+    append('"')
+}
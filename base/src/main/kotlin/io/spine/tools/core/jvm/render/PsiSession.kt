@@ -0,0 +1,247 @@
+/*
+ * Copyright 2026, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.tools.core.jvm.render
+
+import com.intellij.openapi.application.ApplicationManager
+import com.intellij.openapi.util.Computable
+import com.intellij.psi.PsiJavaFile
+import io.spine.tools.code.Java
+import io.spine.tools.compiler.render.SourceFile
+import java.nio.file.Path
+import java.util.concurrent.ConcurrentHashMap
+import java.util.concurrent.atomic.AtomicLong
+
+/**
+ * Keeps live PSI trees of Java source files between the CoreJvm renderers.
+ *
+ * A renderer which modifies a file via PSI obtains the tree via [psi] and passes it
+ * back via [write]. The tree is not turned into text at this point. The next renderer
+ * working with the file via the session gets the same tree without parsing the file again.
+ * The text of each modified tree is written to its file once, when the session is
+ * [flushed][flush].
+ *
+ * The session is flushed when it is [closed][close] after the last CoreJvm renderer.
+ * Renderers which change files without the session, e.g., by running code generation
+ * actions of the Compiler which parse the files themselves, must [flush] the session
+ * before changing the files. Otherwise, the pending changes would be lost. The session
+ * detects such a loss when a file with pending changes is modified outside of it,
+ * and fails instead of dropping either of the changes.
+ *
+ * The session checks the code of the file each time the tree is requested.
+ * So, if a file is modified by a renderer which does not use the session,
+ * the file is parsed again. The check compares the code of the file with the code
+ * the tree was obtained for by reference first. The text is compared only if the file
+ * holds another string of the same length, which happens only when the file was
+ * overwritten outside the session. So, a lookup of an unchanged file does not
+ * depend on its size.
+ *
+ * The session is safe to use from several threads, given that each file is
+ * modified by one thread at a time, and the session is flushed by one thread while
+ * no other thread uses it.
+ *
+ * The parsing of files is serialized because the PSI environment of the Compiler
+ * is shared by all the files and is not guaranteed to be thread-safe. The trees
+ * obtained from the session may be looked up by several threads concurrently
+ * when the lookups are made under the read action via [read].
+ */
+public object PsiSession {
+
+    private val trees = ConcurrentHashMap<Path, Snapshot>()
+
+    /**
+     * The paths of the files the trees of which have changes not written to the files.
+     */
+    private val dirty = ConcurrentHashMap.newKeySet<Path>()
+
+    /**
+     * Serializes the parsing of files.
+     */
+    private val parseLock = Any()
+
+    private val parsed = AtomicLong()
+    private val reused = AtomicLong()
+    private val written = AtomicLong()
+
+    /**
+     * Obtains the PSI tree of the given file, parsing the file only if
+     * there is no tree which matches the current code of the file.
+     *
+     * @throws IllegalStateException if the file was modified outside the session
+     *   while its tree had changes not written to the file.
+     */
+    @JvmStatic
+    public fun psi(file: SourceFile<Java>): PsiJavaFile {
+        val path = file.relativePath
+        val code = file.code()
+        val snapshot = trees[path]
+        if (snapshot != null && snapshot.matches(file, code)) {
+            reused.incrementAndGet()
+            return snapshot.psi
+        }
+        checkNotDirty(path)
+        parsed.incrementAndGet()
+        PipelineMetrics.parsed()
+        val psi = synchronized(parseLock) {
+            file.psi() as PsiJavaFile
+        }
+        trees[path] = Snapshot(file, code, psi)
+        return psi
+    }
+
+    /**
+     * Runs the given [block] reading PSI trees under the read action of
+     * the PSI environment.
+     *
+     * The read action allows several threads to look up the trees concurrently,
+     * e.g., in the `prepare` phases of [PerFileWork]. The trees must not be modified
+     * within the [block]. If the PSI environment is not created yet, there are no trees
+     * to read, and the [block] is run as is.
+     */
+    @JvmStatic
+    public fun <T> read(block: () -> T): T {
+        val application = ApplicationManager.getApplication() ?: return block()
+        return application.runReadAction(Computable(block))
+    }
+
+    /**
+     * Remembers that the given tree of the file was modified.
+     *
+     * The code of the tree is written to the file when the session is [flushed][flush].
+     * Until then, [psi] returns the same tree for the file.
+     *
+     * @throws IllegalStateException if the file was modified outside the session
+     *   while its tree had changes not written to the file.
+     */
+    @JvmStatic
+    public fun write(file: SourceFile<Java>, psi: PsiJavaFile) {
+        val path = file.relativePath
+        val code = file.code()
+        val snapshot = trees[path]
+        if (snapshot == null || !snapshot.matches(file, code)) {
+            checkNotDirty(path)
+        }
+        trees[path] = Snapshot(file, code, psi)
+        dirty.add(path)
+    }
+
+    /**
+     * Writes the pending changes of the given file, if any.
+     */
+    @JvmStatic
+    public fun flush(file: SourceFile<Java>) {
+        val path = file.relativePath
+        if (dirty.remove(path)) {
+            writeTree(path)
+        }
+    }
+
+    /**
+     * Writes the pending changes of all the files.
+     *
+     * The files are written in the order of their paths.
+     */
+    @JvmStatic
+    public fun flush() {
+        if (dirty.isEmpty()) {
+            return
+        }
+        val paths = dirty.sortedBy { it.toString() }
+        dirty.removeAll(paths.toSet())
+        paths.forEach { writeTree(it) }
+    }
+
+    private fun writeTree(path: Path) {
+        val snapshot = checkNotNull(trees[path]) {
+            "No tree is kept for the file `$path`."
+        }
+        val file = snapshot.file
+        check(snapshot.matches(file, file.code())) {
+            lostChanges(path)
+        }
+        val code = snapshot.psi.text
+        file.overwrite(code)
+        PipelineMetrics.overwritten(code)
+        written.incrementAndGet()
+        trees[path] = Snapshot(file, file.code(), snapshot.psi)
+    }
+
+    private fun checkNotDirty(path: Path) {
+        check(path !in dirty) {
+            lostChanges(path)
+        }
+    }
+
+    private fun lostChanges(path: Path): String =
+        "The file `$path` was modified outside of `${PsiSession::class.simpleName}`" +
+                " while the session had changes not written to it." +
+                " Please flush the session before modifying the file."
+
+    /**
+     * Obtains the counters of the session.
+     */
+    @JvmStatic
+    public fun counters(): Counters =
+        Counters(parsed = parsed.get(), reused = reused.get(), written = written.get())
+
+    /**
+     * Writes the pending changes and releases the trees kept by the session.
+     *
+     * The counters are not reset, so that they accumulate over all the source file sets
+     * processed by the Compiler process.
+     */
+    @JvmStatic
+    public fun close() {
+        flush()
+        trees.clear()
+    }
+
+    /**
+     * The counters of the operations performed by [PsiSession].
+     *
+     * @property parsed The number of times a file was parsed.
+     * @property reused The number of times a kept tree was returned instead of parsing a file.
+     * @property written The number of times the code of a tree was written to a file.
+     */
+    public data class Counters(
+        val parsed: Long,
+        val reused: Long,
+        val written: Long
+    )
+
+    /**
+     * A tree obtained for the given code of the file.
+     */
+    private class Snapshot(
+        val file: SourceFile<Java>,
+        private val code: String,
+        val psi: PsiJavaFile
+    ) {
+        fun matches(file: SourceFile<Java>, code: String): Boolean =
+            this.file === file &&
+                    (this.code === code || this.code.length == code.length && this.code == code)
+    }
+}
@@ -0,0 +1,353 @@
+/*
+ * Copyright 2026, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.tools.core.jvm.settings
+
+import io.spine.tools.compiler.ast.File
+import io.spine.tools.compiler.ast.FilePattern
+import io.spine.tools.compiler.ast.FilePattern.KindCase.PREFIX
+import io.spine.tools.compiler.ast.FilePattern.KindCase.REGEX as FILE_REGEX
+import io.spine.tools.compiler.ast.FilePattern.KindCase.SUFFIX
+import io.spine.tools.compiler.ast.MessageType
+import io.spine.tools.core.jvm.settings.Pattern.KindCase.FILE
+import io.spine.tools.core.jvm.settings.Pattern.KindCase.TYPE
+import io.spine.tools.core.jvm.settings.TypePattern.ValueCase.EXPECTED_TYPE
+import io.spine.tools.core.jvm.settings.TypePattern.ValueCase.REGEX
+import java.util.BitSet
+
+/**
+ * A precompiled index of patterns which finds all the values associated with
+ * the patterns matching a message type.
+ *
+ * Matching a type against a list of patterns one by one requires compiling a regular
+ * expression per pattern and a scan of the whole list for each type.
+ * The index is built once and then answers queries using:
+ *
+ *  1. A hash lookup for [expected types][TypePattern.getExpectedType].
+ *  2. Prefix and suffix tries for [file patterns][FilePattern].
+ *  3. A combined regular expression which rejects a name not matching any of
+ *     the regex patterns in one pass. Only if the combined expression matches,
+ *     the individual precompiled expressions are consulted.
+ *
+ * The values matching a type are returned in the order in which their patterns
+ * were [added][Builder.add] to the index, which is the same order the values would
+ * have when filtering the original list of patterns.
+ *
+ * @param T The type of the values associated with the patterns.
+ *
+ * @see Pattern.matches
+ * @see TypePattern.matches
+ */
+public class PatternIndex<T> private constructor(builder: Builder<T>) {
+
+    private val values: List<T> = builder.values.toList()
+    private val expectedTypes: Map<String, IntArray> = builder.expectedTypes.toIndexMap()
+    private val typeRegexes = RegexSet(builder.typeRegexes)
+    private val filePrefixes = Trie(builder.filePrefixes)
+    private val fileSuffixes = Trie(builder.fileSuffixes)
+    private val fileRegexes = RegexSet(builder.fileRegexes)
+
+    /**
+     * Tells if the index has no patterns.
+     */
+    public val isEmpty: Boolean
+        get() = values.isEmpty()
+
+    /**
+     * Obtains the values of the patterns matching the given [type].
+     *
+     * Both file and type patterns are taken into account.
+     */
+    public fun matching(type: MessageType): List<T> {
+        if (isEmpty) {
+            return listOf()
+        }
+        val found = BitSet(values.size)
+        collectFileMatches(type.file, found)
+        collectTypeMatches(type.qualifiedName, found)
+        return found.toValues()
+    }
+
+    /**
+     * Obtains the values of the file patterns matching the given [file].
+     *
+     * Type patterns are not taken into account because there is no type to match.
+     */
+    public fun matching(file: File): List<T> {
+        if (isEmpty) {
+            return listOf()
+        }
+        val found = BitSet(values.size)
+        collectFileMatches(file, found)
+        return found.toValues()
+    }
+
+    /**
+     * Tells if at least one of the patterns matches the given [type].
+     */
+    public fun matchesAny(type: MessageType): Boolean =
+        matching(type).isNotEmpty()
+
+    /**
+     * Tells if at least one of the file patterns matches the given [file].
+     */
+    public fun matchesAny(file: File): Boolean =
+        matching(file).isNotEmpty()
+
+    private fun collectFileMatches(file: File, found: BitSet) {
+        val path = file.path
+        filePrefixes.collect(path, reversed = false, found)
+        fileSuffixes.collect(path, reversed = true, found)
+        fileRegexes.collect(path, found)
+    }
+
+    private fun collectTypeMatches(qualifiedName: String, found: BitSet) {
+        expectedTypes[qualifiedName]?.forEach { found.set(it) }
+        typeRegexes.collect(qualifiedName, found)
+    }
+
+    private fun BitSet.toValues(): List<T> {
+        if (isEmpty) {
+            return listOf()
+        }
+        val result = ArrayList<T>(cardinality())
+        var i = nextSetBit(0)
+        while (i >= 0) {
+            result.add(values[i])
+            i = nextSetBit(i + 1)
+        }
+        return result
+    }
+
+    /**
+     * Accumulates the patterns and the associated values for a new [PatternIndex].
+     */
+    public class Builder<T> internal constructor() {
+
+        internal val values = mutableListOf<T>()
+        internal val expectedTypes = mutableMapOf<String, MutableList<Int>>()
+        internal val typeRegexes = mutableListOf<Pair<String, Int>>()
+        internal val filePrefixes = mutableListOf<Pair<String, Int>>()
+        internal val fileSuffixes = mutableListOf<Pair<String, Int>>()
+        internal val fileRegexes = mutableListOf<Pair<String, Int>>()
+
+        /**
+         * Associates the given [value] with the pattern.
+         *
+         * A pattern with no kind set is accepted, but never matches.
+         */
+        public fun add(pattern: Pattern, value: T): Builder<T> {
+            val index = nextIndex(value)
+            when (pattern.kindCase) {
+                FILE -> addFile(pattern.file, index)
+                TYPE -> addType(pattern.type, index)
+                else -> Unit
+            }
+            return this
+        }
+
+        /**
+         * Associates the given [value] with the file pattern.
+         *
+         * A pattern with no kind set is accepted, but never matches.
+         */
+        public fun add(pattern: FilePattern, value: T): Builder<T> {
+            val index = nextIndex(value)
+            addFile(pattern, index)
+            return this
+        }
+
+        /**
+         * Creates a new index.
+         */
+        public fun build(): PatternIndex<T> = PatternIndex(this)
+
+        private fun nextIndex(value: T): Int {
+            values.add(value)
+            return values.size - 1
+        }
+
+        private fun addFile(pattern: FilePattern, index: Int) {
+            when (pattern.kindCase) {
+                PREFIX -> filePrefixes.add(pattern.prefix to index)
+                SUFFIX -> fileSuffixes.add(pattern.suffix.reversed() to index)
+                FILE_REGEX -> fileRegexes.add(pattern.regex to index)
+                else -> Unit
+            }
+        }
+
+        private fun addType(pattern: TypePattern, index: Int) {
+            when (pattern.valueCase) {
+                EXPECTED_TYPE -> expectedTypes
+                    .getOrPut(pattern.expectedType.value) { mutableListOf() }
+                    .add(index)
+                REGEX -> typeRegexes.add(pattern.regex to index)
+                else -> Unit
+            }
+        }
+    }
+
+    public companion object {
+
+        /**
+         * Creates a new builder of the index.
+         */
+        @JvmStatic
+        public fun <T> newBuilder(): Builder<T> = Builder()
+    }
+}
+
+/**
+ * Creates an index of the patterns of message groups which has the groups as values.
+ */
+public fun GroupSettings.toPatternIndex(): PatternIndex<MessageGroup> {
+    val builder = PatternIndex.newBuilder<MessageGroup>()
+    groupList.forEach {
+        builder.add(it.pattern, it)
+    }
+    return builder.build()
+}
+
+/**
+ * Creates an index of the file patterns of these signals which has the patterns as values.
+ */
+public fun Signals.toPatternIndex(): PatternIndex<FilePattern> {
+    val builder = PatternIndex.newBuilder<FilePattern>()
+    patternList.forEach {
+        builder.add(it, it)
+    }
+    return builder.build()
+}
+
+private fun Map<String, List<Int>>.toIndexMap(): Map<String, IntArray> =
+    mapValues { (_, indexes) -> indexes.toIntArray() }
+
+/**
+ * A character trie which associates the indexes of the patterns with the nodes
+ * ending the pattern strings.
+ *
+ * Walking a string along the trie visits all the patterns which are prefixes of
+ * the string. Suffixes are handled by storing and walking the strings reversed.
+ */
+private class Trie(entries: List<Pair<String, Int>>) {
+
+    private val root = Node()
+    private val empty = entries.isEmpty()
+
+    init {
+        entries.forEach { (key, index) ->
+            var node = root
+            key.forEach { c ->
+                node = node.children.getOrPut(c) { Node() }
+            }
+            node.indexes.add(index)
+        }
+    }
+
+    fun collect(value: String, reversed: Boolean, found: BitSet) {
+        if (empty) {
+            return
+        }
+        var node: Node? = root
+        val length = value.length
+        var step = 0
+        while (node != null) {
+            node.indexes.forEach { found.set(it) }
+            if (step == length) {
+                return
+            }
+            val c = if (reversed) value[length - 1 - step] else value[step]
+            node = node.children[c]
+            step++
+        }
+    }
+
+    private class Node {
+        val children: MutableMap<Char, Node> = HashMap(2)
+        val indexes: MutableList<Int> = ArrayList(1)
+    }
+}
+
+/**
+ * Joins the given regular expressions into one alternation, which matches a string
+ * if at least one of the expressions matches it.
+ *
+ * The expressions are not joined if one of them refers to a group by a number
+ * or name because joining the expressions would change the meaning of such references.
+ * They are not joined either if several expressions declare a group with the same name,
+ * which is not allowed within one expression.
+ *
+ * @return the alternation, or `null` if the expressions cannot be joined.
+ */
+public fun alternationOf(patterns: List<String>): Regex? {
+    if (patterns.any { backReference.containsMatchIn(it) } || patterns.hasRepeatedGroupNames()) {
+        return null
+    }
+    return Regex(patterns.joinToString(separator = "|") { "(?:$it)" })
+}
+
+private val backReference = Regex("""\\([1-9]|k<)""")
+private val namedGroup = Regex("""\(\?<([a-zA-Z][a-zA-Z0-9]*)>""")
+
+private fun List<String>.hasRepeatedGroupNames(): Boolean {
+    val names = flatMap { pattern ->
+        namedGroup.findAll(pattern).map { it.groupValues[1] }.toList()
+    }
+    return names.size != names.toSet().size
+}
+
+/**
+ * A set of regular expressions compiled once and pre-filtered by a single
+ * [alternation][alternationOf] of all of them.
+ *
+ * The alternation matches a string only if at least one of the expressions matches it.
+ * So, if the alternation does not match, none of the expressions is tried.
+ * If the expressions cannot be joined, each of them is tried.
+ */
+private class RegexSet(entries: List<Pair<String, Int>>) {
+
+    private val regexes: List<Pair<Regex, Int>> = entries.map { (pattern, index) ->
+        Regex(pattern) to index
+    }
+
+    private val combined: Regex? =
+        if (regexes.size < 2) null else alternationOf(entries.map { (pattern, _) -> pattern })
+
+    fun collect(value: String, found: BitSet) {
+        if (regexes.isEmpty()) {
+            return
+        }
+        if (combined != null && !combined.matches(value)) {
+            return
+        }
+        regexes.forEach { (regex, index) ->
+            if (regex.matches(value)) {
+                found.set(index)
+            }
+        }
+    }
+
+}
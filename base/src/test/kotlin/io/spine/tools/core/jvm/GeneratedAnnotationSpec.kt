@@ -26,6 +26,7 @@
 
 package io.spine.tools.core.jvm
 
+import io.kotest.matchers.shouldBe
 import io.kotest.matchers.string.shouldContain
 import org.junit.jupiter.api.DisplayName
 import org.junit.jupiter.api.Test
@@ -48,6 +49,24 @@ internal class GeneratedAnnotationSpec {
         annotation.text shouldContain "by Spine CoreJvm Compiler"
     }
 
+    @Test
+    fun `not refer to the compiler version in the reproducible mode`() {
+        val property = GeneratedAnnotation.REPRODUCIBLE_PROPERTY
+        System.setProperty(property, "true")
+        try {
+            val annotation = GeneratedAnnotation.forPsi()
+            annotation.text shouldContain "\"by Spine CoreJvm Compiler\""
+        } finally {
+            System.clearProperty(property)
+        }
+    }
+
+    @Test
+    fun `provide the default value with or without the version`() {
+        GeneratedAnnotation.valueFor(reproducible = true) shouldBe "by Spine CoreJvm Compiler"
+        GeneratedAnnotation.valueFor(reproducible = false) shouldContain "(version: "
+    }
+
     @Test
     fun `create a JavaPoet annotation spec`() {
         val spec = GeneratedAnnotation.forJavaPoet("javapoet value")
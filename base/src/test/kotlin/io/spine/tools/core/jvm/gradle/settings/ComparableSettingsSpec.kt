@@ -27,6 +27,7 @@
 package io.spine.tools.core.jvm.gradle.settings
 
 import io.kotest.matchers.maps.shouldContainKey
+import io.kotest.matchers.maps.shouldNotContainKey
 import io.spine.tools.core.jvm.gradle.given.newProject
 import org.junit.jupiter.api.DisplayName
 import org.junit.jupiter.api.Test
@@ -44,4 +45,38 @@ internal class ComparableSettingsSpec {
         actions shouldContainKey
                 "io.spine.tools.core.jvm.comparable.action.ImplementComparable"
     }
+
+    @Test
+    fun `replace the delegating 'compareTo()' with the unrolled one`() {
+        val settings = ComparableSettings(newProject())
+        settings.unrollCompareTo()
+        val actions = settings.toProto().actions.actionMap
+
+        actions shouldNotContainKey "io.spine.tools.core.jvm.comparable.action.AddCompareTo"
+        actions shouldContainKey "io.spine.tools.core.jvm.comparable.action.AddUnrolledCompareTo"
+        actions shouldContainKey "io.spine.tools.core.jvm.comparable.action.AddComparator"
+    }
+
+    @Test
+    fun `restore the delegating 'compareTo()'`() {
+        val settings = ComparableSettings(newProject())
+        settings.unrollCompareTo()
+        settings.delegateCompareTo()
+        val actions = settings.toProto().actions.actionMap
+
+        actions shouldContainKey "io.spine.tools.core.jvm.comparable.action.AddCompareTo"
+        actions shouldNotContainKey
+                "io.spine.tools.core.jvm.comparable.action.AddUnrolledCompareTo"
+    }
+
+    @Test
+    fun `add the sort key action on demand`() {
+        val settings = ComparableSettings(newProject())
+        settings.toProto().actions.actionMap shouldNotContainKey
+                "io.spine.tools.core.jvm.comparable.action.AddSortKey"
+
+        settings.generateSortKeys()
+        settings.toProto().actions.actionMap shouldContainKey
+                "io.spine.tools.core.jvm.comparable.action.AddSortKey"
+    }
 }
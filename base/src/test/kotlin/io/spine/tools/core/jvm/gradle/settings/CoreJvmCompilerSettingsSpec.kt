@@ -27,6 +27,7 @@
 package io.spine.tools.core.jvm.gradle.settings
 
 import io.kotest.assertions.throwables.shouldThrow
+import io.kotest.matchers.booleans.shouldBeFalse
 import io.kotest.matchers.booleans.shouldBeTrue
 import io.kotest.matchers.collections.shouldHaveSize
 import io.kotest.matchers.maps.shouldContainKey
@@ -154,6 +155,11 @@ internal class CoreJvmCompilerSettingsSpec {
                 "io.spine.tools.core.jvm.entity.ImplementEntityState"
     }
 
+    @Test
+    fun `not include the classpath`() {
+        settings.toProto().hasClasspath().shouldBeFalse()
+    }
+
     private companion object {
         const val ACTION = "custom.Action"
         const val FARM_TYPE = "given.base.Farm"
@@ -0,0 +1,159 @@
+/*
+ * Copyright 2026, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+
+package io.spine.tools.core.jvm.render
+
+import io.kotest.matchers.collections.shouldContainExactly
+import io.kotest.matchers.collections.shouldHaveSize
+import io.kotest.matchers.shouldBe
+import java.nio.file.Path
+import kotlin.io.path.listDirectoryEntries
+import org.junit.jupiter.api.DisplayName
+import org.junit.jupiter.api.Test
+import org.junit.jupiter.api.io.TempDir
+
+@DisplayName("`IncrementalCache` should")
+internal class IncrementalCacheSpec {
+
+    @TempDir
+    lateinit var dir: Path
+
+    private val settings = "settings".toByteArray()
+
+    private fun load(settings: ByteArray = this.settings): IncrementalCache =
+        IncrementalCache.load(dir, settings)
+
+    private val blobs: List<Path>
+        get() = dir.resolve("blobs").listDirectoryEntries()
+
+    @Test
+    fun `be turned off when the directory is not set`() {
+        System.getProperty(IncrementalCache.DIR_PROPERTY) shouldBe null
+        IncrementalCache.load() shouldBe null
+    }
+
+    @Test
+    fun `return the recorded output for the same key`() {
+        load().run {
+            record(PROTO, KEY, OUTPUTS)
+            save(setOf(PROTO))
+        }
+        val cache = load()
+        cache.lookup(PROTO, KEY) shouldBe OUTPUTS
+        cache.hits shouldBe 1
+    }
+
+    @Test
+    fun `miss if the key changed`() {
+        load().run {
+            record(PROTO, KEY, OUTPUTS)
+            save(setOf(PROTO))
+        }
+        val cache = load()
+        cache.lookup(PROTO, "changed") shouldBe null
+        cache.misses shouldBe 1
+    }
+
+    @Test
+    fun `discard the manifest if the settings changed`() {
+        load().run {
+            record(PROTO, KEY, OUTPUTS)
+            save(setOf(PROTO))
+        }
+        load("other".toByteArray()).lookup(PROTO, KEY) shouldBe null
+    }
+
+    @Test
+    fun `keep the entries of the proto files not rendered in the last run`() {
+        load().run {
+            record(PROTO, KEY, OUTPUTS)
+            record(OTHER_PROTO, KEY, OTHER_OUTPUTS)
+            save(setOf(PROTO, OTHER_PROTO))
+        }
+        load().run {
+            record(OTHER_PROTO, "changed", OUTPUTS)
+            save(setOf(PROTO, OTHER_PROTO))
+        }
+        val cache = load()
+        cache.lookup(PROTO, KEY) shouldBe OUTPUTS
+        cache.lookup(OTHER_PROTO, "changed") shouldBe OUTPUTS
+    }
+
+    @Test
+    fun `drop the entries of the proto files no longer compiled`() {
+        load().run {
+            record(PROTO, KEY, OUTPUTS)
+            record(OTHER_PROTO, KEY, OTHER_OUTPUTS)
+            save(setOf(PROTO, OTHER_PROTO))
+        }
+        load().save(setOf(PROTO))
+        val cache = load()
+        cache.lookup(OTHER_PROTO, KEY) shouldBe null
+        cache.lookup(PROTO, KEY) shouldBe OUTPUTS
+    }
+
+    @Test
+    fun `delete the code no longer referenced by the entries`() {
+        load().run {
+            record(PROTO, KEY, OUTPUTS)
+            record(OTHER_PROTO, KEY, OTHER_OUTPUTS)
+            save(setOf(PROTO, OTHER_PROTO))
+        }
+        blobs shouldHaveSize 3
+        load().run {
+            record(PROTO, "changed", mapOf(FOO to "class Foo { int x; }"))
+            save(setOf(PROTO))
+        }
+        blobs shouldHaveSize 1
+        load().lookup(PROTO, "changed")!!.keys shouldContainExactly setOf(FOO)
+    }
+
+    @Test
+    fun `delete the code of a discarded manifest`() {
+        load().run {
+            record(PROTO, KEY, OUTPUTS)
+            save(setOf(PROTO))
+        }
+        load("other".toByteArray()).save(setOf(PROTO))
+        blobs shouldHaveSize 0
+    }
+
+    private companion object {
+        const val PROTO = "given/foo.proto"
+        const val OTHER_PROTO = "given/bar.proto"
+        const val KEY = "key"
+        const val FOO = "io/spine/given/Foo.java"
+        const val FOO_OR_BUILDER = "io/spine/given/FooOrBuilder.java"
+        val OUTPUTS = mapOf(
+            FOO to "@Internal class Foo {}",
+            FOO_OR_BUILDER to "interface FooOrBuilder {}"
+        )
+        val OTHER_OUTPUTS = mapOf(
+            "io/spine/given/Bar.java" to "class Bar {}"
+        )
+    }
+}
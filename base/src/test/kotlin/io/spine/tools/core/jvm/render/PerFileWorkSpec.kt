@@ -0,0 +1,140 @@
+/*
+ * Copyright 2026, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.tools.core.jvm.render
+
+import io.kotest.assertions.throwables.shouldThrow
+import io.kotest.matchers.booleans.shouldBeFalse
+import io.kotest.matchers.booleans.shouldBeTrue
+import io.kotest.matchers.collections.shouldContainExactly
+import io.kotest.matchers.ints.shouldBeLessThanOrEqual
+import io.kotest.matchers.shouldBe
+import java.util.concurrent.ConcurrentHashMap
+import org.junit.jupiter.api.DisplayName
+import org.junit.jupiter.api.Nested
+import org.junit.jupiter.api.Test
+
+@DisplayName("`PerFileWork` should")
+internal class PerFileWorkSpec {
+
+    private val files = (1..100).map { "file$it.java" }
+
+    @Test
+    fun `reject non-positive parallelism`() {
+        shouldThrow<IllegalArgumentException> {
+            PerFileWork(0)
+        }
+    }
+
+    @Test
+    fun `be sequential when parallel rendering is not turned on`() {
+        System.getProperty(PerFileWork.PARALLEL_PROPERTY) shouldBe null
+        PerFileWork.fromSystemProperties().isParallel.shouldBeFalse()
+    }
+
+    @Nested inner class
+    `commit prepared units in the order of files` {
+
+        @Test
+        fun `when running sequentially`() {
+            assertCommitOrder(PerFileWork(1))
+        }
+
+        @Test
+        fun `when running in parallel`() {
+            val work = PerFileWork(4)
+            work.isParallel.shouldBeTrue()
+            assertCommitOrder(work)
+        }
+
+        private fun assertCommitOrder(work: PerFileWork) {
+            val committed = mutableListOf<String>()
+            work.run(
+                files,
+                prepare = { it.uppercase() },
+                commit = { file, prepared ->
+                    prepared shouldBe file.uppercase()
+                    committed.add(file)
+                }
+            )
+            committed shouldContainExactly files
+        }
+    }
+
+    @Test
+    fun `not commit units with nothing prepared`() {
+        val committed = mutableListOf<String>()
+        PerFileWork(4).run(
+            files,
+            prepare = { file -> file.takeIf { it.endsWith("0.java") } },
+            commit = { file, _ -> committed.add(file) }
+        )
+        committed shouldContainExactly files.filter { it.endsWith("0.java") }
+    }
+
+    @Test
+    fun `commit in the calling thread`() {
+        val caller = Thread.currentThread()
+        val threads = ConcurrentHashMap.newKeySet<Thread>()
+        PerFileWork(4).run(
+            files,
+            prepare = { it },
+            commit = { _, _ -> threads.add(Thread.currentThread()) }
+        )
+        threads shouldContainExactly setOf(caller)
+    }
+
+    @Test
+    fun `reuse the daemon threads preparing the units between runs`() {
+        val workers = workersOf(PerFileWork(4)) + workersOf(PerFileWork(4))
+        workers.size shouldBeLessThanOrEqual 4
+        workers.forEach {
+            it.isDaemon.shouldBeTrue()
+        }
+    }
+
+    @Test
+    fun `propagate the exception thrown when preparing a unit`() {
+        shouldThrow<IllegalStateException> {
+            PerFileWork(4).run(
+                files,
+                prepare = { check(it != "file42.java") },
+                commit = { _, _ -> }
+            )
+        }
+    }
+
+    private fun workersOf(work: PerFileWork): Set<Thread> {
+        val workers = ConcurrentHashMap.newKeySet<Thread>()
+        work.run(
+            files,
+            prepare = { workers.add(Thread.currentThread()) },
+            commit = { _, _ -> }
+        )
+        workers.remove(Thread.currentThread())
+        return workers
+    }
+}
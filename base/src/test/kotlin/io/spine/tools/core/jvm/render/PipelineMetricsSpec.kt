@@ -0,0 +1,190 @@
+/*
+ * Copyright 2026, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.tools.core.jvm.render
+
+import io.kotest.assertions.throwables.shouldThrow
+import io.kotest.matchers.string.shouldContain
+import io.kotest.matchers.string.shouldNotContain
+import java.nio.file.Path
+import kotlin.concurrent.thread
+import kotlin.io.path.readText
+import org.junit.jupiter.api.AfterEach
+import org.junit.jupiter.api.BeforeEach
+import org.junit.jupiter.api.DisplayName
+import org.junit.jupiter.api.Test
+import org.junit.jupiter.api.io.TempDir
+
+@DisplayName("`PipelineMetrics` should")
+internal class PipelineMetricsSpec {
+
+    private val component = StubRenderer()
+
+    @BeforeEach
+    fun enableMetrics() {
+        PipelineMetrics.reset()
+        PipelineMetrics.isEnabled = true
+    }
+
+    @AfterEach
+    fun disableMetrics() {
+        PipelineMetrics.isEnabled = false
+        PipelineMetrics.reset()
+    }
+
+    @Test
+    fun `not collect the measures when disabled`() {
+        PipelineMetrics.isEnabled = false
+        PipelineMetrics.measure(component) {
+            PipelineMetrics.overwritten("class Foo {}")
+        }
+        PipelineMetrics.reacted(component, matched = true)
+        PipelineMetrics.applied(listOf("org.example.ExternalAction"))
+        PipelineMetrics.toJson().let {
+            it shouldNotContain StubRenderer::class.java.name
+            it shouldNotContain "org.example.ExternalAction"
+        }
+    }
+
+    @Test
+    fun `count overwritten bytes in UTF-8`() {
+        PipelineMetrics.measure(component) {
+            PipelineMetrics.overwritten("class Ñ {}")
+        }
+        PipelineMetrics.toJson() shouldContain "\"overwrittenBytes\": 11"
+    }
+
+    @Test
+    fun `count invocations of a component`() {
+        repeat(3) {
+            PipelineMetrics.measure(component) { }
+        }
+        PipelineMetrics.toJson() shouldContain
+                "\"name\": \"${StubRenderer::class.java.name}\", \"invocations\": 3"
+    }
+
+    @Test
+    fun `group components by their package`() {
+        PipelineMetrics.measure(component) { }
+        PipelineMetrics.toJson() shouldContain "\"io.spine.tools.core.jvm.render\": ["
+    }
+
+    @Test
+    fun `count matched and skipped reactions`() {
+        PipelineMetrics.reacted(component, matched = true)
+        PipelineMetrics.reacted(component, matched = false)
+        PipelineMetrics.reacted(component, matched = false)
+        PipelineMetrics.toJson().let {
+            it shouldContain "\"reactionsMatched\": 1"
+            it shouldContain "\"reactionsSkipped\": 2"
+        }
+    }
+
+    @Test
+    fun `attribute overwrites to the component being measured`() {
+        PipelineMetrics.overwritten("not measured")
+        PipelineMetrics.measure(component) {
+            PipelineMetrics.overwritten("class Foo {}")
+        }
+        PipelineMetrics.toJson().let {
+            it shouldContain "\"overwrites\": 1, \"overwrittenBytes\": 12"
+            it shouldNotContain "\"overwrites\": 2"
+        }
+    }
+
+    @Test
+    fun `not attribute overwrites made by other threads`() {
+        PipelineMetrics.measure(component) {
+            thread { PipelineMetrics.overwritten("class Foo {}") }.join()
+        }
+        PipelineMetrics.toJson() shouldContain "\"overwrites\": 0"
+    }
+
+    @Test
+    fun `attribute the work passed to other threads to the component`() {
+        PipelineMetrics.measure(component) {
+            val current = PipelineMetrics.currentComponent()
+            thread {
+                PipelineMetrics.attributedTo(current) {
+                    PipelineMetrics.overwritten("class Foo {}")
+                }
+            }.join()
+        }
+        PipelineMetrics.toJson() shouldContain "\"overwrites\": 1, \"overwrittenBytes\": 12"
+    }
+
+    @Test
+    fun `count applications of actions by their class names`() {
+        PipelineMetrics.applied(listOf("org.example.ExternalAction"))
+        PipelineMetrics.applied(listOf("org.example.ExternalAction"))
+        PipelineMetrics.toJson().let {
+            it shouldContain "\"actions\": ["
+            it shouldContain "\"name\": \"org.example.ExternalAction\"," +
+                    " \"invocations\": 0, \"applications\": 2"
+        }
+    }
+
+    @Test
+    fun `escape the names in the report`() {
+        PipelineMetrics.applied(listOf("org.example.\"Quoted\"\\Action"))
+        PipelineMetrics.toJson() shouldContain
+                "\"name\": \"org.example.\\\"Quoted\\\"\\\\Action\""
+    }
+
+    @Test
+    fun `write the report to the file given by the system property`(@TempDir dir: Path) {
+        val file = dir.resolve("reports/metrics.json")
+        PipelineMetrics.measure(component) { }
+        System.setProperty(PipelineMetrics.REPORT_PROPERTY, file.toString())
+        try {
+            PipelineMetrics.writeReport()
+        } finally {
+            System.clearProperty(PipelineMetrics.REPORT_PROPERTY)
+        }
+        file.readText() shouldContain "\"name\": \"${StubRenderer::class.java.name}\""
+    }
+
+    @Test
+    fun `report the peak heap usage of the process`() {
+        PipelineMetrics.toJson() shouldContain Regex("\"peakHeapBytes\": [1-9][0-9]*")
+    }
+
+    @Test
+    fun `measure an invocation which throws`() {
+        shouldThrow<IllegalStateException> {
+            PipelineMetrics.measure(component) {
+                error("Rendering failed.")
+            }
+        }
+        PipelineMetrics.overwritten("not measured")
+        PipelineMetrics.toJson().let {
+            it shouldContain "\"invocations\": 1"
+            it shouldContain "\"overwrites\": 0"
+        }
+    }
+}
+
+private class StubRenderer
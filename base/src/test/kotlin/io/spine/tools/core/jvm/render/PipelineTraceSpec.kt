@@ -0,0 +1,136 @@
+/*
+ * Copyright 2026, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.tools.core.jvm.render
+
+import io.kotest.matchers.shouldBe
+import io.kotest.matchers.string.shouldContain
+import io.kotest.matchers.string.shouldNotContain
+import java.nio.file.Path
+import kotlin.io.path.readText
+import org.junit.jupiter.api.AfterEach
+import org.junit.jupiter.api.BeforeEach
+import org.junit.jupiter.api.DisplayName
+import org.junit.jupiter.api.Test
+import org.junit.jupiter.api.io.TempDir
+
+@DisplayName("`PipelineTrace` should")
+internal class PipelineTraceSpec {
+
+    @BeforeEach
+    fun enableTrace() {
+        PipelineTrace.reset()
+        PipelineTrace.isEnabled = true
+    }
+
+    @AfterEach
+    fun disableTrace() {
+        PipelineTrace.isEnabled = false
+        PipelineTrace.reset()
+    }
+
+    @Test
+    fun `record complete events`() {
+        val result = PipelineTrace.span("Render", "io.spine.tools.core.jvm.signal") { 42 }
+        result shouldBe 42
+        PipelineTrace.toJson().let {
+            it shouldContain "\"traceEvents\": ["
+            it shouldContain "{\"name\": \"Render\", \"cat\": \"io.spine.tools.core.jvm.signal\"," +
+                    " \"ph\": \"X\", \"ts\": "
+        }
+    }
+
+    @Test
+    fun `name the threads running the events`() {
+        PipelineTrace.span("Render", "test") { }
+        val thread = Thread.currentThread().name
+        PipelineTrace.toJson() shouldContain
+                "\"name\": \"thread_name\", \"ph\": \"M\", \"pid\": 1"
+        PipelineTrace.toJson() shouldContain "\"args\": {\"name\": \"$thread\"}"
+    }
+
+    @Test
+    fun `attach the details to the events`() {
+        PipelineTrace.span("Render", "test", detail = "org/example/Foo.java") { }
+        PipelineTrace.toJson() shouldContain "\"args\": {\"detail\": \"org/example/Foo.java\"}"
+    }
+
+    @Test
+    fun `escape the strings`() {
+        PipelineTrace.span("\"quoted\"\n", "back\\slash") { }
+        PipelineTrace.toJson().let {
+            it shouldContain "\"name\": \"\\\"quoted\\\"\\u000a\""
+            it shouldContain "\"cat\": \"back\\\\slash\""
+        }
+    }
+
+    @Test
+    fun `not record events when disabled`() {
+        PipelineTrace.isEnabled = false
+        PipelineTrace.span("Render", "test") { }
+        PipelineTrace.toJson() shouldNotContain "\"ph\": \"X\""
+    }
+
+    @Test
+    fun `record measured components`() {
+        PipelineMetrics.measure(TracedRenderer(), detail = "Foo.java") { }
+        PipelineTrace.toJson() shouldContain
+                "{\"name\": \"TracedRenderer\", \"cat\": \"io.spine.tools.core.jvm.render\""
+    }
+
+    @Test
+    fun `record spans of components named after their classes`() {
+        PipelineTrace.spanOf(TracedRenderer(), detail = "given.Type") { }
+        PipelineTrace.toJson() shouldContain
+                "{\"name\": \"TracedRenderer\", \"cat\": \"io.spine.tools.core.jvm.render\""
+    }
+
+    @Test
+    fun `record the phases of per-file work`() {
+        PerFileWork(2).run(listOf("A.java", "B.java"), prepare = { it }, commit = { _, _ -> })
+        PipelineTrace.toJson().let {
+            it shouldContain "{\"name\": \"A.java\", \"cat\": \"prepare\""
+            it shouldContain "{\"name\": \"B.java\", \"cat\": \"prepare\""
+            it shouldContain "{\"name\": \"A.java\", \"cat\": \"commit\""
+            it shouldContain "{\"name\": \"B.java\", \"cat\": \"commit\""
+        }
+    }
+
+    @Test
+    fun `write the events to the file given by the system property`(@TempDir dir: Path) {
+        val file = dir.resolve("reports/trace.json")
+        PipelineTrace.span("Render", "test") { }
+        System.setProperty(PipelineTrace.TRACE_PROPERTY, file.toString())
+        try {
+            PipelineTrace.writeTrace()
+        } finally {
+            System.clearProperty(PipelineTrace.TRACE_PROPERTY)
+        }
+        file.readText() shouldContain "{\"name\": \"Render\", \"cat\": \"test\""
+    }
+}
+
+private class TracedRenderer
@@ -0,0 +1,194 @@
+/*
+ * Copyright 2026, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.tools.core.jvm.render
+
+import com.intellij.openapi.application.ApplicationManager
+import com.intellij.psi.PsiJavaFile
+import io.kotest.matchers.shouldBe
+import io.kotest.matchers.string.shouldContain
+import io.kotest.matchers.string.shouldNotContain
+import io.kotest.matchers.types.shouldBeSameInstanceAs
+import io.kotest.matchers.types.shouldNotBeSameInstanceAs
+import io.spine.tools.code.Java
+import io.spine.tools.compiler.render.SourceFile
+import io.spine.tools.compiler.render.SourceFileSet
+import io.spine.tools.psi.java.Environment.elementFactory
+import io.spine.tools.psi.java.addLast
+import io.spine.tools.psi.java.execute
+import io.spine.tools.psi.java.topLevelClass
+import java.nio.file.Path
+import java.util.concurrent.ConcurrentLinkedQueue
+import kotlin.concurrent.thread
+import kotlin.io.path.Path
+import kotlin.io.path.createDirectories
+import kotlin.io.path.writeText
+import org.junit.jupiter.api.AfterEach
+import org.junit.jupiter.api.BeforeEach
+import org.junit.jupiter.api.DisplayName
+import org.junit.jupiter.api.Test
+import org.junit.jupiter.api.assertThrows
+import org.junit.jupiter.api.io.TempDir
+
+@DisplayName("`PsiSession` should")
+internal class PsiSessionSpec {
+
+    private lateinit var file: SourceFile<Java>
+
+    @BeforeEach
+    fun createFile(@TempDir dir: Path) {
+        val input = dir.resolve("input")
+        val path = Path("given/session/Sample.java")
+        input.resolve(path).run {
+            parent.createDirectories()
+            writeText(CODE)
+        }
+        val sources = SourceFileSet.create(input, dir.resolve("output"))
+        @Suppress("UNCHECKED_CAST") // The file is a Java one.
+        file = sources.file(path) as SourceFile<Java>
+        PsiSession.close()
+    }
+
+    @AfterEach
+    fun closeSession() {
+        PsiSession.close()
+    }
+
+    @Test
+    fun `reuse the tree of an unchanged file`() {
+        val before = PsiSession.counters()
+        val psi = PsiSession.psi(file)
+        PsiSession.psi(file) shouldBeSameInstanceAs psi
+        val after = PsiSession.counters()
+        after.parsed - before.parsed shouldBe 1
+        after.reused - before.reused shouldBe 1
+    }
+
+    @Test
+    fun `reuse the modified tree without writing it to the file`() {
+        val psi = PsiSession.psi(file)
+        psi.addMethod("added")
+        PsiSession.write(file, psi)
+
+        file.code() shouldNotContain "void added()"
+        PsiSession.psi(file) shouldBeSameInstanceAs psi
+    }
+
+    @Test
+    fun `look up a tree in several threads under the read action`() {
+        val psi = PsiSession.psi(file)
+        val lookups = ConcurrentLinkedQueue<String>()
+        List(4) {
+            thread {
+                PsiSession.read {
+                    ApplicationManager.getApplication().isReadAccessAllowed shouldBe true
+                    lookups.add(psi.classes.single().name!!)
+                }
+            }
+        }.forEach { it.join() }
+        lookups.toList() shouldBe List(4) { "Sample" }
+    }
+
+    @Test
+    fun `write each modified file once when flushed`() {
+        val before = PsiSession.counters()
+        val psi = PsiSession.psi(file)
+        psi.addMethod("first")
+        PsiSession.write(file, psi)
+        psi.addMethod("second")
+        PsiSession.write(file, psi)
+
+        PsiSession.flush()
+
+        file.code().run {
+            shouldContain("void first()")
+            shouldContain("void second()")
+        }
+        PsiSession.counters().written - before.written shouldBe 1
+        PsiSession.psi(file) shouldBeSameInstanceAs psi
+    }
+
+    @Test
+    fun `write the pending changes when closed`() {
+        val psi = PsiSession.psi(file)
+        psi.addMethod("added")
+        PsiSession.write(file, psi)
+
+        PsiSession.close()
+
+        file.code() shouldContain "void added()"
+    }
+
+    @Test
+    fun `fail if a file with pending changes is modified outside the session`() {
+        val original = file.code()
+        val psi = PsiSession.psi(file)
+        psi.addMethod("added")
+        PsiSession.write(file, psi)
+        file.overwrite(original + "// Changed.\n")
+
+        assertThrows<IllegalStateException> {
+            PsiSession.psi(file)
+        }
+        assertThrows<IllegalStateException> {
+            PsiSession.flush()
+        }
+
+        // Restore the code so that the session may be closed.
+        file.overwrite(original)
+    }
+
+    @Test
+    fun `parse the file again after it is overwritten outside the session`() {
+        val psi = PsiSession.psi(file)
+        file.overwrite(file.code() + "// Changed.\n")
+
+        val parsed = PsiSession.psi(file)
+        parsed shouldNotBeSameInstanceAs psi
+        parsed.text shouldContain "// Changed."
+    }
+
+    @Test
+    fun `parse the file again after the session is closed`() {
+        val psi = PsiSession.psi(file)
+        PsiSession.close()
+        PsiSession.psi(file) shouldNotBeSameInstanceAs psi
+    }
+}
+
+private fun PsiJavaFile.addMethod(name: String) {
+    execute {
+        val method = elementFactory.createMethodFromText("void $name() {}", null)
+        topLevelClass.addLast(method)
+    }
+}
+
+private val CODE = """
+    package given.session;
+
+    public class Sample {
+    }
+    """.trimIndent()
@@ -0,0 +1,165 @@
+/*
+ * Copyright 2026, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.tools.core.jvm.settings
+
+import io.kotest.matchers.booleans.shouldBeFalse
+import io.kotest.matchers.booleans.shouldBeTrue
+import io.kotest.matchers.collections.shouldBeEmpty
+import io.kotest.matchers.collections.shouldContainExactly
+import io.spine.tools.compiler.ast.FilePatternFactory
+import io.spine.tools.compiler.protobuf.toMessageType
+import io.spine.tools.core.jvm.given.base.Farm
+import io.spine.tools.proto.code.protoTypeName
+import org.junit.jupiter.api.DisplayName
+import org.junit.jupiter.api.Nested
+import org.junit.jupiter.api.Test
+
+@DisplayName("`PatternIndex` should")
+internal class PatternIndexSpec {
+
+    private val farm = Farm.getDescriptor().toMessageType()
+    private val farmName = "given.base.Farm"
+
+    @Nested inner class
+    `find values of matching` {
+
+        @Test
+        fun `expected type names`() {
+            val index = PatternIndex.newBuilder<String>()
+                .add(typeName(farmName), "farm")
+                .add(typeName("given.base.Barn"), "barn")
+                .build()
+            index.matching(farm) shouldContainExactly listOf("farm")
+        }
+
+        @Test
+        fun `type name regular expressions`() {
+            val index = PatternIndex.newBuilder<String>()
+                .add(typeRegex(".*base\\.F.*"), "f")
+                .add(typeRegex(".*base\\.B.*"), "b")
+                .add(typeRegex(".*Farm"), "farm")
+                .build()
+            index.matching(farm) shouldContainExactly listOf("f", "farm")
+        }
+
+        @Test
+        fun `type name regular expressions declaring the same named group`() {
+            val index = PatternIndex.newBuilder<String>()
+                .add(typeRegex("(?<pkg>.*base)\\.F.*"), "f")
+                .add(typeRegex("(?<pkg>.*base)\\.B.*"), "b")
+                .add(typeRegex("(?<pkg>.*)\\.Farm"), "farm")
+                .build()
+            index.matching(farm) shouldContainExactly listOf("f", "farm")
+        }
+
+        @Test
+        fun `file suffixes`() {
+            val index = PatternIndex.newBuilder<String>()
+                .add(FilePatternFactory.suffix("farm.proto"), "farm")
+                .add(FilePatternFactory.suffix("barn.proto"), "barn")
+                .add(FilePatternFactory.suffix(".proto"), "proto")
+                .build()
+            index.matching(farm) shouldContainExactly listOf("farm", "proto")
+        }
+
+        @Test
+        fun `file prefixes`() {
+            val path = farm.file.path
+            val index = PatternIndex.newBuilder<String>()
+                .add(FilePatternFactory.prefix(path.take(1)), "short")
+                .add(FilePatternFactory.prefix("$path!"), "longer")
+                .add(FilePatternFactory.prefix(path), "full")
+                .build()
+            index.matching(farm) shouldContainExactly listOf("short", "full")
+        }
+
+        @Test
+        fun `file regular expressions`() {
+            val index = PatternIndex.newBuilder<String>()
+                .add(FilePatternFactory.regex(".*barn.*"), "barn")
+                .add(FilePatternFactory.regex(".*farm.*"), "farm")
+                .build()
+            index.matching(farm) shouldContainExactly listOf("farm")
+            index.matchesAny(farm.file).shouldBeTrue()
+        }
+    }
+
+    @Test
+    fun `preserve the order in which patterns were added`() {
+        val index = PatternIndex.newBuilder<Int>()
+            .add(typeRegex(".*Farm"), 1)
+            .add(Pattern.newBuilder().setFile(FilePatternFactory.suffix("farm.proto")).build(), 2)
+            .add(typeName(farmName), 3)
+            .add(typeRegex(".*"), 4)
+            .build()
+        index.matching(farm) shouldContainExactly listOf(1, 2, 3, 4)
+    }
+
+    @Test
+    fun `match the same values as patterns matched one by one`() {
+        val patterns = listOf(
+            typeName(farmName),
+            typeName("given.base.Unknown"),
+            typeRegex(".*base\\.F.*"),
+            typeRegex(".*base\\.B.*"),
+            Pattern.newBuilder().setFile(FilePatternFactory.suffix("farm.proto")).build(),
+            Pattern.newBuilder().setFile(FilePatternFactory.suffix("barn.proto")).build(),
+            Pattern.getDefaultInstance()
+        )
+        val builder = PatternIndex.newBuilder<Pattern>()
+        patterns.forEach { builder.add(it, it) }
+        val index = builder.build()
+
+        index.matching(farm) shouldContainExactly patterns.filter { it.matches(farm) }
+    }
+
+    @Test
+    fun `not match type patterns by a file`() {
+        val index = PatternIndex.newBuilder<String>()
+            .add(typeName(farmName), "farm")
+            .build()
+        index.matchesAny(farm).shouldBeTrue()
+        index.matchesAny(farm.file).shouldBeFalse()
+    }
+
+    @Test
+    fun `match nothing when empty`() {
+        val index = PatternIndex.newBuilder<String>().build()
+        index.isEmpty.shouldBeTrue()
+        index.matching(farm).shouldBeEmpty()
+    }
+
+    private fun typeName(name: String): Pattern = pattern {
+        type = typePattern {
+            expectedType = protoTypeName { value = name }
+        }
+    }
+
+    private fun typeRegex(regex: String): Pattern = pattern {
+        type = typePattern { this.regex = regex }
+    }
+}
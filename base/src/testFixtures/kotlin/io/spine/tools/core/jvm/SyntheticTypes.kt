@@ -0,0 +1,119 @@
+/*
+ * Copyright 2026, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.tools.core.jvm
+
+import com.google.protobuf.DescriptorProtos.DescriptorProto
+import com.google.protobuf.DescriptorProtos.FieldDescriptorProto
+import com.google.protobuf.DescriptorProtos.FieldDescriptorProto.Label.LABEL_OPTIONAL
+import com.google.protobuf.DescriptorProtos.FieldDescriptorProto.Type
+import com.google.protobuf.DescriptorProtos.FileDescriptorProto
+import com.google.protobuf.DescriptorProtos.FileOptions
+import com.google.protobuf.Descriptors.FileDescriptor
+import io.spine.tools.compiler.ast.MessageType
+import io.spine.tools.compiler.protobuf.ProtoFileList
+import io.spine.tools.compiler.protobuf.toMessageType
+import io.spine.tools.compiler.protobuf.toPbSourceFile
+import io.spine.tools.compiler.type.TypeSystem
+
+/**
+ * Message types of the given size built in memory from a descriptor, without running `protoc`.
+ *
+ * The types serve as inputs of increasing size for measuring how the code generation
+ * scales. Messages are named `Message0`, `Message1`, etc. Their fields are named
+ * `field_0`, `field_1`, etc., and have scalar types of Protobuf in turn.
+ *
+ * @param messageCount The number of the messages in the file.
+ * @param fieldCount The number of the fields in each message.
+ * @param fileName The path of the proto file declaring the messages.
+ * @param multipleFiles The value of the `java_multiple_files` option of the file.
+ */
+class SyntheticTypes(
+    messageCount: Int,
+    fieldCount: Int,
+    fileName: String = "given/synthetic/synthetic.proto",
+    multipleFiles: Boolean = true
+) {
+
+    /**
+     * The descriptor of the file declaring the messages.
+     */
+    val file: FileDescriptor
+
+    /**
+     * The type system which knows only the messages of the [file].
+     */
+    val typeSystem: TypeSystem
+
+    /**
+     * The messages of the [file].
+     */
+    val messageTypes: List<MessageType>
+
+    init {
+        val options = FileOptions.newBuilder()
+            .setJavaPackage(JAVA_PACKAGE)
+            .setJavaMultipleFiles(multipleFiles)
+        val proto = FileDescriptorProto.newBuilder()
+            .setName(fileName)
+            .setPackage(PROTO_PACKAGE)
+            .setSyntax("proto3")
+            .setOptions(options)
+        repeat(messageCount) { index ->
+            proto.addMessageType(message("Message$index", fieldCount))
+        }
+        file = FileDescriptor.buildFrom(proto.build(), arrayOf())
+        typeSystem = TypeSystem(ProtoFileList(emptyList()), setOf(file.toPbSourceFile()))
+        messageTypes = file.messageTypes.map { it.toMessageType() }
+    }
+
+    private companion object {
+
+        const val PROTO_PACKAGE = "given.synthetic"
+        const val JAVA_PACKAGE = "io.spine.tools.core.jvm.given.synthetic"
+
+        val fieldTypes = listOf(
+            Type.TYPE_STRING,
+            Type.TYPE_INT32,
+            Type.TYPE_INT64,
+            Type.TYPE_BOOL,
+            Type.TYPE_DOUBLE
+        )
+
+        fun message(name: String, fieldCount: Int): DescriptorProto {
+            val message = DescriptorProto.newBuilder().setName(name)
+            repeat(fieldCount) { index ->
+                val field = FieldDescriptorProto.newBuilder()
+                    .setName("field_$index")
+                    .setNumber(index + 1)
+                    .setLabel(LABEL_OPTIONAL)
+                    .setType(fieldTypes[index % fieldTypes.size])
+                message.addField(field)
+            }
+            return message.build()
+        }
+    }
+}
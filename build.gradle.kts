@@ -33,6 +33,8 @@ import io.spine.dependency.local.Spine
 import io.spine.dependency.local.Validation
 import io.spine.gradle.RunBuild
 import io.spine.gradle.RunGradle
+import io.spine.gradle.performance.BuildSpeedGate
+import io.spine.gradle.performance.ScalingBenchmark
 import io.spine.gradle.publish.PublishingRepos
 import io.spine.gradle.publish.SpinePublishing
 import io.spine.gradle.publish.spinePublishing
@@ -237,3 +239,49 @@ tasks.register<RunGradle>("checkPerformance") {
 
     task("clean", "build")
 }
+
+/**
+ * Measures the Spine Compiler pipeline of the `tests/scaling` project for
+ * the synthetic schemas of growing sizes.
+ *
+ * @see ScalingBenchmark
+ */
+tasks.register<ScalingBenchmark>("checkScaling") {
+    directory = "$rootDir/tests"
+    scales = listOf(1, 4, 16)
+
+    dependsOn(localPublish)
+    shouldRunAfter(check)
+}
+
+/**
+ * Compares the durations of the build tasks of the benchmark projects in `tests`
+ * with the baseline recorded by `recordBuildSpeedBaseline`.
+ *
+ * Pass the `buildSpeedThreshold` property to change the allowed growth of the durations,
+ * e.g., `-PbuildSpeedThreshold=0.05` for 5%.
+ *
+ * @see BuildSpeedGate
+ */
+val checkBuildSpeed = tasks.register<BuildSpeedGate>("checkBuildSpeed") {
+    directory = "$rootDir/tests"
+    baselineFile = file("$rootDir/.build-speed/baseline.json")
+    findProperty(BuildSpeedGate.THRESHOLD_PROPERTY)?.let {
+        threshold = it.toString().toDouble()
+    }
+
+    dependsOn(localPublish)
+    shouldRunAfter(check)
+}
+
+/**
+ * Records the baseline for `checkBuildSpeed`.
+ */
+tasks.register<BuildSpeedGate>("recordBuildSpeedBaseline") {
+    directory = "$rootDir/tests"
+    baselineFile = file("$rootDir/.build-speed/baseline.json")
+    recordBaseline = true
+
+    dependsOn(localPublish)
+    mustRunAfter(checkBuildSpeed)
+}
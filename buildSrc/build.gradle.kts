@@ -137,6 +137,11 @@ val kotestJvmPluginVersion = "0.4.10"
  */
 val koverVersion = "0.9.9"
 
+/**
+ * @see [io.spine.dependency.test.Jmh]
+ */
+val jmhPluginVersion = "0.7.3"
+
 /**
  * The version of the Shadow Plugin.
  *
@@ -197,6 +202,7 @@ dependencies {
         "com.gradleup.shadow:shadow-gradle-plugin:$shadowVersion",
         "io.gitlab.arturbosch.detekt:detekt-gradle-plugin:$detektVersion",
         "io.kotest:kotest-gradle-plugin:$kotestJvmPluginVersion",
+        "me.champeau.jmh:jmh-gradle-plugin:$jmhPluginVersion",
         // https://github.com/srikanth-lingala/zip4j
         "net.lingala.zip4j:zip4j:2.10.0",
         "net.ltgt.gradle:gradle-errorprone-plugin:$errorPronePluginVersion",
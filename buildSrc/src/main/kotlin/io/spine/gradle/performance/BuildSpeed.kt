@@ -0,0 +1,194 @@
+/*
+ * Copyright 2026, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.gradle.performance
+
+import com.fasterxml.jackson.databind.ObjectMapper
+import com.fasterxml.jackson.databind.SerializationFeature.INDENT_OUTPUT
+import java.io.File
+import kotlin.math.sqrt
+
+/**
+ * The mean and the standard deviation of the durations measured over several runs.
+ */
+internal data class Sample(val mean: Double, val deviation: Double, val runs: Int) {
+
+    companion object {
+
+        /**
+         * Computes the sample of the given durations in milliseconds.
+         */
+        fun of(durations: List<Long>): Sample {
+            require(durations.isNotEmpty()) { "At least one duration is required." }
+            val mean = durations.average()
+            val variance = if (durations.size < 2) {
+                0.0
+            } else {
+                durations.sumOf { (it - mean) * (it - mean) } / (durations.size - 1)
+            }
+            return Sample(mean, sqrt(variance), durations.size)
+        }
+    }
+}
+
+/**
+ * The durations of the build tasks and the CoreJvm Compiler plugins
+ * measured by [BuildSpeedGate].
+ *
+ * @property tasks The samples of the durations of the tasks by the task paths.
+ * @property plugins The mean time of the CoreJvm Compiler plugins in milliseconds
+ *   by the plugin packages.
+ */
+internal class BuildSpeed(
+    val tasks: Map<String, Sample>,
+    val plugins: Map<String, Double>
+) {
+
+    /**
+     * Writes these measurements as JSON into the given [file].
+     */
+    fun writeTo(file: File) {
+        file.parentFile.mkdirs()
+        val json = mapOf(
+            "tasks" to tasks.toSortedMap().mapValues { (_, sample) ->
+                mapOf(
+                    "mean" to sample.mean,
+                    "deviation" to sample.deviation,
+                    "runs" to sample.runs
+                )
+            },
+            "plugins" to plugins.toSortedMap()
+        )
+        ObjectMapper()
+            .enable(INDENT_OUTPUT)
+            .writeValue(file, json)
+    }
+
+    /**
+     * Compares these measurements with the [baseline].
+     *
+     * @param threshold The allowed relative increase of the mean duration of a task,
+     *   e.g., `0.1` for 10%.
+     */
+    fun compareWith(baseline: BuildSpeed, threshold: Double): Comparison =
+        Comparison(baseline, this, threshold)
+
+    companion object {
+
+        /**
+         * Reads the measurements written by [writeTo] from the given [file].
+         */
+        fun read(file: File): BuildSpeed {
+            val json = ObjectMapper().readTree(file)
+            val tasks = json["tasks"].properties().associate { (path, sample) ->
+                path to Sample(
+                    sample["mean"].asDouble(),
+                    sample["deviation"].asDouble(),
+                    sample["runs"].asInt()
+                )
+            }
+            val plugins = json["plugins"].properties().associate { (plugin, millis) ->
+                plugin to millis.asDouble()
+            }
+            return BuildSpeed(tasks, plugins)
+        }
+    }
+
+    /**
+     * The result of comparing the [current] measurements with the [baseline].
+     *
+     * A task regresses if its mean duration grows by more than the [threshold] of
+     * the baseline mean. The growth must also exceed the sum of the deviations of
+     * both samples, so that the noise of the measurements does not fail the gate.
+     */
+    class Comparison(
+        private val baseline: BuildSpeed,
+        private val current: BuildSpeed,
+        private val threshold: Double
+    ) {
+
+        /**
+         * The paths of the tasks which regressed.
+         */
+        val regressions: List<String> = current.tasks.keys.sorted().filter { path ->
+            val before = baseline.tasks[path] ?: return@filter false
+            val after = current.tasks.getValue(path)
+            val growth = after.mean - before.mean
+            growth > threshold * before.mean && growth > before.deviation + after.deviation
+        }
+
+        /**
+         * Obtains the human-readable report of the comparison.
+         *
+         * The report lists the tasks with their durations before and after, and
+         * the CoreJvm Compiler plugins ordered by the growth of their time, so that
+         * the plugins which take the extra time come first.
+         */
+        fun report(): String = buildString {
+            val percent = "%.0f%%".format(threshold * 100)
+            appendLine("Build speed compared with the baseline (threshold: $percent):")
+            current.tasks.toSortedMap().forEach { (path, after) ->
+                val before = baseline.tasks[path]
+                val change = before?.let { "%+.1f%%".format(percentChange(it.mean, after.mean)) }
+                val status = if (path in regressions) "REGRESSED" else ""
+                appendLine(
+                    TASK_FORMAT.format(
+                        path,
+                        before?.format() ?: "n/a",
+                        after.format(),
+                        change ?: "",
+                        status
+                    )
+                )
+            }
+            val plugins = (baseline.plugins.keys + current.plugins.keys).associateWith {
+                (baseline.plugins[it] ?: 0.0) to (current.plugins[it] ?: 0.0)
+            }
+            if (plugins.isEmpty()) {
+                return@buildString
+            }
+            appendLine("Time of the CoreJvm Compiler plugins:")
+            plugins.entries
+                .sortedByDescending { (_, times) -> times.second - times.first }
+                .forEach { (plugin, times) ->
+                    val (before, after) = times
+                    appendLine(
+                        PLUGIN_FORMAT.format(plugin, before, after, after - before)
+                    )
+                }
+        }
+
+        private fun percentChange(before: Double, after: Double): Double =
+            if (before == 0.0) 0.0 else (after - before) / before * 100
+
+        private fun Sample.format(): String = "%.0f +/- %.0f ms".format(mean, deviation)
+
+        private companion object {
+            const val TASK_FORMAT = "  %-48s %18s -> %18s %8s  %s"
+            const val PLUGIN_FORMAT = "  %-48s %9.0f ms -> %9.0f ms %+9.0f ms"
+        }
+    }
+}
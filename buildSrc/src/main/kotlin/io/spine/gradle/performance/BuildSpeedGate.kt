@@ -0,0 +1,200 @@
+/*
+ * Copyright 2026, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.gradle.performance
+
+import java.io.File
+import org.gradle.api.DefaultTask
+import org.gradle.api.GradleException
+import org.gradle.api.tasks.Internal
+import org.gradle.api.tasks.TaskAction
+
+/**
+ * A Gradle task that fails if the build of the benchmark projects gets slower
+ * than the stored baseline.
+ *
+ * The task runs the build under the given [directory] [warmupRuns] times to warm up
+ * the Gradle daemon, and then [runs] times more measuring the durations of the [taskNames]
+ * in each of the [projectNames]. Each run starts with `clean` and does not use
+ * the build cache, so the measured tasks are executed every time. The benchmark projects
+ * must apply [TaskTimingsPlugin] and turn `rendering.metrics` on to report the time of
+ * the CoreJvm Compiler plugins.
+ *
+ * If the [baselineFile] does not exist, or [recordBaseline] is `true`, the measurements
+ * are stored as the baseline. Otherwise, they are [compared][BuildSpeed.compareWith] with
+ * the baseline, and the task fails if any of the tasks regressed past the [threshold].
+ *
+ * The baseline depends on the machine running the builds. So, it is not shared, and
+ * it should be recorded on the same machine before making the changes to check.
+ *
+ * The output of the builds is written into `$directory/_out/build-speed-<run>.txt`.
+ */
+@Suppress("unused")
+open class BuildSpeedGate : DefaultTask() {
+
+    companion object {
+
+        /**
+         * The name of the Gradle property with the [threshold] of the gate.
+         */
+        const val THRESHOLD_PROPERTY = "buildSpeedThreshold"
+
+        /**
+         * The default timeout of a single build.
+         */
+        private const val BUILD_TIMEOUT_MINUTES: Long = 30
+
+        /**
+         * The idle timeout of the Gradle daemon used by the builds.
+         *
+         * The daemon is not stopped explicitly because `--stop` would also stop
+         * the daemon running the current build.
+         */
+        private const val DAEMON_IDLE_TIMEOUT_MILLIS: Long = 10 * 60 * 1000
+    }
+
+    /**
+     * Path to the directory that contains a Gradle wrapper script.
+     */
+    @Internal
+    lateinit var directory: String
+
+    /**
+     * The names of the benchmark projects relative to the [directory].
+     */
+    @Internal
+    var projectNames: List<String> = listOf("scaling")
+
+    /**
+     * The names of the measured tasks of the benchmark projects.
+     */
+    @Internal
+    var taskNames: List<String> = listOf("launchSpineCompiler", "kspKotlin", "compileJava")
+
+    /**
+     * The number of builds which warm up the daemon and are not measured.
+     */
+    @Internal
+    var warmupRuns: Int = 2
+
+    /**
+     * The number of measured builds.
+     */
+    @Internal
+    var runs: Int = 5
+
+    /**
+     * The allowed relative growth of the mean duration of a task, e.g., `0.1` for 10%.
+     */
+    @Internal
+    var threshold: Double = 0.1
+
+    /**
+     * The file storing the baseline.
+     */
+    @Internal
+    lateinit var baselineFile: File
+
+    /**
+     * If `true`, the measurements replace the baseline instead of being compared with it.
+     */
+    @Internal
+    var recordBaseline: Boolean = false
+
+    /**
+     * For how many minutes to wait for a single build to complete.
+     */
+    @Internal
+    var maxDurationMins: Long = BUILD_TIMEOUT_MINUTES
+
+    @TaskAction
+    fun execute() {
+        repeat(warmupRuns) {
+            build("warmup-${it + 1}")
+        }
+        val measured = List(runs) { build("${it + 1}") }
+        val current = BuildSpeed(
+            tasks = measured.flatMap { it.tasks.entries }
+                .groupBy({ it.key }, { it.value })
+                .mapValues { (_, durations) -> Sample.of(durations) },
+            plugins = measured.flatMap { it.plugins.entries }
+                .groupBy({ it.key }, { it.value })
+                .mapValues { (_, millis) -> millis.sum().toDouble() / runs }
+        )
+        if (recordBaseline || !baselineFile.exists()) {
+            current.writeTo(baselineFile)
+            logger.lifecycle("The build speed baseline is written to $baselineFile.")
+            return
+        }
+        val comparison = current.compareWith(BuildSpeed.read(baselineFile), threshold)
+        logger.lifecycle(comparison.report())
+        if (comparison.regressions.isNotEmpty()) {
+            throw GradleException(
+                "The build got slower than the baseline $baselineFile in:" +
+                        " ${comparison.regressions.joinToString()}."
+            )
+        }
+    }
+
+    /**
+     * Runs a build and collects the durations of the measured tasks and
+     * the time of the CoreJvm Compiler plugins.
+     */
+    private fun build(run: String): Run {
+        val out = File(directory, "_out")
+        val timingsFile = File(out, "task-timings-$run.json")
+        timingsFile.delete()
+        val tasks = projectNames.flatMap { project ->
+            listOf(":$project:clean") + taskNames.map { ":$project:$it" }
+        }
+        val arguments = tasks + listOf(
+            "-P${TaskTimings.FILE_PROPERTY}=${timingsFile.absolutePath}",
+            "-Dorg.gradle.daemon.idletimeout=$DAEMON_IDLE_TIMEOUT_MILLIS",
+            "--no-build-cache",
+            "--console=plain",
+            "--stacktrace"
+        )
+        project.runGradle(directory, arguments, File(out, "build-speed-$run.txt"), maxDurationMins)
+        val timings = TaskTimings.read(timingsFile)
+        val measured = projectNames.flatMap { project -> taskNames.map { ":$project:$it" } }
+            .associateWith {
+                timings[it] ?: throw GradleException(
+                    "The duration of the task `$it` was not recorded. Make sure the project" +
+                            " has the task and applies `${TaskTimingsPlugin::class.simpleName}`."
+                )
+            }
+        val plugins = projectNames.map { PipelineReport.of(File(directory, it)).pluginMillis() }
+            .flatMap { it.entries }
+            .groupBy({ it.key }, { it.value })
+            .mapValues { (_, millis) -> millis.sum() }
+        return Run(measured, plugins)
+    }
+
+    /**
+     * The measurements of a single build.
+     */
+    private class Run(val tasks: Map<String, Long>, val plugins: Map<String, Long>)
+}
@@ -0,0 +1,73 @@
+/*
+ * Copyright 2026, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.gradle.performance
+
+import java.io.File
+import java.util.concurrent.TimeUnit
+import org.gradle.api.GradleException
+import org.gradle.api.Project
+import org.gradle.internal.os.OperatingSystem
+
+/**
+ * Runs the Gradle wrapper of this project in the given [directory] and waits
+ * for the build to complete.
+ *
+ * @param directory The directory of the build to run.
+ * @param arguments The tasks and options passed to the wrapper.
+ * @param output The file receiving both the standard and the error output of the build.
+ * @param timeoutMinutes For how many minutes to wait for the build to complete.
+ * @return the wall time of the build in milliseconds.
+ * @throws GradleException if the build fails or does not complete in time.
+ */
+internal fun Project.runGradle(
+    directory: String,
+    arguments: List<String>,
+    output: File,
+    timeoutMinutes: Long
+): Long {
+    output.parentFile.mkdirs()
+    val script = if (OperatingSystem.current().isWindows) "gradlew.bat" else "gradlew"
+    val command = listOf("$rootDir/$script") + arguments
+    val started = System.nanoTime()
+    val process = ProcessBuilder()
+        .command(command)
+        .directory(file(directory))
+        .redirectErrorStream(true)
+        .redirectOutput(output)
+        .start()
+    val completed = process.waitFor(timeoutMinutes, TimeUnit.MINUTES)
+    val millis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started)
+    if (!completed) {
+        process.destroyForcibly()
+    }
+    if (!completed || process.exitValue() != 0) {
+        throw GradleException(
+            "The build `${arguments.joinToString(" ")}` FAILED. See $output for details."
+        )
+    }
+    return millis
+}
@@ -0,0 +1,102 @@
+/*
+ * Copyright 2026, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.gradle.performance
+
+import com.fasterxml.jackson.databind.JsonNode
+import com.fasterxml.jackson.databind.ObjectMapper
+import java.io.File
+import org.gradle.api.GradleException
+
+/**
+ * The report of the Spine Compiler pipeline written by `PipelineMetrics` of
+ * the CoreJvm Compiler when `rendering.metrics` is turned on.
+ */
+internal class PipelineReport private constructor(private val json: JsonNode) {
+
+    /**
+     * The wall time of the Compiler process in milliseconds.
+     */
+    val wallMillis: Long
+        get() = process["wallMillis"].asLong()
+
+    /**
+     * The CPU time of the Compiler process in milliseconds.
+     */
+    val cpuMillis: Long
+        get() = process["cpuMillis"]?.asLong() ?: 0L
+
+    /**
+     * The peak heap usage of the Compiler process in bytes.
+     */
+    val peakHeapBytes: Long
+        get() = process["peakHeapBytes"]?.asLong() ?: 0L
+
+    private val process: JsonNode
+        get() = json["process"]
+
+    /**
+     * Obtains the wall time spent by the CoreJvm Compiler plugins in milliseconds.
+     *
+     * The time of a plugin is the sum of the time of its renderers and reactions.
+     * The code generation actions are not counted separately because they are applied
+     * by the renderers, which include the time of the actions.
+     */
+    fun pluginMillis(): Map<String, Long> {
+        val actions = json["actions"].map { it["name"].asText() }.toSet()
+        return json["plugins"].properties().associate { (plugin, components) ->
+            plugin to components
+                .filter { it["name"].asText() !in actions }
+                .sumOf { it["wallMillis"].asLong() }
+        }
+    }
+
+    companion object {
+
+        /**
+         * The path of the report of the `launchSpineCompiler` task
+         * relative to the project directory.
+         */
+        const val PATH = "build/spine/reports/launchSpineCompiler/pipeline-metrics.json"
+
+        /**
+         * Reads the report of the `launchSpineCompiler` task of the project
+         * in the given [projectDir].
+         *
+         * @throws GradleException if the report does not exist.
+         */
+        fun of(projectDir: File): PipelineReport {
+            val file = File(projectDir, PATH)
+            if (!file.exists()) {
+                throw GradleException(
+                    "The build did not write $file. Make sure `rendering.metrics`" +
+                            " is turned on in the `${projectDir.name}` project."
+                )
+            }
+            return PipelineReport(ObjectMapper().readTree(file))
+        }
+    }
+}
@@ -0,0 +1,169 @@
+/*
+ * Copyright 2026, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.gradle.performance
+
+import com.fasterxml.jackson.databind.ObjectMapper
+import com.fasterxml.jackson.databind.SerializationFeature.INDENT_OUTPUT
+import java.io.File
+import org.gradle.api.DefaultTask
+import org.gradle.api.tasks.Internal
+import org.gradle.api.tasks.TaskAction
+
+/**
+ * A Gradle task that measures how the Spine Compiler pipeline of the CoreJvm Compiler
+ * scales with the size of the proto schema.
+ *
+ * For each of the [scales], the task runs the Gradle build under the given [directory],
+ * passing the scale as the `schemaScale` Gradle property. The build is expected to
+ * [generate][GenerateSyntheticSchema] a schema of the scaled [shape][SchemaShape.scaled] in
+ * the [projectName] project and to run the Compiler on it with `rendering.metrics` turned on.
+ *
+ * For each scale, the task reports:
+ *
+ *  1. The wall time of the whole Gradle build.
+ *  2. The wall and CPU time of the Compiler process.
+ *  3. The peak heap usage of the Compiler process.
+ *
+ * The results are logged and written as JSON into the [reportFile].
+ * The output of the build for each scale is written into `$directory/_out/scaling-<scale>.txt`.
+ */
+@Suppress("unused")
+open class ScalingBenchmark : DefaultTask() {
+
+    companion object {
+
+        /**
+         * The name of the Gradle property passing the scale factor to the build.
+         */
+        const val SCALE_PROPERTY = "schemaScale"
+
+        /**
+         * The default timeout of a build for one scale.
+         */
+        private const val BUILD_TIMEOUT_MINUTES: Long = 30
+
+        private const val LAUNCH_TASK = "launchSpineCompiler"
+        private const val MEGABYTE = 1024 * 1024
+        private const val HEADER_FORMAT = "%6s %12s %14s %12s %10s"
+        private const val ROW_FORMAT = "%6s %12d %14d %12d %10d"
+    }
+
+    /**
+     * Path to the directory that contains a Gradle wrapper script.
+     */
+    @Internal
+    lateinit var directory: String
+
+    /**
+     * The name of the project with the synthetic schema, relative to the [directory].
+     */
+    @Internal
+    var projectName: String = "scaling"
+
+    /**
+     * The scale factors of the schema.
+     */
+    @Internal
+    var scales: List<Int> = listOf(1, 4, 16)
+
+    /**
+     * For how many minutes to wait for the build for one scale to complete.
+     */
+    @Internal
+    var maxDurationMins: Long = BUILD_TIMEOUT_MINUTES
+
+    /**
+     * The file for the JSON report of the measurements.
+     */
+    @Internal
+    var reportFile: File =
+        File(project.layout.buildDirectory.asFile.get(), "reports/scaling/scaling.json")
+
+    @TaskAction
+    fun execute() {
+        val results = scales.map { measure(it) }
+        writeReport(results)
+        logger.lifecycle(table(results))
+    }
+
+    private fun measure(scale: Int): Result {
+        val arguments = listOf(
+            ":$projectName:clean",
+            ":$projectName:$LAUNCH_TASK",
+            "-P$SCALE_PROPERTY=$scale",
+            "--console=plain",
+            "--stacktrace",
+            "--no-daemon"
+        )
+        val output = File(directory, "_out/scaling-$scale.txt")
+        val buildMillis = project.runGradle(directory, arguments, output, maxDurationMins)
+        val report = PipelineReport.of(File(directory, projectName))
+        return Result(
+            scale,
+            buildMillis,
+            compilerMillis = report.wallMillis,
+            compilerCpuMillis = report.cpuMillis,
+            peakHeapBytes = report.peakHeapBytes
+        )
+    }
+
+    private fun writeReport(results: List<Result>) {
+        reportFile.parentFile.mkdirs()
+        ObjectMapper()
+            .enable(INDENT_OUTPUT)
+            .writeValue(reportFile, results)
+    }
+
+    private fun table(results: List<Result>): String = buildString {
+        appendLine("Scaling of the Spine Compiler pipeline (see $reportFile):")
+        appendLine(
+            HEADER_FORMAT.format("scale", "build, ms", "compiler, ms", "cpu, ms", "heap, MB")
+        )
+        results.forEach {
+            appendLine(
+                ROW_FORMAT.format(
+                    "${it.scale}x",
+                    it.buildMillis,
+                    it.compilerMillis,
+                    it.compilerCpuMillis,
+                    it.peakHeapBytes / MEGABYTE
+                )
+            )
+        }
+    }
+
+    /**
+     * The measurements of the build for one scale.
+     */
+    data class Result(
+        val scale: Int,
+        val buildMillis: Long,
+        val compilerMillis: Long,
+        val compilerCpuMillis: Long,
+        val peakHeapBytes: Long
+    )
+}
@@ -0,0 +1,112 @@
+/*
+ * Copyright 2026, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.gradle.performance
+
+import java.io.Serializable
+
+/**
+ * The shape of a synthetic proto schema produced by [SyntheticSchema].
+ *
+ * Whether a message is a command, an event, or a rejection is defined by the name
+ * of the file declaring it. So, the fractions of the [commands], [events], and [rejections]
+ * are taken from the number of [files], each of which declares [messagesPerFile] messages
+ * of the same kind. The remaining files are "model" files.
+ *
+ * The fractions of the [entities], [comparables], and [uuids] are taken from the number
+ * of messages declared in the model files. The model messages of none of these kinds
+ * are plain messages.
+ *
+ * @property files The number of proto files.
+ * @property messagesPerFile The number of top-level messages in each file.
+ * @property fieldsPerMessage The number of scalar fields in each top-level message.
+ * @property commands The fraction of files declaring commands.
+ * @property events The fraction of files declaring events.
+ * @property rejections The fraction of files declaring rejections.
+ * @property entities The fraction of model messages which are entity states with columns.
+ * @property comparables The fraction of model messages having the `(compare_by)` option.
+ * @property uuids The fraction of model messages which are UUID-based identifiers.
+ * @property nestingDepth The number of levels of nested messages declared in
+ *   each top-level message, except for the UUID identifiers.
+ * @property isOption The fraction of model messages having the `(is)` option.
+ * @property everyIsOption The fraction of model files having the `(every_is)` option.
+ * @property seed The seed for distributing the kinds over the files and messages.
+ *   The same shape always produces the same schema.
+ */
+data class SchemaShape(
+    val files: Int = 8,
+    val messagesPerFile: Int = 8,
+    val fieldsPerMessage: Int = 6,
+    val commands: Double = 0.125,
+    val events: Double = 0.125,
+    val rejections: Double = 0.125,
+    val entities: Double = 0.2,
+    val comparables: Double = 0.2,
+    val uuids: Double = 0.2,
+    val nestingDepth: Int = 1,
+    val isOption: Double = 0.1,
+    val everyIsOption: Double = 0.2,
+    val seed: Long = 42
+) : Serializable {
+
+    init {
+        require(files > 0) { "The number of files must be positive. Encountered: $files." }
+        require(messagesPerFile > 0) {
+            "The number of messages per file must be positive. Encountered: $messagesPerFile."
+        }
+        require(fieldsPerMessage > 0) {
+            "The number of fields per message must be positive. Encountered: $fieldsPerMessage."
+        }
+        require(nestingDepth >= 0) {
+            "The nesting depth must not be negative. Encountered: $nestingDepth."
+        }
+        listOf(
+            commands, events, rejections, entities, comparables, uuids, isOption, everyIsOption
+        ).forEach {
+            require(it in 0.0..1.0) { "A fraction must be within `[0, 1]`. Encountered: $it." }
+        }
+        require(commands + events + rejections <= 1.0) {
+            "The fractions of signal files must not exceed `1` in total."
+        }
+        require(entities + comparables + uuids <= 1.0) {
+            "The fractions of model messages must not exceed `1` in total."
+        }
+    }
+
+    /**
+     * Obtains the shape with the number of files multiplied by the given [factor].
+     *
+     * The proportions of the kinds of files and messages remain the same.
+     */
+    fun scaled(factor: Int): SchemaShape {
+        require(factor > 0) { "The scale factor must be positive. Encountered: $factor." }
+        return copy(files = files * factor)
+    }
+
+    companion object {
+        private const val serialVersionUID: Long = 1L
+    }
+}
@@ -0,0 +1,291 @@
+/*
+ * Copyright 2026, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.gradle.performance
+
+import java.io.File
+import kotlin.math.roundToInt
+import kotlin.random.Random
+
+/**
+ * Generates a proto schema of the given [shape] for measuring how the code generation
+ * scales with the size of a project.
+ *
+ * The schema consists of files named `s<N>_<kind>.proto`, where the kind is `model`,
+ * `commands`, `events`, or `rejections`. So, the signal files are recognized by the Spine
+ * Compiler by the standard suffixes of their names. All the files belong to the same
+ * proto package and declare messages with the names unique within the schema.
+ *
+ * The types declared in the model files are:
+ *
+ *  1. Entity states of projections with a string ID and the `(column)` option on their
+ *     scalar fields.
+ *  2. Messages with the `(compare_by)` option listing all their scalar fields.
+ *  3. UUID-based identifiers having the only `string uuid` field.
+ *  4. Plain messages.
+ *
+ * If some of the model messages have the `(is)` option, the schema also includes
+ * the `markers.proto` file which generates the interface referenced by the option
+ * using `(every_is)`.
+ *
+ * @see SchemaShape
+ */
+class SyntheticSchema(val shape: SchemaShape) {
+
+    /**
+     * The text of the proto files by their paths relative to the proto source root.
+     */
+    val files: Map<String, String> by lazy { generate() }
+
+    /**
+     * Writes the [files] into the given proto source root [directory].
+     */
+    fun writeTo(directory: File) {
+        files.forEach { (path, text) ->
+            val file = File(directory, path)
+            file.parentFile.mkdirs()
+            file.writeText(text)
+        }
+    }
+
+    private fun generate(): Map<String, String> {
+        val random = Random(shape.seed)
+        val fileKinds = distribute(
+            shape.files,
+            listOf(
+                FileKind.COMMANDS to shape.commands,
+                FileKind.EVENTS to shape.events,
+                FileKind.REJECTIONS to shape.rejections
+            ),
+            rest = FileKind.MODEL,
+            random
+        )
+        val modelFiles = fileKinds.count { it == FileKind.MODEL }
+        val modelMessages = modelFiles * shape.messagesPerFile
+        val messageKinds = distribute(
+            modelMessages,
+            listOf(
+                MessageKind.ENTITY to shape.entities,
+                MessageKind.COMPARABLE to shape.comparables,
+                MessageKind.UUID to shape.uuids
+            ),
+            rest = MessageKind.PLAIN,
+            random
+        ).iterator()
+        val marked = distribute(modelMessages, listOf(true to shape.isOption), false, random)
+            .iterator()
+        val everyIs = distribute(modelFiles, listOf(true to shape.everyIsOption), false, random)
+            .iterator()
+        val result = linkedMapOf<String, String>()
+        fileKinds.forEachIndexed { index, kind ->
+            val prefix = "S$index"
+            val messages = List(shape.messagesPerFile) { number ->
+                if (kind == FileKind.MODEL) {
+                    Message(prefix, number, messageKinds.next(), marked.next())
+                } else {
+                    Message(prefix, number, kind.messageKind, marked = false)
+                }
+            }
+            val withEveryIs = kind == FileKind.MODEL && everyIs.next()
+            result["$DIR/s${index}_${kind.suffix}.proto"] =
+                fileText(prefix, kind, withEveryIs, messages)
+        }
+        if (shape.isOption > 0.0) {
+            result["$DIR/markers.proto"] = markersText()
+        }
+        return result
+    }
+
+    private fun fileText(
+        prefix: String,
+        kind: FileKind,
+        withEveryIs: Boolean,
+        messages: List<Message>
+    ): String = buildString {
+        appendHeader()
+        if (kind == FileKind.REJECTIONS) {
+            appendLine("option java_outer_classname = \"${prefix}Rejections\";")
+            appendLine("option java_multiple_files = false;")
+        } else {
+            appendLine("option java_outer_classname = \"${prefix}${kind.outerSuffix}Proto\";")
+            appendLine("option java_multiple_files = true;")
+        }
+        if (withEveryIs) {
+            appendLine()
+            appendLine("option (every_is) = {")
+            appendLine("    java_type: \"$JAVA_PACKAGE.${prefix}Type\"")
+            appendLine("    generate: true")
+            appendLine("};")
+        }
+        messages.forEach {
+            appendLine()
+            appendMessage(it)
+        }
+    }
+
+    private fun markersText(): String = buildString {
+        appendHeader()
+        appendLine("option java_outer_classname = \"MarkersProto\";")
+        appendLine("option java_multiple_files = true;")
+        appendLine()
+        appendLine("option (every_is) = {")
+        appendLine("    java_type: \"$JAVA_PACKAGE.$MARKER\"")
+        appendLine("    generate: true")
+        appendLine("};")
+        appendLine()
+        appendLine("message Marked {")
+        appendLine("    string value = 1;")
+        appendLine("}")
+    }
+
+    private fun StringBuilder.appendHeader() {
+        appendLine("syntax = \"proto3\";")
+        appendLine()
+        appendLine("package $PROTO_PACKAGE;")
+        appendLine()
+        appendLine("import \"spine/options.proto\";")
+        appendLine()
+        appendLine("option (type_url_prefix) = \"type.spine.io\";")
+        appendLine("option java_package = \"$JAVA_PACKAGE\";")
+    }
+
+    private fun StringBuilder.appendMessage(message: Message) {
+        appendLine("message ${message.name} {")
+        val scalars = List(shape.fieldsPerMessage) { Field(it) }
+        when (message.kind) {
+            MessageKind.ENTITY -> appendLine("    option (entity).kind = PROJECTION;")
+            MessageKind.COMPARABLE -> {
+                appendLine("    option (compare_by) = {")
+                scalars.forEach { appendLine("        field: \"${it.name}\"") }
+                appendLine("    };")
+            }
+            else -> Unit
+        }
+        if (message.marked) {
+            appendLine("    option (is).java_type = \"$JAVA_PACKAGE.$MARKER\";")
+        }
+        appendLine()
+        if (message.kind == MessageKind.UUID) {
+            appendLine("    string uuid = 1;")
+            appendLine("}")
+            return
+        }
+        var number = 1
+        if (message.kind.hasId) {
+            appendLine("    string id = ${number++};")
+        }
+        scalars.forEach {
+            val column = if (message.kind == MessageKind.ENTITY) " [(.column) = true]" else ""
+            appendLine("    ${it.type} ${it.name} = ${number++}$column;")
+        }
+        if (shape.nestingDepth > 0) {
+            appendLine("    Detail1 detail = $number;")
+            appendNested(level = 1, indent = "    ")
+        }
+        appendLine("}")
+    }
+
+    private fun StringBuilder.appendNested(level: Int, indent: String) {
+        appendLine()
+        appendLine("${indent}message Detail$level {")
+        appendLine("$indent    string value = 1;")
+        if (level < shape.nestingDepth) {
+            appendLine("$indent    Detail${level + 1} detail = 2;")
+            appendNested(level + 1, "$indent    ")
+        }
+        appendLine("$indent}")
+    }
+
+    private companion object {
+        const val DIR = "spine/tools/scaling"
+        const val PROTO_PACKAGE = "spine.tools.scaling"
+        const val JAVA_PACKAGE = "io.spine.tools.core.jvm.scaling.given"
+        const val MARKER = "Marker"
+    }
+}
+
+/**
+ * Creates a list of the given [size] which contains the kinds in the given fractions,
+ * filling the rest with the [rest] kind, and shuffles it with the given [random].
+ */
+private fun <T> distribute(
+    size: Int,
+    fractions: List<Pair<T, Double>>,
+    rest: T,
+    random: Random
+): List<T> {
+    val result = mutableListOf<T>()
+    fractions.forEach { (kind, fraction) ->
+        repeat((size * fraction).roundToInt()) { result.add(kind) }
+    }
+    while (result.size < size) {
+        result.add(rest)
+    }
+    return result.take(size).shuffled(random)
+}
+
+private enum class FileKind(
+    val suffix: String,
+    val outerSuffix: String,
+    val messageKind: MessageKind
+) {
+    MODEL("model", "Model", MessageKind.PLAIN),
+    COMMANDS("commands", "Commands", MessageKind.COMMAND),
+    EVENTS("events", "Events", MessageKind.EVENT),
+    REJECTIONS("rejections", "Rejections", MessageKind.REJECTION)
+}
+
+private enum class MessageKind(val title: String, val hasId: Boolean) {
+    PLAIN("Message", hasId = false),
+    ENTITY("Entity", hasId = true),
+    COMPARABLE("Sorted", hasId = false),
+    UUID("Id", hasId = false),
+    COMMAND("Command", hasId = true),
+    EVENT("Event", hasId = true),
+    REJECTION("Rejection", hasId = true)
+}
+
+private class Message(
+    prefix: String,
+    number: Int,
+    val kind: MessageKind,
+    val marked: Boolean
+) {
+    val name = "$prefix${kind.title}$number"
+}
+
+/**
+ * A scalar field of a top-level message.
+ *
+ * The types of the fields cycle through the types supported by
+ * both `(compare_by)` and `(column)` options.
+ */
+private class Field(index: Int) {
+    val name = "field_${index + 1}"
+    val type = SCALAR_TYPES[index % SCALAR_TYPES.size]
+}
+
+private val SCALAR_TYPES = listOf("string", "int32", "int64", "bool", "double")
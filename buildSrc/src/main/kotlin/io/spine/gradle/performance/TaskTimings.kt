@@ -0,0 +1,128 @@
+/*
+ * Copyright 2026, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.gradle.performance
+
+import com.fasterxml.jackson.databind.ObjectMapper
+import com.fasterxml.jackson.databind.SerializationFeature.INDENT_OUTPUT
+import java.io.File
+import java.util.concurrent.ConcurrentHashMap
+import javax.inject.Inject
+import org.gradle.api.Plugin
+import org.gradle.api.Project
+import org.gradle.api.file.RegularFileProperty
+import org.gradle.api.services.BuildService
+import org.gradle.api.services.BuildServiceParameters
+import org.gradle.build.event.BuildEventsListenerRegistry
+import org.gradle.tooling.events.FinishEvent
+import org.gradle.tooling.events.OperationCompletionListener
+import org.gradle.tooling.events.task.TaskFinishEvent
+
+/**
+ * Records the wall time of the tasks executed in a build.
+ *
+ * When the build completes, the durations are written as JSON to
+ * the [output file][Parameters.outputFile] by the paths of the tasks.
+ *
+ * @see TaskTimingsPlugin
+ */
+abstract class TaskTimings :
+    BuildService<TaskTimings.Parameters>,
+    OperationCompletionListener,
+    AutoCloseable {
+
+    private val durations = ConcurrentHashMap<String, Long>()
+
+    override fun onFinish(event: FinishEvent) {
+        if (event is TaskFinishEvent) {
+            val result = event.result
+            durations[event.descriptor.taskPath] = result.endTime - result.startTime
+        }
+    }
+
+    override fun close() {
+        val file = parameters.outputFile.get().asFile
+        file.parentFile.mkdirs()
+        ObjectMapper()
+            .enable(INDENT_OUTPUT)
+            .writeValue(file, durations.toSortedMap())
+    }
+
+    /**
+     * The parameters of [TaskTimings].
+     */
+    interface Parameters : BuildServiceParameters {
+
+        /**
+         * The file to write the durations of the tasks into.
+         */
+        val outputFile: RegularFileProperty
+    }
+
+    companion object {
+
+        /**
+         * The name of the Gradle property with the path to the file for the durations.
+         */
+        const val FILE_PROPERTY = "taskTimingsFile"
+
+        /**
+         * Reads the durations of the tasks in milliseconds written to the given [file].
+         */
+        internal fun read(file: File): Map<String, Long> =
+            ObjectMapper().readTree(file).properties().associate { (path, millis) ->
+                path to millis.asLong()
+            }
+    }
+}
+
+/**
+ * Records the durations of the tasks of the build by [TaskTimings] if
+ * the [TaskTimings.FILE_PROPERTY] Gradle property is set.
+ *
+ * Usage example:
+ *
+ * ```
+ * apply<TaskTimingsPlugin>()
+ * ```
+ *
+ * Then, run the build with `-PtaskTimingsFile=<path>`.
+ */
+abstract class TaskTimingsPlugin @Inject constructor(
+    private val listeners: BuildEventsListenerRegistry
+) : Plugin<Project> {
+
+    override fun apply(project: Project) {
+        val path = project.providers.gradleProperty(TaskTimings.FILE_PROPERTY).orNull ?: return
+        val timings = project.gradle.sharedServices.registerIfAbsent(
+            "taskTimings",
+            TaskTimings::class.java
+        ) {
+            parameters.outputFile.set(File(path))
+        }
+        listeners.onTaskCompletion(timings)
+    }
+}
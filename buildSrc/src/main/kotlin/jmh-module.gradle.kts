@@ -0,0 +1,72 @@
+/*
+ * Copyright 2026, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+import io.spine.dependency.test.Jmh
+import net.ltgt.gradle.errorprone.errorprone
+import org.jetbrains.kotlin.gradle.dsl.KotlinJvmProjectExtension
+
+/*
+ * Configures the JMH benchmarks placed under the `src/jmh` directory of a module.
+ *
+ * The benchmarks are not run by the `build` task. Use the `jmh` task to run them,
+ * optionally passing the `jmhIncludes` Gradle property with a regular expression
+ * matching the names of the benchmarks to run. The results are written as JSON to
+ * `build/reports/jmh/results.json`, so that they can be compared between versions.
+ *
+ * In a Kotlin module, the benchmarks can access the `internal` declarations of
+ * the `main` source set, as tests do.
+ */
+
+plugins {
+    id("me.champeau.jmh")
+}
+
+jmh {
+    // The plugin generates the benchmark harness from the compiled classes,
+    // so no annotation processor is needed.
+    jmhVersion.set(Jmh.version)
+    resultFormat.set("JSON")
+    resultsFile.set(layout.buildDirectory.file("reports/jmh/results.json"))
+    fork.set(1)
+    warmupIterations.set(3)
+    iterations.set(5)
+    providers.gradleProperty("jmhIncludes").orNull?.let {
+        includes.add(it)
+    }
+}
+
+plugins.withId("org.jetbrains.kotlin.jvm") {
+    extensions.getByType<KotlinJvmProjectExtension>().target.compilations.run {
+        getByName("jmh").associateWith(getByName("main"))
+    }
+}
+
+// The code generated by JMH is not under a `generated` directory skipped by Error Prone.
+plugins.withId("net.ltgt.errorprone") {
+    tasks.named<JavaCompile>("jmhCompileGeneratedClasses") {
+        options.errorprone.isEnabled.set(false)
+    }
+}
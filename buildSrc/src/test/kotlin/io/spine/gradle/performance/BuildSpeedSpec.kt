@@ -0,0 +1,122 @@
+/*
+ * Copyright 2026, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.gradle.performance
+
+import io.kotest.matchers.collections.shouldBeEmpty
+import io.kotest.matchers.collections.shouldContainExactly
+import io.kotest.matchers.doubles.plusOrMinus
+import io.kotest.matchers.shouldBe
+import io.kotest.matchers.string.shouldContain
+import java.nio.file.Path
+import org.junit.jupiter.api.DisplayName
+import org.junit.jupiter.api.Test
+import org.junit.jupiter.api.io.TempDir
+
+@DisplayName("`BuildSpeed` should")
+class BuildSpeedSpec {
+
+    private val baseline = BuildSpeed(
+        tasks = mapOf(
+            COMPILER to Sample(1000.0, 20.0, 5),
+            KSP to Sample(500.0, 10.0, 5)
+        ),
+        plugins = mapOf(SIGNAL to 300.0, ENTITY to 200.0)
+    )
+
+    @Test
+    fun `compute the mean and the deviation of durations`() {
+        val sample = Sample.of(listOf(90, 100, 110))
+
+        sample.mean shouldBe 100.0
+        sample.deviation shouldBe (10.0 plusOrMinus 0.001)
+        sample.runs shouldBe 3
+    }
+
+    @Test
+    fun `detect a task regressed past the threshold`() {
+        val current = BuildSpeed(
+            tasks = mapOf(
+                COMPILER to Sample(1200.0, 20.0, 5),
+                KSP to Sample(510.0, 10.0, 5)
+            ),
+            plugins = mapOf()
+        )
+
+        current.compareWith(baseline, threshold = 0.1).regressions shouldContainExactly
+                listOf(COMPILER)
+    }
+
+    @Test
+    fun `not fail on a growth within the deviation of the measurements`() {
+        val current = BuildSpeed(
+            tasks = mapOf(COMPILER to Sample(1150.0, 200.0, 5)),
+            plugins = mapOf()
+        )
+
+        current.compareWith(baseline, threshold = 0.1).regressions.shouldBeEmpty()
+    }
+
+    @Test
+    fun `not fail on a task missing in the baseline`() {
+        val current = BuildSpeed(
+            tasks = mapOf(":scaling:compileJava" to Sample(3000.0, 0.0, 5)),
+            plugins = mapOf()
+        )
+
+        current.compareWith(baseline, threshold = 0.1).regressions.shouldBeEmpty()
+    }
+
+    @Test
+    fun `list the plugins taking the extra time first`() {
+        val current = BuildSpeed(
+            tasks = baseline.tasks,
+            plugins = mapOf(SIGNAL to 310.0, ENTITY to 400.0)
+        )
+
+        val report = current.compareWith(baseline, threshold = 0.1).report()
+
+        report shouldContain "threshold: 10%"
+        report.indexOf(ENTITY) shouldBe report.indexOf("plugins:") + "plugins:\n  ".length
+        report shouldContain "+200 ms"
+    }
+
+    @Test
+    fun `store the measurements`(@TempDir dir: Path) {
+        val file = dir.resolve("baseline.json").toFile()
+
+        baseline.writeTo(file)
+        val read = BuildSpeed.read(file)
+
+        read.tasks shouldBe baseline.tasks
+        read.plugins shouldBe baseline.plugins
+    }
+}
+
+private const val COMPILER = ":scaling:launchSpineCompiler"
+private const val KSP = ":scaling:kspKotlin"
+private const val SIGNAL = "io.spine.tools.core.jvm.signal"
+private const val ENTITY = "io.spine.tools.core.jvm.entity"
@@ -0,0 +1,143 @@
+/*
+ * Copyright 2026, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.gradle.performance
+
+import io.kotest.assertions.throwables.shouldThrow
+import io.kotest.matchers.collections.shouldHaveSize
+import io.kotest.matchers.maps.shouldContainKey
+import io.kotest.matchers.maps.shouldNotContainKey
+import io.kotest.matchers.shouldBe
+import io.kotest.matchers.string.shouldContain
+import io.kotest.matchers.string.shouldNotContain
+import java.nio.file.Path
+import org.junit.jupiter.api.DisplayName
+import org.junit.jupiter.api.Test
+import org.junit.jupiter.api.io.TempDir
+
+@DisplayName("`SyntheticSchema` should")
+class SyntheticSchemaSpec {
+
+    private val shape = SchemaShape(
+        files = 8,
+        messagesPerFile = 10,
+        commands = 0.25,
+        events = 0.25,
+        rejections = 0.125,
+        entities = 0.2,
+        comparables = 0.1,
+        uuids = 0.3,
+        isOption = 0.1,
+        everyIsOption = 0.4
+    )
+
+    private val files = SyntheticSchema(shape).files
+
+    @Test
+    fun `produce files of the kinds in the given fractions`() {
+        files.keys.count { it.endsWith("_commands.proto") } shouldBe 2
+        files.keys.count { it.endsWith("_events.proto") } shouldBe 2
+        files.keys.count { it.endsWith("_rejections.proto") } shouldBe 1
+        files.keys.count { it.endsWith("_model.proto") } shouldBe 3
+    }
+
+    @Test
+    fun `produce model messages of the kinds in the given fractions`() {
+        val text = files.values.joinToString("\n")
+
+        text.count("option (entity).kind = PROJECTION;") shouldBe 6
+        text.count("option (compare_by) = {") shouldBe 3
+        text.count("string uuid = 1;") shouldBe 9
+        text.count("option (is).java_type") shouldBe 3
+        text.count("option (every_is) = {") shouldBe 2
+    }
+
+    @Test
+    fun `declare the given number of messages in each file`() {
+        val generated = files.filterKeys { !it.endsWith("markers.proto") }
+        generated.values.forEach {
+            Regex("^message ", RegexOption.MULTILINE).findAll(it).toList() shouldHaveSize 10
+        }
+    }
+
+    @Test
+    fun `nest messages to the given depth`() {
+        val nested = SyntheticSchema(shape.copy(nestingDepth = 3)).files.values.joinToString()
+
+        nested shouldContain "\n            message Detail3 {"
+        nested shouldNotContain "Detail4"
+    }
+
+    @Test
+    fun `add the file generating the marker interface only if it is used`() {
+        files shouldContainKey "spine/tools/scaling/markers.proto"
+        SyntheticSchema(shape.copy(isOption = 0.0)).files shouldNotContainKey
+                "spine/tools/scaling/markers.proto"
+    }
+
+    @Test
+    fun `declare rejections in the outer class`() {
+        val rejections = files.filterKeys { it.endsWith("_rejections.proto") }.values.single()
+
+        rejections shouldContain "option java_multiple_files = false;"
+        rejections shouldContain Regex("option java_outer_classname = \"S\\d+Rejections\";")
+    }
+
+    @Test
+    fun `produce the same schema for the same shape`() {
+        SyntheticSchema(shape).files shouldBe files
+    }
+
+    @Test
+    fun `multiply the number of files when scaled`() {
+        val scaled = SyntheticSchema(shape.scaled(4)).files
+
+        scaled.keys.count { it.endsWith("_commands.proto") } shouldBe 8
+        scaled.keys.count { it.endsWith("_model.proto") } shouldBe 12
+    }
+
+    @Test
+    fun `write the files under the given directory`(@TempDir dir: Path) {
+        SyntheticSchema(shape).writeTo(dir.toFile())
+
+        files.forEach { (path, text) ->
+            dir.resolve(path).toFile().readText() shouldBe text
+        }
+    }
+
+    @Test
+    fun `reject fractions exceeding the whole`() {
+        shouldThrow<IllegalArgumentException> {
+            SchemaShape(entities = 0.5, comparables = 0.3, uuids = 0.3)
+        }
+        shouldThrow<IllegalArgumentException> {
+            SchemaShape(commands = 1.5)
+        }
+    }
+}
+
+private fun String.count(substring: String): Int =
+    split(substring).size - 1
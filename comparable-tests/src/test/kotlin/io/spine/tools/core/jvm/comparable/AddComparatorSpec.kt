@@ -85,10 +85,11 @@ internal class AddComparatorSpec {
         @Test
         fun `primitives and enums`() {
             val message = fqnName<Account>()
+            val instance = instanceName(message)
             val expected = "private static final java.util.Comparator<$message> comparator = " +
-                    "java.util.Comparator.comparing($message::getActualData)" +
-                    ".thenComparing($message::getStatus)" +
-                    ".thenComparing($message::getTaxNumber)" +
+                    "((java.util.Comparator<$message>) ($message left, $message right) -> java.lang.Boolean.compare(left.getActualData(), right.getActualData()))" +
+                    ".thenComparingInt(($message $instance) -> $instance.getStatus().ordinal())" +
+                    ".thenComparingInt($message::getTaxNumber)" +
                     ".thenComparing($message::getName);"
             assertComparator(message, expected)
         }
@@ -115,13 +116,13 @@ internal class AddComparatorSpec {
             val message = fqnName<WithValues>()
             val instance = instanceName(message)
             val expected = "private static final java.util.Comparator<$message> comparator = " +
-                    "java.util.Comparator.comparing(($message $instance) -> $instance.getBool().getValue())" +
-                    ".thenComparing(($message $instance) -> $instance.getDouble().getValue())" +
-                    ".thenComparing(($message $instance) -> $instance.getFloat().getValue())" +
-                    ".thenComparing(($message $instance) -> $instance.getInt32().getValue())" +
-                    ".thenComparing(($message $instance) -> $instance.getInt64().getValue())" +
-                    ".thenComparing(($message $instance) -> $instance.getUint32().getValue())" +
-                    ".thenComparing(($message $instance) -> $instance.getUint64().getValue())" +
+                    "((java.util.Comparator<$message>) ($message left, $message right) -> java.lang.Boolean.compare(left.getBool().getValue(), right.getBool().getValue()))" +
+                    ".thenComparingDouble(($message $instance) -> $instance.getDouble().getValue())" +
+                    ".thenComparingDouble(($message $instance) -> $instance.getFloat().getValue())" +
+                    ".thenComparingInt(($message $instance) -> $instance.getInt32().getValue())" +
+                    ".thenComparingLong(($message $instance) -> $instance.getInt64().getValue())" +
+                    ".thenComparingInt(($message $instance) -> $instance.getUint32().getValue())" +
+                    ".thenComparingLong(($message $instance) -> $instance.getUint64().getValue())" +
                     ".thenComparing(($message $instance) -> $instance.getString().getValue());"
             assertComparator(message, expected)
         }
@@ -130,7 +131,7 @@ internal class AddComparatorSpec {
         fun `reversed comparison`() {
             val message = fqnName<Debtor>()
             val expected = "private static final java.util.Comparator<$message> comparator = " +
-                    "java.util.Comparator.comparing($message::getSum)" +
+                    "java.util.Comparator.comparingDouble($message::getSum)" +
                     ".thenComparing($message::getName)" +
                     ".reversed();"
             assertComparator(message, expected)
@@ -146,9 +147,9 @@ internal class AddComparatorSpec {
             val instance = instanceName(message)
             val expected = "private static final java.util.Comparator<$message> comparator = " +
                     "java.util.Comparator.comparing(($message $instance) -> $instance.getResidence().getRegion())" +
-                    ".thenComparing(($message $instance) -> $instance.getResidence().getAddress().getIsActual())" +
+                    ".thenComparing(($message left, $message right) -> java.lang.Boolean.compare(left.getResidence().getAddress().getIsActual(), right.getResidence().getAddress().getIsActual()))" +
                     ".thenComparing(($message $instance) -> $instance.getResidence().getAddress().getCity())" +
-                    ".thenComparing(($message $instance) -> $instance.getResidence().getName().getStructure())" +
+                    ".thenComparingInt(($message $instance) -> $instance.getResidence().getName().getStructure().ordinal())" +
                     ".thenComparing(($message $instance) -> $instance.getResidence().getName());"
             assertComparator(message, expected)
         }
@@ -169,13 +170,13 @@ internal class AddComparatorSpec {
             val message = fqnName<NestedValues>()
             val instance = instanceName(message)
             val expected = "private static final java.util.Comparator<$message> comparator = " +
-                    "java.util.Comparator.comparing(($message $instance) -> $instance.getNested().getBool().getValue())" +
-                    ".thenComparing(($message $instance) -> $instance.getNested().getDouble().getValue())" +
-                    ".thenComparing(($message $instance) -> $instance.getNested().getFloat().getValue())" +
-                    ".thenComparing(($message $instance) -> $instance.getNested().getInt32().getValue())" +
-                    ".thenComparing(($message $instance) -> $instance.getNested().getInt64().getValue())" +
-                    ".thenComparing(($message $instance) -> $instance.getNested().getUint32().getValue())" +
-                    ".thenComparing(($message $instance) -> $instance.getNested().getUint64().getValue())" +
+                    "((java.util.Comparator<$message>) ($message left, $message right) -> java.lang.Boolean.compare(left.getNested().getBool().getValue(), right.getNested().getBool().getValue()))" +
+                    ".thenComparingDouble(($message $instance) -> $instance.getNested().getDouble().getValue())" +
+                    ".thenComparingDouble(($message $instance) -> $instance.getNested().getFloat().getValue())" +
+                    ".thenComparingInt(($message $instance) -> $instance.getNested().getInt32().getValue())" +
+                    ".thenComparingLong(($message $instance) -> $instance.getNested().getInt64().getValue())" +
+                    ".thenComparingInt(($message $instance) -> $instance.getNested().getUint32().getValue())" +
+                    ".thenComparingLong(($message $instance) -> $instance.getNested().getUint64().getValue())" +
                     ".thenComparing(($message $instance) -> $instance.getNested().getString().getValue());"
             assertComparator(message, expected)
         }
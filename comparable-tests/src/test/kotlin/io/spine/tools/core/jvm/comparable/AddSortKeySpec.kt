@@ -0,0 +1,158 @@
+/*
+ * Copyright 2026, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.tools.core.jvm.comparable
+
+import com.intellij.psi.PsiClass
+import com.intellij.psi.PsiMethod
+import io.kotest.matchers.collections.shouldBeEmpty
+import io.kotest.matchers.collections.shouldHaveSize
+import io.kotest.matchers.nulls.shouldNotBeNull
+import io.kotest.matchers.string.shouldContain
+import io.spine.tools.core.jvm.comparable.action.AddSortKey
+import io.spine.tools.core.jvm.comparable.given.Account
+import io.spine.tools.core.jvm.comparable.given.AccountId
+import io.spine.tools.core.jvm.comparable.given.Debtor
+import io.spine.tools.core.jvm.comparable.given.Invalid
+import io.spine.tools.core.jvm.comparable.given.InvalidNested
+import io.spine.tools.core.jvm.comparable.given.Name
+import io.spine.tools.core.jvm.comparable.given.NestedValues
+import io.spine.tools.core.jvm.comparable.given.WithTimestampAndDuration
+import io.spine.tools.psi.java.method
+import java.nio.file.Path
+import org.junit.jupiter.api.BeforeAll
+import org.junit.jupiter.api.DisplayName
+import org.junit.jupiter.api.Nested
+import org.junit.jupiter.api.Test
+import org.junit.jupiter.api.io.TempDir
+
+@Suppress("MaxLineLength") // To keep the generated statements "as is".
+@DisplayName("`AddSortKey` should")
+internal class AddSortKeySpec {
+
+    companion object : ComparablePluginTestSetup(AddSortKey::class) {
+
+        @BeforeAll
+        @JvmStatic
+        fun setup(@TempDir projectDir: Path) {
+            muteLogging {
+                runPipeline(
+                    projectDir,
+                    excludedDescriptors = listOf(
+                        Invalid.getDescriptor(),
+                        InvalidNested.getDescriptor(),
+                        Name.getDescriptor()
+                    )
+                )
+            }
+        }
+    }
+
+    @Test
+    fun `add the methods writing the sort key`() {
+        val cls = generatedCodeOf(Account.getDescriptor().name)
+        cls.findMethodsByName("writeSortKey").shouldHaveSize(1)
+        cls.findMethodsByName("sortKeySize").shouldHaveSize(1)
+        cls.findMethodsByName("sortKey").shouldHaveSize(1)
+    }
+
+    @Nested inner class
+    `encode` {
+
+        @Test
+        fun `primitives and enums preserving their order`() {
+            val method = methodOf(Account.getDescriptor().name, "writeSortKey")
+            method.text shouldContain
+                    "buffer.put(this.getActualData() ? (byte) 1 : (byte) 0);"
+            method.text shouldContain
+                    "buffer.putInt(this.getStatus().ordinal());"
+            method.text shouldContain
+                    "buffer.putInt(this.getTaxNumber() ^ java.lang.Integer.MIN_VALUE);"
+            method.text shouldContain
+                    "putSortKeyString(buffer, this.getName());"
+        }
+
+        @Test
+        fun `floating point numbers by their bits`() {
+            val method = methodOf(Debtor.getDescriptor().name, "writeSortKey")
+            method.text shouldContain
+                    "long local1 = java.lang.Double.doubleToLongBits(this.getSum());"
+            method.text shouldContain
+                    "buffer.putLong(local1 ^ ((local1 >> 63) | java.lang.Long.MIN_VALUE));"
+        }
+
+        @Test
+        fun `the values of well-known wrappers`() {
+            val method = methodOf(NestedValues.getDescriptor().name, "writeSortKey")
+            method.text shouldContain
+                    "buffer.putLong(this.getNested().getInt64().getValue() ^ java.lang.Long.MIN_VALUE);"
+            method.text shouldContain
+                    "putSortKeyString(buffer, this.getNested().getString().getValue());"
+        }
+
+        @Test
+        fun `'Timestamp' and 'Duration' by seconds and nanos`() {
+            val method = methodOf(WithTimestampAndDuration.getDescriptor().name, "writeSortKey")
+            method.text shouldContain
+                    "buffer.putLong(this.getTimestamp().getSeconds() ^ java.lang.Long.MIN_VALUE);"
+            method.text shouldContain
+                    "buffer.putInt(this.getTimestamp().getNanos() ^ java.lang.Integer.MIN_VALUE);"
+        }
+
+        @Test
+        fun `the descending order by inverting the bytes`() {
+            val method = methodOf(Debtor.getDescriptor().name, "writeSortKey")
+            method.text shouldContain "int local0 = buffer.position();"
+            method.text shouldContain "invertSortKey(buffer, local0);"
+        }
+    }
+
+    @Test
+    fun `compute the size of the sort key`() {
+        val method = methodOf(Account.getDescriptor().name, "sortKeySize")
+        method.text shouldContain "return 9 + sortKeyStringSize(this.getName());"
+    }
+
+    @Test
+    fun `add helper methods only when needed`() {
+        val cls = generatedCodeOf(WithTimestampAndDuration.getDescriptor().name)
+        cls.findMethodsByName("putSortKeyString").shouldBeEmpty()
+        cls.findMethodsByName("invertSortKey").shouldBeEmpty()
+    }
+
+    @Test
+    fun `ignore messages without the option`() {
+        val cls = generatedCodeOf(AccountId.getDescriptor().name)
+        cls.findMethodsByName("writeSortKey").shouldBeEmpty()
+    }
+
+    private fun methodOf(message: String, name: String): PsiMethod {
+        val cls: PsiClass = generatedCodeOf(message)
+        val method = cls.method(name)
+        method.shouldNotBeNull()
+        return method
+    }
+}
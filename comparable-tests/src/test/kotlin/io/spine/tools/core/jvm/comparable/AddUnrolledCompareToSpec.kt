@@ -0,0 +1,155 @@
+/*
+ * Copyright 2026, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.tools.core.jvm.comparable
+
+import com.google.protobuf.Timestamp
+import com.intellij.psi.PsiMethod
+import com.intellij.psi.PsiModifier
+import io.kotest.matchers.booleans.shouldBeTrue
+import io.kotest.matchers.collections.shouldBeEmpty
+import io.kotest.matchers.nulls.shouldNotBeNull
+import io.kotest.matchers.shouldBe
+import io.kotest.matchers.string.shouldContain
+import io.kotest.matchers.string.shouldNotContain
+import io.spine.tools.core.jvm.comparable.action.AddUnrolledCompareTo
+import io.spine.tools.core.jvm.comparable.given.Account
+import io.spine.tools.core.jvm.comparable.given.AccountId
+import io.spine.tools.core.jvm.comparable.given.Debtor
+import io.spine.tools.core.jvm.comparable.given.Invalid
+import io.spine.tools.core.jvm.comparable.given.InvalidNested
+import io.spine.tools.core.jvm.comparable.given.Name
+import io.spine.tools.core.jvm.comparable.given.Traveler
+import io.spine.tools.core.jvm.comparable.given.WithTimestampAndDuration
+import io.spine.tools.psi.java.method
+import java.nio.file.Path
+import org.junit.jupiter.api.BeforeAll
+import org.junit.jupiter.api.DisplayName
+import org.junit.jupiter.api.Nested
+import org.junit.jupiter.api.Test
+import org.junit.jupiter.api.io.TempDir
+
+@Suppress("MaxLineLength") // To keep the generated statements "as is".
+@DisplayName("`AddUnrolledCompareTo` should")
+internal class AddUnrolledCompareToSpec {
+
+    companion object : ComparablePluginTestSetup(AddUnrolledCompareTo::class) {
+
+        @BeforeAll
+        @JvmStatic
+        fun setup(@TempDir projectDir: Path) {
+            muteLogging {
+                runPipeline(
+                    projectDir,
+                    excludedDescriptors = listOf(
+                        Invalid.getDescriptor(),
+                        InvalidNested.getDescriptor(),
+                        Name.getDescriptor()
+                    )
+                )
+            }
+        }
+    }
+
+    @Nested inner class
+    `compare fields one by one` {
+
+        @Test
+        fun `returning as soon as a field differs`() {
+            val method = compareToOf(Account.getDescriptor().name)
+            method.text shouldContain "public int compareTo(Account other) {"
+            method.text shouldContain
+                    "int result = java.lang.Boolean.compare(this.getActualData(), other.getActualData());"
+            method.text shouldContain "if (result != 0) {"
+            method.text shouldContain "return result;"
+            method.text shouldNotContain "comparator"
+        }
+
+        @Test
+        fun `comparing primitives without boxing`() {
+            val method = compareToOf(Account.getDescriptor().name)
+            method.text shouldContain
+                    "result = java.lang.Integer.compare(this.getStatus().ordinal(), other.getStatus().ordinal());"
+            method.text shouldContain
+                    "result = java.lang.Integer.compare(this.getTaxNumber(), other.getTaxNumber());"
+            method.text shouldContain
+                    "return this.getName().compareTo(other.getName());"
+        }
+
+        @Test
+        fun `reading nested fields through getters`() {
+            val method = compareToOf(Traveler.getDescriptor().name)
+            method.text shouldContain
+                    "int result = this.getResidence().getRegion().compareTo(other.getResidence().getRegion());"
+            method.text shouldContain
+                    "result = java.lang.Boolean.compare(this.getResidence().getAddress().getIsActual(), other.getResidence().getAddress().getIsActual());"
+            method.text shouldContain
+                    "return this.getResidence().getName().compareTo(other.getResidence().getName());"
+        }
+
+        @Test
+        fun `using comparators from the registry kept in static fields`() {
+            val message = WithTimestampAndDuration.getDescriptor().name
+            val method = compareToOf(message)
+            method.text shouldContain
+                    "int result = TIMESTAMP_COMPARATOR.compare(this.getTimestamp(), other.getTimestamp());"
+            method.text shouldNotContain "ComparatorRegistry"
+
+            val field = generatedCodeOf(message).findFieldByName("TIMESTAMP_COMPARATOR", false)
+            field.shouldNotBeNull()
+            field.hasModifierProperty(PsiModifier.PRIVATE).shouldBeTrue()
+            field.hasModifierProperty(PsiModifier.STATIC).shouldBeTrue()
+            field.hasModifierProperty(PsiModifier.FINAL).shouldBeTrue()
+            val timestamp = Timestamp::class.java.canonicalName
+            field.initializer!!.text shouldBe
+                    "io.spine.compare.ComparatorRegistry.get($timestamp.class)"
+        }
+
+        @Test
+        fun `swapping the messages for the descending order`() {
+            val method = compareToOf(Debtor.getDescriptor().name)
+            method.text shouldContain
+                    "int result = java.lang.Double.compare(other.getSum(), this.getSum());"
+            method.text shouldContain
+                    "return other.getName().compareTo(this.getName());"
+        }
+    }
+
+    @Test
+    fun `ignore messages without the option`() {
+        val message = AccountId.getDescriptor().name
+        val cls = generatedCodeOf(message)
+        val method = cls.findMethodsByName("compareTo")
+        method.shouldBeEmpty()
+    }
+
+    private fun compareToOf(message: String): PsiMethod {
+        val psiClass = generatedCodeOf(message)
+        val method = psiClass.method("compareTo")
+        method.shouldNotBeNull()
+        return method
+    }
+}
@@ -29,6 +29,7 @@ import io.spine.dependency.local.TestLib
 plugins {
     module
     id("io.spine.core-jvm")
+    `jmh-module`
 }
 
 dependencies {
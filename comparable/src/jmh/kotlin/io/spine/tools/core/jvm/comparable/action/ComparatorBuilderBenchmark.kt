@@ -0,0 +1,99 @@
+/*
+ * Copyright 2026, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.tools.core.jvm.comparable.action
+
+import com.intellij.psi.PsiClass
+import com.intellij.psi.PsiField
+import io.spine.base.FieldPath
+import io.spine.base.fieldPath
+import io.spine.tools.compiler.jvm.ClassName
+import io.spine.tools.compiler.jvm.file.locate
+import io.spine.tools.compiler.jvm.toPsi
+import io.spine.tools.compiler.render.TextFactory.text
+import java.util.concurrent.TimeUnit.MICROSECONDS
+import org.openjdk.jmh.annotations.Benchmark
+import org.openjdk.jmh.annotations.BenchmarkMode
+import org.openjdk.jmh.annotations.Mode
+import org.openjdk.jmh.annotations.OutputTimeUnit
+import org.openjdk.jmh.annotations.Param
+import org.openjdk.jmh.annotations.Scope
+import org.openjdk.jmh.annotations.Setup
+import org.openjdk.jmh.annotations.State
+
+/**
+ * Measures building the `comparator` field of a message with
+ * the `(compare_by)` option.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(MICROSECONDS)
+open class ComparatorBuilderBenchmark {
+
+    /**
+     * The number of the fields listed in the `(compare_by)` option.
+     */
+    @Param("4", "16", "64")
+    @JvmField
+    var fieldCount: Int = 0
+
+    /**
+     * Tells if the compared fields are nested, which requires lambdas instead of
+     * method references in the generated code.
+     */
+    @Param("false", "true")
+    @JvmField
+    var nested: Boolean = false
+
+    private lateinit var cls: PsiClass
+    private lateinit var paths: List<FieldPath>
+
+    @Setup
+    fun setUp() {
+        val className = ClassName(PACKAGE, CLASS)
+        cls = text("package $PACKAGE;\n\npublic final class $CLASS {\n}\n").locate(className)!!
+        paths = (0 until fieldCount).map { index ->
+            fieldPath {
+                fieldName.add("field_$index")
+                if (nested) {
+                    fieldName.add("value")
+                }
+            }
+        }
+    }
+
+    @Benchmark
+    fun build(): PsiField {
+        val builder = ComparatorBuilder(cls)
+        paths.forEach { builder.comparingBy(it) }
+        return builder.build().toPsi()
+    }
+
+    private companion object {
+        const val PACKAGE = "io.spine.tools.core.jvm.given.synthetic"
+        const val CLASS = "Message0"
+    }
+}
@@ -39,6 +39,7 @@ import io.spine.tools.compiler.plugin.Reaction
 import io.spine.tools.compiler.settings.loadSettings
 import io.spine.tools.core.jvm.comparable.event.ComparableMessageDiscovered
 import io.spine.tools.core.jvm.comparable.event.comparableMessageDiscovered
+import io.spine.tools.core.jvm.render.PipelineMetrics
 import io.spine.tools.core.jvm.settings.Comparables
 
 /**
@@ -52,8 +53,10 @@ internal class ComparableMessageDiscovery : Reaction<TypeDiscovered>(), Comparab
     override fun whenever(
         @External event: TypeDiscovered
     ): EitherOf2<ComparableMessageDiscovered, NoReaction> {
-        val options = event.type.optionList
-        val compareBy = options.find<CompareByOption>()
+        val compareBy = PipelineMetrics.measure(this) {
+            event.type.optionList.find<CompareByOption>()
+        }
+        PipelineMetrics.reacted(this, matched = compareBy != null)
         return compareBy?.let {
             withA(
                 comparableMessageDiscovered {
@@ -34,6 +34,15 @@ import com.google.protobuf.Int64Value
 import com.google.protobuf.StringValue
 import com.google.protobuf.UInt32Value
 import com.google.protobuf.UInt64Value
+import io.spine.tools.compiler.ast.PrimitiveType
+import io.spine.tools.compiler.ast.PrimitiveType.TYPE_BOOL
+import io.spine.tools.compiler.ast.PrimitiveType.TYPE_DOUBLE
+import io.spine.tools.compiler.ast.PrimitiveType.TYPE_FLOAT
+import io.spine.tools.compiler.ast.PrimitiveType.TYPE_INT32
+import io.spine.tools.compiler.ast.PrimitiveType.TYPE_INT64
+import io.spine.tools.compiler.ast.PrimitiveType.TYPE_STRING
+import io.spine.tools.compiler.ast.PrimitiveType.TYPE_UINT32
+import io.spine.tools.compiler.ast.PrimitiveType.TYPE_UINT64
 
 /**
  * Enumerates well-known Protobuf wrappers for primitive data types.
@@ -46,20 +55,30 @@ import com.google.protobuf.UInt64Value
  */
 internal object WellKnownComparables {
 
-    private val list = listOf(
-        BoolValue::class,
-        DoubleValue::class,
-        FloatValue::class,
-        Int32Value::class,
-        Int64Value::class,
-        UInt32Value::class,
-        UInt64Value::class,
-        StringValue::class,
-    ).map { it.java }
+    private val valueTypes = mapOf(
+        BoolValue::class to TYPE_BOOL,
+        DoubleValue::class to TYPE_DOUBLE,
+        FloatValue::class to TYPE_FLOAT,
+        Int32Value::class to TYPE_INT32,
+        Int64Value::class to TYPE_INT64,
+        UInt32Value::class to TYPE_UINT32,
+        UInt64Value::class to TYPE_UINT64,
+        StringValue::class to TYPE_STRING,
+    ).mapKeys { it.key.java }
 
     /**
      * Tells if this [Class] denotes a well-known comparable.
      */
     val Class<*>.isWellKnownComparable
-        get() = list.contains(this)
+        get() = valueTypes.containsKey(this)
+
+    /**
+     * Obtains the type of the `value` field of this well-known comparable.
+     *
+     * @throws IllegalStateException if this class is not a well-known comparable.
+     */
+    val Class<*>.valueType: PrimitiveType
+        get() = checkNotNull(valueTypes[this]) {
+            "The class `$name` is not a well-known comparable."
+        }
 }
@@ -0,0 +1,77 @@
+/*
+ * Copyright 2026, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.tools.core.jvm.comparable.action
+
+import com.google.protobuf.Empty
+import io.spine.tools.compiler.ast.MessageType
+import io.spine.tools.compiler.context.CodegenContext
+import io.spine.tools.compiler.jvm.render.DirectMessageAction
+import io.spine.tools.compiler.render.SourceFile
+import io.spine.tools.code.Java
+import io.spine.tools.core.jvm.GeneratedAnnotation
+import io.spine.tools.psi.addFirst
+import io.spine.tools.psi.java.Environment.elementFactory
+import io.spine.tools.psi.java.addLast
+
+/**
+ * Adds the methods writing the sort key to the message that qualifies as [Comparable].
+ *
+ * The sort key is an array of bytes ordering the messages the same way as
+ * their `compareTo()` method when compared as unsigned bytes. It allows storages
+ * to sort and index the messages without parsing them. The following methods
+ * are added:
+ *
+ *  1. `writeSortKey(ByteBuffer)` writes the key to the given big-endian buffer.
+ *  2. `sortKeySize()` tells the number of bytes in the key.
+ *  3. `sortKey()` returns the key as a new array.
+ *
+ * The action is applied when
+ * [ComparableSettings.generateSortKeys][io.spine.tools.core.jvm.gradle.settings.ComparableSettings.generateSortKeys]
+ * is called.
+ *
+ * @param type The type of the message.
+ * @param file The source code to which the action is applied.
+ * @param context The code generation context in which this action runs.
+ *
+ * @see SortKeyBuilder
+ */
+public class AddSortKey(
+    type: MessageType,
+    file: SourceFile<Java>,
+    context: CodegenContext
+) : DirectMessageAction<Empty>(type, file, Empty.getDefaultInstance(), context) {
+
+    override fun doRender() {
+        val fields = ComparisonFields(type, typeSystem)
+        val methods = SortKeyBuilder(cls, fields, typeSystem).build()
+        methods.forEach { text ->
+            val method = elementFactory.createMethodFromText(text, cls)
+            method.addFirst(GeneratedAnnotation.forPsi())
+            cls.addLast(method)
+        }
+    }
+}
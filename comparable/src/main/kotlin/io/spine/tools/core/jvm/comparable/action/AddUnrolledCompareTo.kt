@@ -0,0 +1,84 @@
+/*
+ * Copyright 2026, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.tools.core.jvm.comparable.action
+
+import com.google.protobuf.Empty
+import io.spine.tools.compiler.ast.MessageType
+import io.spine.tools.compiler.context.CodegenContext
+import io.spine.tools.compiler.jvm.render.DirectMessageAction
+import io.spine.tools.compiler.render.SourceFile
+import io.spine.tools.code.Java
+import io.spine.tools.core.jvm.GeneratedAnnotation
+import io.spine.tools.core.jvm.OverrideAnnotation
+import io.spine.tools.psi.addFirst
+import io.spine.tools.psi.java.Environment.elementFactory
+import io.spine.tools.psi.java.addLast
+
+/**
+ * Adds `compareTo()` method, which compares the fields of the message one by one,
+ * to the message that qualifies as [Comparable].
+ *
+ * Unlike [AddCompareTo], the added method does not delegate to the static `comparator`
+ * field. It returns as soon as the values of a field differ, reading the fields through
+ * direct getter calls. The `comparator` field is still added by [AddComparator].
+ *
+ * The comparators obtained from [ComparatorRegistry][io.spine.compare.ComparatorRegistry]
+ * are resolved once, into the static fields added along with the method.
+ *
+ * The action is used instead of [AddCompareTo] when
+ * [ComparableSettings.unrollCompareTo][io.spine.tools.core.jvm.gradle.settings.ComparableSettings.unrollCompareTo]
+ * is called.
+ *
+ * @param type The type of the message.
+ * @param file The source code to which the action is applied.
+ * @param context The code generation context in which this action runs.
+ *
+ * @see CompareToBuilder
+ */
+public class AddUnrolledCompareTo(
+    type: MessageType,
+    file: SourceFile<Java>,
+    context: CodegenContext
+) : DirectMessageAction<Empty>(type, file, Empty.getDefaultInstance(), context) {
+
+    override fun doRender() {
+        val fields = ComparisonFields(type, typeSystem)
+        val compareTo = CompareToBuilder(cls, fields.descending)
+        fields.addTo(compareTo)
+        val method = elementFactory.createMethodFromText(compareTo.build(), cls)
+        method.run {
+            addFirst(OverrideAnnotation.create())
+            addFirst(GeneratedAnnotation.forPsi())
+        }
+        cls.addLast(method)
+        compareTo.comparatorFields().forEach {
+            val field = elementFactory.createFieldFromText(it, cls)
+            field.addFirst(GeneratedAnnotation.forPsi())
+            cls.addAfter(field, cls.lBrace)
+        }
+    }
+}
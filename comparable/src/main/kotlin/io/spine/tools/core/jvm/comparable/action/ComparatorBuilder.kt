@@ -29,12 +29,13 @@ package io.spine.tools.core.jvm.comparable.action
 import com.google.protobuf.Message
 import com.intellij.psi.PsiClass
 import io.spine.base.FieldPath
+import io.spine.tools.compiler.ast.PrimitiveType
 import io.spine.tools.compiler.jvm.ClassName
 import io.spine.tools.compiler.jvm.Expression
 import io.spine.tools.compiler.jvm.FieldDeclaration
+import io.spine.tools.compiler.jvm.MethodCall
 import io.spine.tools.compiler.jvm.ParameterizedTypeName
-import io.spine.tools.compiler.jvm.call
-import io.spine.string.camelCase
+import io.spine.tools.compiler.jvm.toPrimitiveName
 import io.spine.string.lowerCamelCase
 import io.spine.tools.core.jvm.base.isNotNested
 import io.spine.tools.core.jvm.base.root
@@ -48,17 +49,26 @@ import java.util.function.Function
  *
  * ```java
  * private static final java.util.Comparator<com.example.Jogging> comparator =
- *     java.util.Comparator.comparing((com.example.Jogging jogging) -> jogging.getDuration().getHours())
+ *     java.util.Comparator.comparingLong((com.example.Jogging jogging) -> jogging.getDuration().getSeconds())
  *                         .thenComparing(com.example.Jogging::getStarted)
- *                         .thenComparing(com.example.Jogging::getFinished);
+ *                         .thenComparingInt((com.example.Jogging jogging) -> jogging.getPace().ordinal())
+ *                         .thenComparing((com.example.Jogging left, com.example.Jogging right) ->
+ *                             java.lang.Boolean.compare(left.getFinished(), right.getFinished()));
  * ```
  *
+ * Fields of primitive types and enums are compared by the specialized methods of
+ * [Comparator] or by the comparison methods of the wrapper classes, so that comparing
+ * them neither boxes the field values nor dispatches to [Comparable.compareTo].
+ *
  * @param cls The message class to be used as the comparator's generic parameter.
  * @param reversed If `true`, imposes the reverse of the natural ordering.
  *  If a comparator sorts objects in ascending order, reversed will sort them
  *  in descending order.
  */
-internal class ComparatorBuilder(cls: PsiClass, private val reversed: Boolean = false) {
+internal class ComparatorBuilder(
+    cls: PsiClass,
+    private val reversed: Boolean = false
+) : ComparisonBuilder {
 
     private val message = ClassName(cls.packageName, cls.name!!)
     private val instance = message.simpleName.lowerCamelCase()
@@ -68,17 +78,17 @@ internal class ComparatorBuilder(cls: PsiClass, private val reversed: Boolean =
      * Builds a private static `comparator` Java field.
      */
     fun build(): FieldDeclaration<Comparator<Message>> {
-        val comparator = ClassName(Comparator::class)
-        var comparisons = comparator.call<Comparator<Message>>("comparing", fields.first())
+        var comparisons = fields.first().start()
         for (i in 1 until fields.size) {
-            comparisons = comparisons.chain("thenComparing", fields[i])
+            val field = fields[i]
+            comparisons = MethodCall(comparisons, field.kind.next, field.arguments)
         }
         if (reversed) {
-            comparisons = comparisons.chain("reversed")
+            comparisons = MethodCall(comparisons, "reversed")
         }
         return FieldDeclaration(
             modifiers = "private static final",
-            type = ParameterizedTypeName(comparator, message),
+            type = ParameterizedTypeName(COMPARATOR, message),
             name = "comparator",
             value = comparisons
         )
@@ -95,26 +105,79 @@ internal class ComparatorBuilder(cls: PsiClass, private val reversed: Boolean =
      * @param path The path to the field.
      * @param comparator The optional comparator to be used for the field values.
      */
-    fun comparingBy(path: FieldPath, comparator: Expression<Comparator<Any>>? = null) {
-        val extractor = if (path.isNotNested) extractField(path.root) else extractNestedField(path)
-        val comparison = FieldComparison(extractor, comparator)
+    override fun comparingBy(path: FieldPath, comparator: Expression<Comparator<Any>>?) {
+        val arguments = listOfNotNull(extractField(path), comparator)
+        fields.add(FieldComparison(ComparisonKind.OBJECT, arguments))
+    }
+
+    /**
+     * Adds the next comparing closure for the field of the given primitive [type].
+     *
+     * Numbers are compared as the Java primitives returned by the field getters,
+     * and `bool` values are compared by [java.lang.Boolean.compare].
+     * Strings are compared as [Comparable] objects.
+     *
+     * @param path The path to the field.
+     * @param type The type of the field.
+     */
+    override fun comparingBy(path: FieldPath, type: PrimitiveType) {
+        val comparison = when (type.toPrimitiveName()) {
+            "int" -> FieldComparison(ComparisonKind.INT, listOf(extractField(path)))
+            "long" -> FieldComparison(ComparisonKind.LONG, listOf(extractField(path)))
+            "float", "double" -> FieldComparison(ComparisonKind.DOUBLE, listOf(extractField(path)))
+            "boolean" -> FieldComparison(ComparisonKind.COMPARATOR, listOf(compareBooleans(path)))
+            else -> FieldComparison(ComparisonKind.OBJECT, listOf(extractField(path)))
+        }
         fields.add(comparison)
     }
 
     /**
-     * Returns a key extractor as a method reference to the getter of the given [fieldName].
+     * Adds the next comparing closure for the enum field with the given [path].
+     *
+     * The field values are compared by their ordinals, which is the natural
+     * ordering of Java enums.
+     */
+    override fun comparingByOrdinal(path: FieldPath) {
+        val ordinal = FieldExtractor("($message $instance) -> $instance.${path.getters()}.ordinal()")
+        fields.add(FieldComparison(ComparisonKind.INT, listOf(ordinal)))
+    }
+
+    /**
+     * Returns the expression starting the chain of comparisons with this field.
      */
-    private fun extractField(fieldName: String): FieldExtractor =
-        Expression("$message::${fieldName.toJavaGetter()}")
+    private fun FieldComparison.start(): Expression<Comparator<Message>> =
+        if (kind == ComparisonKind.COMPARATOR) {
+            Expression("((${ParameterizedTypeName(COMPARATOR, message)}) ${arguments.single()})")
+        } else {
+            MethodCall(COMPARATOR, kind.first, arguments)
+        }
 
     /**
-     * Returns a key extractor as a lambda expression for a nested field
-     * denoted by the given [path].
+     * Returns a key extractor for the field with the given [path].
+     *
+     * The extractor is a method reference to the getter of a top-level field,
+     * or a lambda expression for a nested field.
      */
-    private fun extractNestedField(path: FieldPath): FieldExtractor {
-        val parts = path.fieldNameList
-        val joined = parts.joinToString(".") { "${it.toJavaGetter()}()" }
-        return Expression("($message $instance) -> $instance.$joined")
+    private fun extractField(path: FieldPath): FieldExtractor =
+        if (path.isNotNested) {
+            FieldExtractor("$message::${path.root.toJavaGetter()}")
+        } else {
+            FieldExtractor("($message $instance) -> $instance.${path.getters()}")
+        }
+
+    /**
+     * Returns a comparator of the `bool` values of the field with the given [path].
+     */
+    private fun compareBooleans(path: FieldPath): FieldComparator {
+        val getters = path.getters()
+        return FieldComparator(
+            "($message left, $message right) ->" +
+                    " java.lang.Boolean.compare(left.$getters, right.$getters)"
+        )
+    }
+
+    private companion object {
+        val COMPARATOR = ClassName(Comparator::class)
     }
 }
 
@@ -127,32 +190,53 @@ internal class ComparatorBuilder(cls: PsiClass, private val reversed: Boolean =
 private typealias FieldExtractor = Expression<Function<Message, Any>>
 
 /**
- * A comparator to be used for the extracted field value.
- *
- * The comparator is not mandatory. It is passed either for the custom
- * comparison logic or for messages that are not comparable themselves.
+ * A comparator to be used for the extracted field value, or for the messages
+ * when the field values are compared by a lambda expression.
  */
 private typealias FieldComparator = Expression<Comparator<Any>>
 
 /**
- * The expressions required to perform a comparison by a specific message field.
+ * The methods of [Comparator] performing a comparison of a specific kind.
  *
- * The field [extractor] and its optional [comparator] are going to be passed
- * as arguments to Java `Comparator.comparing()` OR `thenComparing()` methods.
+ * @property first The name of the static method starting the chain of comparisons.
+ * @property next The name of the method adding the comparison to the chain.
  */
-@Suppress("JavaDefaultMethodsNotOverriddenByDelegation") // only the deprecated `toArray()`.
-private class FieldComparison(val extractor: FieldExtractor, val comparator: FieldComparator?) :
-    List<Expression<*>> by listOfNotNull(extractor, comparator)
+private enum class ComparisonKind(val first: String, val next: String) {
+
+    /**
+     * Compares the extracted values as [Comparable] objects,
+     * or using the comparator passed after the key extractor.
+     */
+    OBJECT("comparing", "thenComparing"),
+
+    /**
+     * Compares the extracted `int` values.
+     */
+    INT("comparingInt", "thenComparingInt"),
+
+    /**
+     * Compares the extracted `long` values.
+     */
+    LONG("comparingLong", "thenComparingLong"),
 
+    /**
+     * Compares the extracted `double` values.
+     */
+    DOUBLE("comparingDouble", "thenComparingDouble"),
+
+    /**
+     * Compares the messages using the comparator passed as the only argument.
+     *
+     * There is no static method of [Comparator] accepting a comparator.
+     * So, the chain is started by casting the comparator to the type of the field.
+     */
+    COMPARATOR("", "thenComparing")
+}
 
 /**
- * Converts this [String] with a Protobuf field name to a Java getter.
- *
- * For example, `my_best_field` will be converted to `getMyBestField`.
- *
- * The round brackets are omitted to allow this getter name to be used for composing
- * both a direct invocation and a method reference.
+ * The expressions required to perform a comparison by a specific message field.
  *
- * For example, `getMyBestField()` and `::getMyBestField`.
+ * The [arguments] are going to be passed to the methods of [Comparator]
+ * corresponding to the [kind] of the comparison.
  */
-private fun String.toJavaGetter() = "get${camelCase()}"
+private class FieldComparison(val kind: ComparisonKind, val arguments: List<Expression<*>>)
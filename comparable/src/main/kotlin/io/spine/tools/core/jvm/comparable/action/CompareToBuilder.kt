@@ -0,0 +1,170 @@
+/*
+ * Copyright 2026, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.tools.core.jvm.comparable.action
+
+import com.intellij.psi.PsiClass
+import io.spine.base.FieldPath
+import io.spine.tools.compiler.ast.PrimitiveType
+import io.spine.tools.compiler.jvm.Expression
+import io.spine.tools.compiler.jvm.toPrimitiveName
+
+/**
+ * Builds the text of the `compareTo()` method, which compares the fields
+ * of two messages one by one.
+ *
+ * An example of the built method:
+ *
+ * ```java
+ * public int compareTo(Jogging other) {
+ *     int result = java.lang.Long.compare(this.getDuration().getSeconds(), other.getDuration().getSeconds());
+ *     if (result != 0) {
+ *         return result;
+ *     }
+ *     result = this.getStarted().compareTo(other.getStarted());
+ *     if (result != 0) {
+ *         return result;
+ *     }
+ *     return java.lang.Boolean.compare(this.getFinished(), other.getFinished());
+ * }
+ * ```
+ *
+ * Unlike the chain of key extractors built by [ComparatorBuilder], the method
+ * reads the fields through direct getter calls and compares primitives by
+ * the static methods of the wrapper classes. There are no lambdas to be called
+ * for each field, so the JIT compiler can inline the whole comparison.
+ *
+ * The descending order is imposed by swapping the compared messages, which is
+ * the negation of the ascending order that cannot overflow.
+ *
+ * The comparators taken from [ComparatorRegistry][io.spine.compare.ComparatorRegistry]
+ * are kept in the static fields declared by [comparatorFields], so that the registry
+ * is queried once per class instead of once per comparison:
+ *
+ * ```java
+ * private static final java.util.Comparator<com.google.protobuf.Timestamp> STARTED_COMPARATOR =
+ *         io.spine.compare.ComparatorRegistry.get(com.google.protobuf.Timestamp.class);
+ * ```
+ *
+ * @param cls The message class to declare the method in.
+ * @param descending If `true`, the method imposes the reverse of the natural ordering.
+ */
+internal class CompareToBuilder(
+    cls: PsiClass,
+    private val descending: Boolean = false
+) : ComparisonBuilder {
+
+    private val message = cls.name!!
+    private val comparisons = mutableListOf<String>()
+    private val fields = mutableListOf<String>()
+
+    /**
+     * Builds the text of the `compareTo()` method.
+     */
+    fun build(): String {
+        check(comparisons.isNotEmpty()) {
+            "The `compareTo()` method of `$message` must compare at least one field."
+        }
+        val body = StringBuilder()
+        comparisons.dropLast(1).forEachIndexed { index, comparison ->
+            val assignment = if (index == 0) "int result" else "result"
+            body.append(
+                """
+                |    $assignment = $comparison;
+                |    if (result != 0) {
+                |        return result;
+                |    }
+                |""".trimMargin()
+            )
+        }
+        body.append("    return ${comparisons.last()};\n")
+        return "public int compareTo($message other) {\n$body}"
+    }
+
+    /**
+     * Builds the declarations of the static fields with the comparators
+     * used by the `compareTo()` method.
+     */
+    fun comparatorFields(): List<String> = fields.toList()
+
+    override fun comparingByRegistered(path: FieldPath, type: Class<*>) {
+        val name = path.comparatorField()
+        val typeName = type.canonicalName
+        fields += "private static final java.util.Comparator<$typeName> $name =\n" +
+                "        io.spine.compare.ComparatorRegistry.get($typeName.class);"
+        val (left, right) = operands(path)
+        comparisons += "$name.compare($left, $right)"
+    }
+
+    override fun comparingBy(path: FieldPath, comparator: Expression<Comparator<Any>>?) {
+        val (left, right) = operands(path)
+        comparisons += if (comparator == null) {
+            "$left.compareTo($right)"
+        } else {
+            "$comparator.compare($left, $right)"
+        }
+    }
+
+    override fun comparingBy(path: FieldPath, type: PrimitiveType) {
+        val (left, right) = operands(path)
+        comparisons += when (type.toPrimitiveName()) {
+            "int" -> "java.lang.Integer.compare($left, $right)"
+            "long" -> "java.lang.Long.compare($left, $right)"
+            "float" -> "java.lang.Float.compare($left, $right)"
+            "double" -> "java.lang.Double.compare($left, $right)"
+            "boolean" -> "java.lang.Boolean.compare($left, $right)"
+            else -> "$left.compareTo($right)"
+        }
+    }
+
+    override fun comparingByOrdinal(path: FieldPath) {
+        val (left, right) = operands(path)
+        comparisons += "java.lang.Integer.compare($left.ordinal(), $right.ordinal())"
+    }
+
+    /**
+     * Returns the expressions reading the field with the given [path] from
+     * the compared messages in the order in which they should be compared.
+     */
+    private fun operands(path: FieldPath): Pair<String, String> {
+        val getters = path.getters()
+        val self = "this.$getters"
+        val other = "other.$getters"
+        return if (descending) other to self else self to other
+    }
+}
+
+/**
+ * Obtains the name of the static field with the comparator of the field with this path.
+ *
+ * For example, `RESIDENCE_STARTED_AT_COMPARATOR` for `residence.started_at`.
+ */
+private fun FieldPath.comparatorField(): String {
+    val snakeCase = fieldNameList.joinToString("_") { it.replace(camelHump, "$1_$2") }
+    return "${snakeCase.uppercase()}_COMPARATOR"
+}
+
+private val camelHump = Regex("([a-z0-9])([A-Z])")
@@ -0,0 +1,123 @@
+/*
+ * Copyright 2026, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.tools.core.jvm.comparable.action
+
+import io.spine.base.FieldPath
+import io.spine.compare.ComparatorRegistry
+import io.spine.string.camelCase
+import io.spine.tools.compiler.ast.MessageType
+import io.spine.tools.compiler.ast.PrimitiveType
+import io.spine.tools.compiler.jvm.ClassName
+import io.spine.tools.compiler.jvm.Expression
+import io.spine.tools.compiler.jvm.MethodCall
+
+/**
+ * Builds the code comparing messages by a sequence of fields.
+ *
+ * The fields are compared in the order in which they are added.
+ * The comparison proceeds to the next field only if the values of
+ * the previous fields are equal.
+ *
+ * @see ComparisonFields.addTo
+ */
+internal interface ComparisonBuilder {
+
+    /**
+     * Adds the comparison by the field with the given [path].
+     *
+     * The field values are compared by the given [comparator], or as [Comparable]
+     * objects if the comparator is not passed.
+     *
+     * @param path The path to the field.
+     * @param comparator The optional comparator to be used for the field values.
+     */
+    fun comparingBy(path: FieldPath, comparator: Expression<Comparator<Any>>? = null)
+
+    /**
+     * Adds the comparison by the field of the given primitive [type].
+     *
+     * @param path The path to the field.
+     * @param type The type of the field.
+     */
+    fun comparingBy(path: FieldPath, type: PrimitiveType)
+
+    /**
+     * Adds the comparison by the ordinals of the enum field with the given [path].
+     */
+    fun comparingByOrdinal(path: FieldPath)
+
+    /**
+     * Adds the comparison by the field of a message type having the `(compare_by)` option.
+     *
+     * By default, the field values are compared as [Comparable] objects.
+     *
+     * @param path The path to the field.
+     * @param type The type of the field.
+     */
+    fun comparingByMessage(path: FieldPath, type: MessageType) {
+        comparingBy(path)
+    }
+
+    /**
+     * Adds the comparison by the field of the given [type] for which
+     * [ComparatorRegistry] has a comparator.
+     *
+     * By default, the field values are compared by the comparator obtained from
+     * the registry.
+     *
+     * @param path The path to the field.
+     * @param type The Java class of the field.
+     */
+    fun comparingByRegistered(path: FieldPath, type: Class<*>) {
+        val comparator = MethodCall<Comparator<Any>>(
+            ClassName(ComparatorRegistry::class),
+            "get",
+            ClassName(type).clazz
+        )
+        comparingBy(path, comparator)
+    }
+}
+
+/**
+ * Returns the chain of the getter calls reading the field with this path.
+ *
+ * For example, `getResidence().getAddress().getCity()`.
+ */
+internal fun FieldPath.getters(): String =
+    fieldNameList.joinToString(".") { "${it.toJavaGetter()}()" }
+
+/**
+ * Converts this [String] with a Protobuf field name to a Java getter.
+ *
+ * For example, `my_best_field` will be converted to `getMyBestField`.
+ *
+ * The round brackets are omitted to allow this getter name to be used for composing
+ * both a direct invocation and a method reference.
+ *
+ * For example, `getMyBestField()` and `::getMyBestField`.
+ */
+internal fun String.toJavaGetter() = "get${camelCase()}"
@@ -0,0 +1,304 @@
+/*
+ * Copyright 2026, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.tools.core.jvm.comparable.action
+
+import com.google.protobuf.Duration
+import com.google.protobuf.Timestamp
+import com.intellij.psi.PsiClass
+import io.spine.base.FieldPath
+import io.spine.base.fieldPath
+import io.spine.tools.compiler.ast.MessageType
+import io.spine.tools.compiler.ast.PrimitiveType
+import io.spine.tools.compiler.ast.qualifiedName
+import io.spine.tools.compiler.jvm.Expression
+import io.spine.tools.compiler.jvm.toPrimitiveName
+import io.spine.tools.compiler.type.TypeSystem
+
+/**
+ * Builds the methods writing the sort key of a message.
+ *
+ * The sort key is a sequence of bytes, which orders the messages the same way
+ * as their `compareTo()` method when the keys are compared as unsigned bytes
+ * lexicographically, e.g., by [java.util.Arrays.compareUnsigned].
+ *
+ * The fields participating in the comparison are encoded one after another:
+ *
+ *  1. Signed `int` and `long` values are written in the big-endian byte order
+ *     with the sign bit flipped. Unsigned values are encoded the same way because
+ *     `compareTo()` compares them as signed Java primitives.
+ *  2. Floating point values are written as their IEEE 754 bits, flipping the sign bit
+ *     of positive values and all the bits of negative ones. This gives the order
+ *     of [java.lang.Double.compare], including `-0.0` and `NaN`.
+ *  3. `bool` values are written as a single byte.
+ *  4. Enum values are written as their ordinals.
+ *  5. Strings are written char by char in UTF-8, encoding each UTF-16 code unit
+ *     on its own. So, the order of the bytes is the order of [String.compareTo].
+ *     The zero char is escaped as `0x00 0x01`, and the end of the string is
+ *     marked by `0x00 0x00`, which makes a string sort before its extensions.
+ *  6. Fields of messages with the `(compare_by)` option are replaced by
+ *     the fields of that option.
+ *  7. `Timestamp` and `Duration` are written as their seconds and nanos.
+ *
+ * The bytes written for a message with the `descending` order are inverted.
+ * Since none of the keys of a message is a prefix of another key of the same type,
+ * the inversion reverses the order of the keys.
+ *
+ * @param cls The message class to declare the methods in.
+ * @param fields The fields of the message, which are also used to report errors.
+ * @param typeSystem The type system to resolve the fields of nested messages.
+ */
+internal class SortKeyBuilder(
+    cls: PsiClass,
+    private val fields: ComparisonFields,
+    private val typeSystem: TypeSystem
+) : ComparisonBuilder {
+
+    private val message = cls.name!!
+    private val writes = mutableListOf<String>()
+    private val sizes = mutableListOf<String>()
+    private val prefixes = ArrayDeque<FieldPath>()
+    private val visiting = mutableSetOf<String>()
+    private var locals = 0
+    private var hasStrings = false
+    private var hasDescending = false
+
+    /**
+     * Builds the texts of the methods writing the sort key.
+     *
+     * The public `writeSortKey(ByteBuffer)`, `sortKeySize()`, and `sortKey()` methods
+     * go first, followed by the private helper methods used by them.
+     */
+    fun build(): List<String> {
+        val start = descending(fields.descending)
+        fields.addTo(this)
+        start?.let { invert(it) }
+        return buildList {
+            add(writeSortKey())
+            add(sortKeySize())
+            add(sortKey())
+            if (hasStrings) {
+                add(PUT_STRING)
+                add(STRING_SIZE)
+            }
+            if (hasDescending) {
+                add(INVERT)
+            }
+        }
+    }
+
+    private fun writeSortKey(): String {
+        val statements = writes.joinToString(separator = "\n") { "    $it" }
+        return """
+            |public void writeSortKey(java.nio.ByteBuffer buffer) {
+            |    if (buffer.order() != java.nio.ByteOrder.BIG_ENDIAN) {
+            |        throw new java.lang.IllegalArgumentException(
+            |            "The sort key of `$message` must be written in the big-endian byte order.");
+            |    }
+            |$statements
+            |}
+            """.trimMargin()
+    }
+
+    private fun sortKeySize(): String {
+        val fixed = sizes.mapNotNull { it.toIntOrNull() }.sum()
+        val variable = sizes.filter { it.toIntOrNull() == null }
+        val sum = (listOf("$fixed") + variable).joinToString(" + ")
+        return """
+            |public int sortKeySize() {
+            |    return $sum;
+            |}
+            """.trimMargin()
+    }
+
+    private fun sortKey(): String = """
+        |public byte[] sortKey() {
+        |    java.nio.ByteBuffer buffer = java.nio.ByteBuffer.allocate(sortKeySize());
+        |    writeSortKey(buffer);
+        |    return buffer.array();
+        |}
+        """.trimMargin()
+
+    override fun comparingBy(path: FieldPath, comparator: Expression<Comparator<Any>>?) {
+        fields.unsupported(fullPath(path), "cannot be encoded into a sort key")
+    }
+
+    override fun comparingBy(path: FieldPath, type: PrimitiveType) {
+        val value = valueOf(path)
+        when (type.toPrimitiveName()) {
+            "int" -> putInt(value)
+            "long" -> putLong(value)
+            "float" -> {
+                val bits = local()
+                writes += "int $bits = java.lang.Float.floatToIntBits($value);"
+                writes += "buffer.putInt($bits ^ (($bits >> 31) | java.lang.Integer.MIN_VALUE));"
+                sizes += "4"
+            }
+            "double" -> {
+                val bits = local()
+                writes += "long $bits = java.lang.Double.doubleToLongBits($value);"
+                writes += "buffer.putLong($bits ^ (($bits >> 63) | java.lang.Long.MIN_VALUE));"
+                sizes += "8"
+            }
+            "boolean" -> {
+                writes += "buffer.put($value ? (byte) 1 : (byte) 0);"
+                sizes += "1"
+            }
+            else -> {
+                writes += "putSortKeyString(buffer, $value);"
+                sizes += "sortKeyStringSize($value)"
+                hasStrings = true
+            }
+        }
+    }
+
+    override fun comparingByOrdinal(path: FieldPath) {
+        writes += "buffer.putInt(${valueOf(path)}.ordinal());"
+        sizes += "4"
+    }
+
+    override fun comparingByMessage(path: FieldPath, type: MessageType) {
+        val name = type.qualifiedName
+        if (!visiting.add(name)) {
+            fields.unsupported(fullPath(path), "refers to the type `$name` recursively")
+        }
+        val nested = ComparisonFields(type, typeSystem)
+        prefixes.addLast(fullPath(path))
+        val start = descending(nested.descending)
+        nested.addTo(this)
+        start?.let { invert(it) }
+        prefixes.removeLast()
+        visiting.remove(name)
+    }
+
+    override fun comparingByRegistered(path: FieldPath, type: Class<*>) {
+        if (type != Timestamp::class.java && type != Duration::class.java) {
+            fields.unsupported(
+                fullPath(path),
+                "is compared by the comparator from `ComparatorRegistry`," +
+                        " which cannot be encoded into a sort key"
+            )
+        }
+        val value = valueOf(path)
+        putLong("$value.getSeconds()")
+        putInt("$value.getNanos()")
+    }
+
+    /**
+     * Writes the `int` [value] with the sign bit flipped.
+     */
+    private fun putInt(value: String) {
+        writes += "buffer.putInt($value ^ java.lang.Integer.MIN_VALUE);"
+        sizes += "4"
+    }
+
+    /**
+     * Writes the `long` [value] with the sign bit flipped.
+     */
+    private fun putLong(value: String) {
+        writes += "buffer.putLong($value ^ java.lang.Long.MIN_VALUE);"
+        sizes += "8"
+    }
+
+    /**
+     * Remembers the position of the buffer if the order is [descending].
+     *
+     * @return the name of the local variable holding the position,
+     *   or `null` if the order is ascending.
+     */
+    private fun descending(descending: Boolean): String? {
+        if (!descending) {
+            return null
+        }
+        val start = local()
+        writes += "int $start = buffer.position();"
+        hasDescending = true
+        return start
+    }
+
+    /**
+     * Inverts the bytes written since the position held by the [start] variable.
+     */
+    private fun invert(start: String) {
+        writes += "invertSortKey(buffer, $start);"
+    }
+
+    private fun local(): String = "local${locals++}"
+
+    private fun fullPath(path: FieldPath): FieldPath {
+        val prefix = prefixes.lastOrNull() ?: return path
+        return fieldPath {
+            fieldName.addAll(prefix.fieldNameList)
+            fieldName.addAll(path.fieldNameList)
+        }
+    }
+
+    private fun valueOf(path: FieldPath): String = "this.${fullPath(path).getters()}"
+
+    private companion object {
+
+        @Suppress("MaxLineLength") // To keep the Java code readable.
+        val PUT_STRING = """
+            |private static void putSortKeyString(java.nio.ByteBuffer buffer, java.lang.String value) {
+            |    for (int i = 0; i < value.length(); i++) {
+            |        char c = value.charAt(i);
+            |        if (c == 0) {
+            |            buffer.put((byte) 0).put((byte) 1);
+            |        } else if (c < 0x80) {
+            |            buffer.put((byte) c);
+            |        } else if (c < 0x800) {
+            |            buffer.put((byte) (0xC0 | (c >> 6)))
+            |                  .put((byte) (0x80 | (c & 0x3F)));
+            |        } else {
+            |            buffer.put((byte) (0xE0 | (c >> 12)))
+            |                  .put((byte) (0x80 | ((c >> 6) & 0x3F)))
+            |                  .put((byte) (0x80 | (c & 0x3F)));
+            |        }
+            |    }
+            |    buffer.put((byte) 0).put((byte) 0);
+            |}
+            """.trimMargin()
+
+        val STRING_SIZE = """
+            |private static int sortKeyStringSize(java.lang.String value) {
+            |    int size = 2;
+            |    for (int i = 0; i < value.length(); i++) {
+            |        char c = value.charAt(i);
+            |        size += (c == 0 || (c >= 0x80 && c < 0x800)) ? 2 : (c < 0x80 ? 1 : 3);
+            |    }
+            |    return size;
+            |}
+            """.trimMargin()
+
+        val INVERT = """
+            |private static void invertSortKey(java.nio.ByteBuffer buffer, int start) {
+            |    for (int i = start; i < buffer.position(); i++) {
+            |        buffer.put(i, (byte) ~buffer.get(i));
+            |    }
+            |}
+            """.trimMargin()
+    }
+}
@@ -29,6 +29,8 @@ package io.spine.tools.core.jvm.gradle.settings
 import io.kotest.matchers.shouldBe
 import io.spine.tools.core.jvm.comparable.action.AddComparator
 import io.spine.tools.core.jvm.comparable.action.AddCompareTo
+import io.spine.tools.core.jvm.comparable.action.AddSortKey
+import io.spine.tools.core.jvm.comparable.action.AddUnrolledCompareTo
 import io.spine.tools.core.jvm.comparable.action.ImplementComparable
 import io.spine.tools.core.jvm.settings.noParameter
 import io.spine.tools.kotlin.reference
@@ -62,4 +64,35 @@ internal class ComparableSettingsSpec {
         settings.actions().actionMap shouldBe expected
         settings.toProto().actions.actionMap shouldBe expected
     }
+
+    @Test
+    fun `refer to the unrolled 'compareTo()' action class`(@TempDir projectDir: File) {
+        val project = ProjectBuilder.builder().withProjectDir(projectDir).build()
+        val settings = ComparableSettings(project)
+        settings.unrollCompareTo()
+
+        val expected = mapOf(
+            ImplementComparable::class.reference to noParameter,
+            AddComparator::class.reference to noParameter,
+            AddUnrolledCompareTo::class.reference to noParameter,
+        )
+
+        settings.actions().actionMap shouldBe expected
+    }
+
+    @Test
+    fun `refer to the sort key action class`(@TempDir projectDir: File) {
+        val project = ProjectBuilder.builder().withProjectDir(projectDir).build()
+        val settings = ComparableSettings(project)
+        settings.generateSortKeys()
+
+        val expected = mapOf(
+            ImplementComparable::class.reference to noParameter,
+            AddComparator::class.reference to noParameter,
+            AddCompareTo::class.reference to noParameter,
+            AddSortKey::class.reference to noParameter,
+        )
+
+        settings.actions().actionMap shouldBe expected
+    }
 }
@@ -30,6 +30,7 @@ import com.google.protobuf.Descriptors.GenericDescriptor
 import com.intellij.psi.PsiClass
 import io.spine.tools.core.jvm.PluginTestSetup
 import io.spine.tools.core.jvm.entity.given.BrokenIdEntity
+import io.spine.tools.core.jvm.entity.given.ClashingColumnEntity
 import io.spine.tools.core.jvm.entity.given.RepeatedIdEntity
 import io.spine.tools.core.jvm.gradle.settings.EntitySettings
 import io.spine.tools.core.jvm.settings.Entities
@@ -76,11 +77,15 @@ abstract class EntityPluginTestSetup : PluginTestSetup<Entities>(
      *
      * [RepeatedIdEntity] has a `repeated` ID field, rejected at compile time and tested in
      * `UnsupportedIdTypeErrorSpec`.
+     *
+     * [ClashingColumnEntity] has a column clashing with a method of the `Column` class,
+     * rejected at compile time and tested in `ColumnNameClashErrorSpec`.
      */
     override fun defaultExclusions(): List<GenericDescriptor> =
         listOf(
             BrokenIdEntity.getDescriptor(),
             RepeatedIdEntity.getDescriptor(),
+            ClashingColumnEntity.getDescriptor(),
         )
 }
 
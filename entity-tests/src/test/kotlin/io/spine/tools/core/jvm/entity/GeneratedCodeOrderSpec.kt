@@ -0,0 +1,73 @@
+/*
+ * Copyright 2026, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.tools.core.jvm.entity
+
+import io.kotest.matchers.maps.shouldNotBeEmpty
+import io.kotest.matchers.shouldBe
+import io.spine.tools.core.jvm.render.javaFilesInOrder
+import java.nio.file.Path
+import kotlin.io.path.createDirectories
+import org.junit.jupiter.api.DisplayName
+import org.junit.jupiter.api.Test
+import org.junit.jupiter.api.io.TempDir
+
+/**
+ * Checks that the code generated for the same proto files does not depend on
+ * the run of the pipeline, e.g., on the iteration order of hash-based collections.
+ *
+ * The entity plugin generates the largest number of members per file among the
+ * CoreJvm plugins (columns, query builders, field accessors), so the suite
+ * runs the pipeline for entity states.
+ */
+@DisplayName("Code generated for entity states should")
+internal class GeneratedCodeOrderSpec {
+
+    companion object : EntityPluginTestSetup() {
+
+        /**
+         * Runs the pipeline in the given directory and obtains the generated code
+         * by the relative paths of the files.
+         */
+        fun generate(projectDir: Path): Map<String, String> {
+            runPipeline(projectDir.createDirectories())
+            return sourceFileSet.javaFilesInOrder().associate {
+                it.relativePath.toString() to it.code()
+            }
+        }
+    }
+
+    @Test
+    fun `be the same for each run of the pipeline`(@TempDir projectDir: Path) {
+        val first = generate(projectDir.resolve("first"))
+        val second = generate(projectDir.resolve("second"))
+        first.shouldNotBeEmpty()
+        second.keys shouldBe first.keys
+        first.forEach { (path, code) ->
+            second[path] shouldBe code
+        }
+    }
+}
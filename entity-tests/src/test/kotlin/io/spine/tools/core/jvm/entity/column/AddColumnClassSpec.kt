@@ -27,6 +27,9 @@
 package io.spine.tools.core.jvm.entity.column
 
 import com.intellij.psi.PsiJavaFile
+import com.intellij.psi.PsiModifier.FINAL
+import com.intellij.psi.PsiModifier.PRIVATE
+import com.intellij.psi.PsiModifier.STATIC
 import io.kotest.matchers.shouldBe
 import io.kotest.matchers.shouldNotBe
 import io.kotest.matchers.string.shouldContain
@@ -34,6 +37,8 @@ import io.spine.annotation.Generated
 import io.spine.string.Indent.Companion.defaultJavaIndent
 import io.spine.tools.core.jvm.entity.EntityPlugin.Companion.COLUMN_CLASS_NAME
 import io.spine.tools.core.jvm.entity.EntityPlugin.Companion.DEFINITIONS_METHOD_NAME
+import io.spine.tools.core.jvm.entity.EntityPlugin.Companion.EXTRACT_ALL_METHOD_NAME
+import io.spine.tools.core.jvm.entity.EntityPlugin.Companion.ORDINAL_METHOD_NAME
 import io.spine.tools.core.jvm.entity.EntityPluginTestSetup
 import io.spine.tools.core.jvm.entity.assertDoesNotHaveMethod
 import io.spine.tools.core.jvm.entity.assertHasMethod
@@ -106,6 +111,47 @@ internal class AddColumnClassSpec {
         }
     }
 
+    @Test
+    fun `keep columns in 'private static final' constants`() {
+        val columnClass = columnClass()!!
+        listOf("NAME_COLUMN", "DESCRIPTION_COLUMN", "MANAGER_COLUMN", "DEFINITIONS").forEach {
+            val field = columnClass.findFieldByName(it, false)
+            field shouldNotBe null
+            field!!.modifierList!!.run {
+                hasExplicitModifier(PRIVATE) shouldBe true
+                hasExplicitModifier(STATIC) shouldBe true
+                hasExplicitModifier(FINAL) shouldBe true
+            }
+        }
+    }
+
+    @Test
+    fun `return the constants from the column methods`() {
+        val columnClass = columnClass()!!
+        val name = columnClass.findMethodsByName("name", false)[0]
+        name.body!!.text shouldContain "return NAME_COLUMN;"
+        val definitions = columnClass.findMethodsByName(DEFINITIONS_METHOD_NAME, false)[0]
+        definitions.body!!.text shouldContain "return DEFINITIONS;"
+    }
+
+    @Test
+    fun `extract the values of all the columns in the order of their declaration`() {
+        val columnClass = columnClass()!!
+        columnClass.findFieldByName("COLUMN_COUNT", false)!!.text shouldContain "= 3;"
+        val extractAll = columnClass.findMethodsByName(EXTRACT_ALL_METHOD_NAME, false)[0]
+        extractAll.body!!.text.run {
+            shouldContain("values[0] = state.getName();")
+            shouldContain("values[1] = state.getDescription();")
+            shouldContain("values[2] = state.getManager();")
+        }
+        val ordinal = columnClass.findMethodsByName(ORDINAL_METHOD_NAME, false)
+        ordinal.size shouldBe 1
+        ordinal[0].body!!.text.run {
+            shouldContain("column == MANAGER_COLUMN")
+            shouldContain("return 2;")
+        }
+    }
+
     @Test
     fun `be annotated as 'Generated'`() {
         columnClass()!!.run {
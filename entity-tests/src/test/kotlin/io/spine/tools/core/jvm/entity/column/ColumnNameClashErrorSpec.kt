@@ -0,0 +1,57 @@
+/*
+ * Copyright 2026, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.tools.core.jvm.entity.column
+
+import io.kotest.matchers.string.shouldContain
+import io.spine.testing.compiler.acceptingOnly
+import io.spine.testing.compiler.assertCompilationError
+import io.spine.tools.core.jvm.entity.EntityPlugin.Companion.EXTRACT_ALL_METHOD_NAME
+import io.spine.tools.core.jvm.entity.EntityPluginTestSetup
+import io.spine.tools.core.jvm.entity.given.ClashingColumnEntity
+import java.nio.file.Path
+import org.junit.jupiter.api.DisplayName
+import org.junit.jupiter.api.Test
+import org.junit.jupiter.api.io.TempDir
+
+@DisplayName("`AddColumnClass` should")
+internal class ColumnNameClashErrorSpec {
+
+    companion object : EntityPluginTestSetup()
+
+    @Test
+    fun `reject a column clashing with a method of the 'Column' class`(@TempDir projectDir: Path) {
+        val descriptor = ClashingColumnEntity.getDescriptor()
+        val (error, _) = assertCompilationError {
+            runPipeline(projectDir, acceptingOnly(descriptor))
+        }
+        error.message.let {
+            it shouldContain "${descriptor.fullName}.extract_all"
+            it shouldContain "`$EXTRACT_ALL_METHOD_NAME()`"
+            it shouldContain "Please rename the field"
+        }
+    }
+}
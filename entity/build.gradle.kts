@@ -32,6 +32,7 @@ import io.spine.dependency.local.ToolBase
 plugins {
     module
     id("io.spine.core-jvm")
+    `jmh-module`
 }
 
 dependencies {
@@ -45,6 +46,10 @@ dependencies {
     }
 
     testImplementation(TestLib.lib)
+
+    jmhImplementation(testFixtures(project(":base")))?.because(
+        "Benchmarks take synthetic proto types from `SyntheticTypes`."
+    )
 }
 
 forceBaseInProtoTasks()
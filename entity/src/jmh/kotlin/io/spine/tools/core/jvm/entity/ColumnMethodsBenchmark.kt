@@ -0,0 +1,108 @@
+/*
+ * Copyright 2026, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.tools.core.jvm.entity
+
+import com.intellij.psi.PsiClass
+import io.spine.tools.compiler.ast.Field
+import io.spine.tools.compiler.jvm.ClassName
+import io.spine.tools.compiler.type.TypeSystem
+import io.spine.tools.core.jvm.SyntheticTypes
+import io.spine.tools.core.jvm.entity.EntityPlugin.Companion.COLUMN_CLASS_NAME
+import io.spine.tools.core.jvm.entity.EntityPlugin.Companion.QUERY_BUILDER_CLASS_NAME
+import io.spine.tools.core.jvm.entity.column.ColumnAccessor
+import io.spine.tools.core.jvm.entity.query.QueryColumn
+import io.spine.tools.psi.java.Environment.elementFactory
+import io.spine.tools.psi.java.execute
+import java.util.concurrent.TimeUnit.MICROSECONDS
+import org.openjdk.jmh.annotations.Benchmark
+import org.openjdk.jmh.annotations.BenchmarkMode
+import org.openjdk.jmh.annotations.Mode
+import org.openjdk.jmh.annotations.OutputTimeUnit
+import org.openjdk.jmh.annotations.Param
+import org.openjdk.jmh.annotations.Scope
+import org.openjdk.jmh.annotations.Setup
+import org.openjdk.jmh.annotations.State
+
+/**
+ * Measures creating the PSI methods for the columns of an entity state.
+ *
+ * The methods are added to a new class on each invocation, so that the size of
+ * the class does not grow between the invocations.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(MICROSECONDS)
+open class ColumnMethodsBenchmark {
+
+    /**
+     * The number of the columns of the entity state.
+     */
+    @Param("4", "16", "64")
+    @JvmField
+    var columnCount: Int = 0
+
+    private lateinit var entityState: ClassName
+    private lateinit var columns: List<Field>
+    private lateinit var typeSystem: TypeSystem
+
+    @Setup
+    fun setUp() {
+        val types = SyntheticTypes(messageCount = 1, fieldCount = columnCount)
+        val type = types.messageTypes.single()
+        entityState = ClassName(types.file.options.javaPackage, type.name.simpleName)
+        columns = type.fieldList
+        typeSystem = types.typeSystem
+    }
+
+    /**
+     * Creates the methods of the `Column` class, as `AddColumnClass` does.
+     */
+    @Benchmark
+    fun columnAccessors(): PsiClass {
+        val columnClass = elementFactory.createClass(COLUMN_CLASS_NAME)
+        execute {
+            columns.forEach {
+                ColumnAccessor(entityState, it, columnClass, typeSystem).render()
+            }
+        }
+        return columnClass
+    }
+
+    /**
+     * Creates the methods of the `QueryBuilder` class, as `AddQuerySupport` does.
+     */
+    @Benchmark
+    fun queryColumns(): PsiClass {
+        val queryBuilder = elementFactory.createClass(QUERY_BUILDER_CLASS_NAME)
+        execute {
+            columns.forEach {
+                QueryColumn(entityState, it, queryBuilder, typeSystem).render()
+            }
+        }
+        return queryBuilder
+    }
+}
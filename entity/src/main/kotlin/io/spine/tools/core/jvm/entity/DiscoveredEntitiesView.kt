@@ -30,6 +30,7 @@ import io.spine.core.Subscribe
 import io.spine.tools.compiler.ast.File
 import io.spine.tools.compiler.plugin.View
 import io.spine.tools.core.jvm.entity.event.EntityStateDiscovered
+import io.spine.tools.core.jvm.render.PipelineTrace
 
 /**
  * This view accumulates [EntityState][io.spine.base.EntityState] types discovered
@@ -39,7 +40,9 @@ internal class DiscoveredEntitiesView :
     View<File, DiscoveredEntities, DiscoveredEntities.Builder>() {
 
     @Subscribe
-    fun on(e: EntityStateDiscovered) = alter {
-        addType(e.type)
+    fun on(e: EntityStateDiscovered) = PipelineTrace.spanOf(this) {
+        alter {
+            addType(e.type)
+        }
     }
 }
@@ -33,6 +33,7 @@ import io.spine.tools.compiler.plugin.Reaction
 import io.spine.tools.compiler.settings.loadSettings
 import io.spine.tools.core.jvm.entity.event.EntityStateDiscovered
 import io.spine.tools.core.jvm.entity.event.entityStateDiscovered
+import io.spine.tools.core.jvm.render.PipelineMetrics
 import io.spine.tools.core.jvm.settings.Entities
 
 /**
@@ -57,7 +58,10 @@ internal class EntityDiscovery : Reaction<TypeDiscovered>(), EntityPluginCompone
 
     @React
     override fun whenever(@External event: TypeDiscovered): Iterable<EntityStateDiscovered> {
-        val isEntityState = event.type.isEntityState(settings)
+        val isEntityState = PipelineMetrics.measure(this) {
+            event.type.isEntityState(settings)
+        }
+        PipelineMetrics.reacted(this, matched = isEntityState)
         if (isEntityState) {
             return listOf(entityStateDiscovered {
                 name = event.type.name
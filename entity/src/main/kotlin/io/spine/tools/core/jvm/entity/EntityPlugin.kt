@@ -81,6 +81,20 @@ public class EntityPlugin : Plugin(
         @VisibleForTesting
         public const val DEFINITIONS_METHOD_NAME: String = "definitions"
 
+        /**
+         * The name of the `extractAll()` method of a `Column` class for
+         * obtaining the values of all the columns of an entity state in one pass.
+         */
+        @VisibleForTesting
+        public const val EXTRACT_ALL_METHOD_NAME: String = "extractAll"
+
+        /**
+         * The name of the `ordinal()` method of a `Column` class for
+         * obtaining the position of a column among the values extracted by `extractAll()`.
+         */
+        @VisibleForTesting
+        public const val ORDINAL_METHOD_NAME: String = "ordinal"
+
         /**
          * The name of the `thisRef()` method of a `QueryBuilder` class.
          */
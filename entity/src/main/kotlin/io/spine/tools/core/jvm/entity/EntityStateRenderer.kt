@@ -30,7 +30,12 @@ import io.spine.tools.compiler.ast.MessageType
 import io.spine.tools.compiler.jvm.render.RenderActions
 import io.spine.tools.compiler.jvm.render.TypeListRenderer
 import io.spine.tools.compiler.render.SourceFile
+import io.spine.tools.compiler.render.SourceFileSet
 import io.spine.tools.code.Java
+import io.spine.tools.core.jvm.render.IncrementalRendering
+import io.spine.tools.core.jvm.render.PendingTypes
+import io.spine.tools.core.jvm.render.PipelineMetrics
+import io.spine.tools.core.jvm.render.PsiSession
 import io.spine.tools.core.jvm.settings.Entities
 import io.spine.tools.psi.java.execute
 
@@ -42,6 +47,9 @@ import io.spine.tools.psi.java.execute
  *
  * The actual code generation is performed by actions [defined][Entities.getActions] in
  * the code generation settings.
+ *
+ * The entity state types are collected while the views are visited, and then rendered
+ * grouped by their files via [PendingTypes].
  */
 public class EntityStateRenderer :
     TypeListRenderer<DiscoveredEntities, Entities>(),
@@ -54,11 +62,29 @@ public class EntityStateRenderer :
     override val consumerId: String
         get() = EntityPlugin.SETTINGS_ID
 
+    private val pending = PendingTypes()
+
     override fun isEnabled(settings: Entities): Boolean = settings.generateQueries
 
+    override fun render(sources: SourceFileSet) {
+        super.render(sources)
+        pending.render(::renderType)
+    }
+
     override fun doRender(type: MessageType, file: SourceFile<Java>) {
-        execute {
-            RenderActions(type, file, settings.actions, context).apply()
+        if (!IncrementalRendering.isRestored(file)) {
+            pending.add(type, file)
+        }
+    }
+
+    private fun renderType(type: MessageType, file: SourceFile<Java>) {
+        // The actions parse the file themselves.
+        PsiSession.flush()
+        PipelineMetrics.measure(this, detail = file.relativePath.toString()) {
+            execute {
+                RenderActions(type, file, settings.actions, context).apply()
+            }
         }
+        PipelineMetrics.applied(settings.actions.actionMap.keys)
     }
 }
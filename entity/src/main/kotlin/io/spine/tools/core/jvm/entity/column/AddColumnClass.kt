@@ -28,10 +28,13 @@ package io.spine.tools.core.jvm.entity.column
 
 import com.google.common.collect.ImmutableSet
 import com.intellij.psi.PsiAnnotation
+import com.intellij.psi.PsiField
 import com.intellij.psi.PsiMethod
+import io.spine.tools.compiler.Compilation
 import io.spine.tools.compiler.ast.Field
 import io.spine.tools.compiler.ast.MessageType
 import io.spine.tools.compiler.ast.columns
+import io.spine.tools.compiler.ast.qualifiedName
 import io.spine.tools.compiler.context.CodegenContext
 import io.spine.tools.compiler.jvm.render.CreateNestedClass
 import io.spine.tools.compiler.render.SourceFile
@@ -39,6 +42,8 @@ import io.spine.tools.code.Java
 import io.spine.tools.core.jvm.GeneratedAnnotation
 import io.spine.tools.core.jvm.entity.EntityPlugin.Companion.COLUMN_CLASS_NAME
 import io.spine.tools.core.jvm.entity.EntityPlugin.Companion.DEFINITIONS_METHOD_NAME
+import io.spine.tools.core.jvm.entity.EntityPlugin.Companion.EXTRACT_ALL_METHOD_NAME
+import io.spine.tools.core.jvm.entity.EntityPlugin.Companion.ORDINAL_METHOD_NAME
 import io.spine.tools.java.reference
 import io.spine.tools.psi.java.Environment.elementFactory
 import io.spine.tools.psi.java.addLast
@@ -59,6 +64,17 @@ import org.intellij.lang.annotations.Language
  * In addition to methods for obtaining individual columns, a [method][DEFINITIONS_METHOD_NAME]
  * for obtaining all the columns is also generated.
  *
+ * The columns and the set of all the columns are created once, when the class
+ * is initialized, and are kept in `private static final` fields. The methods return
+ * the values of these fields, so the callers may rely on the identity of the columns.
+ *
+ * The class also provides a [method][EXTRACT_ALL_METHOD_NAME] for reading the values
+ * of all the columns in one pass. Please see [ColumnExtractor] for details.
+ *
+ * The methods of the columns are named after the fields and share the class with
+ * the methods above. If the name of a column method coincides with one of them,
+ * a compilation error is reported asking to rename the field.
+ *
  * @param type the type of the `EntityState` message.
  * @param file the file to which the action is applied.
  * @param context the code generation context in which this action runs.
@@ -70,6 +86,10 @@ public class AddColumnClass(type: MessageType, file: SourceFile<Java>, context:
 
     private val columns: List<Field> = type.columns
 
+    init {
+        checkColumnNames(type)
+    }
+
     override fun createAnnotation(): PsiAnnotation = GeneratedAnnotation.forPsi()
 
     @Language("JAVA") @Suppress("EmptyClass")
@@ -85,6 +105,23 @@ public class AddColumnClass(type: MessageType, file: SourceFile<Java>, context:
     override fun tuneClass() {
         addColumnMethods()
         addDefinitionsMethod()
+        ColumnExtractor(messageClass, columns, cls).render()
+    }
+
+    /**
+     * Reports a compilation error if a column method would have the name of
+     * one of the [reserved methods][reservedMethodNames] of the `Column` class.
+     */
+    private fun checkColumnNames(type: MessageType) {
+        columns.forEach { column ->
+            val methodName = columnMethodName(column)
+            Compilation.check(methodName !in reservedMethodNames, type.file, column.span) {
+                "The name of the column field `${column.qualifiedName}` clashes with" +
+                        " the `$methodName()` method generated in the `$COLUMN_CLASS_NAME`" +
+                        " class of `${type.name.simpleName}`." +
+                        " Please rename the field or stop using it as a column."
+            }
+        }
     }
 
     private fun addColumnMethods() {
@@ -96,38 +133,39 @@ public class AddColumnClass(type: MessageType, file: SourceFile<Java>, context:
     }
 
     private fun addDefinitionsMethod() {
-        val method = DefinitionsMethod().create()
-        cls.addLast(method)
+        val definitions = DefinitionsMethod()
+        cls.addLast(definitions.createConstant())
+        cls.addLast(definitions.create())
     }
 
     /**
-     * Method object for creating [definitions][DEFINITIONS_METHOD_NAME] method.
+     * Method object for creating [definitions][DEFINITIONS_METHOD_NAME] method
+     * and the constant returned by the method.
      */
     private inner class DefinitionsMethod {
 
         /** The generic type that matches all the columns of this entity state. */
         private val columnWildcard = columnType(messageClass)
 
-        /**
-         * The name of the variable to collect all column definitions
-         *
-         * We use `buildString` instead of a plain literal to avoid the `Missing identifier`
-         * warning in IDEA.
-         */
-        private val accumulator: String = buildString {
-            append("columns")
-        }
-
         /** The type that is returned by the method. */
         private val resultSet: String = ImmutableSet::class.java.reference
 
-        /** The piece of method body that adds columns to [accumulator]. */
+        /** The piece of the constant initializer that adds columns to the set builder. */
         private val addingColumns: String by lazy {
-            columns
-                .map { column -> columnMethodName(column) }
-                .joinToString(separator = "\n  ") { method ->
-                    "$accumulator.add($method());"
-                }
+            columns.joinToString(separator = "") { column ->
+                "\n        .add(${columnConstantName(column)})"
+            }
+        }
+
+        /** Builds the full text of the constant. */
+        private val constantText: String by lazy {
+            @Language("JAVA") @Suppress("EmptyClass")
+            val constantTemplate = """
+            private static final $resultSet<$columnWildcard> $DEFINITIONS_CONSTANT =
+                $resultSet.<$columnWildcard>builder()%s
+                    .build();
+            """.trimIndent()
+            format(constantTemplate, addingColumns)
         }
 
         /** Builds the full text of the method. */
@@ -138,17 +176,48 @@ public class AddColumnClass(type: MessageType, file: SourceFile<Java>, context:
              * Returns all the column definitions of $messageJavadocRef.
              */
             public static $resultSet<$columnWildcard> $DEFINITIONS_METHOD_NAME() {
-              var $accumulator = new java.util.HashSet<$columnWildcard>();
-              %s
-              return $resultSet.copyOf($accumulator);
-            }                                
+              return $DEFINITIONS_CONSTANT;
+            }
             """.trimIndent()
-            format(methodTemplate, addingColumns)
+            methodTemplate
         }
 
+        /**
+         * Creates the constant holding all the columns.
+         *
+         * The constant must be added after the constants of the columns
+         * because static fields are initialized in the order of their declaration.
+         */
+        fun createConstant(): PsiField =
+            elementFactory.createFieldFromText(constantText, cls)
+
         fun create(): PsiMethod {
             val method = elementFactory.createMethodFromText(methodText, cls)
             return method
         }
     }
 }
+
+/**
+ * The names of the methods of the `Column` class which are not related to a particular column.
+ *
+ * The constants of the class do not need such a check because the constants of
+ * the columns are named with the `_COLUMN` suffix.
+ *
+ * @see columnConstantName
+ */
+private val reservedMethodNames = setOf(
+    DEFINITIONS_METHOD_NAME,
+    ORDINAL_METHOD_NAME,
+    EXTRACT_ALL_METHOD_NAME
+)
+
+/**
+ * The name of the constant holding all the columns of the entity state.
+ *
+ * Does not clash with the constants of the columns, which are named
+ * with the `_COLUMN` suffix.
+ *
+ * @see columnConstantName
+ */
+private const val DEFINITIONS_CONSTANT = "DEFINITIONS"
@@ -27,6 +27,7 @@
 package io.spine.tools.core.jvm.entity.column
 
 import com.intellij.psi.PsiClass
+import com.intellij.psi.PsiField
 import com.intellij.psi.PsiMethod
 import com.intellij.psi.javadoc.PsiDocComment
 import io.spine.tools.compiler.ast.Field
@@ -52,6 +53,10 @@ internal val container = EntityColumn::class.java.reference
  *
  * The name of the method matches the name of the [entity state][io.spine.base.EntityState]
  * converted to [javaCase].
+ *
+ * The column is created once, when the column class is initialized, and is stored in
+ * a `private static final` field named by [columnConstantName]. The method returns
+ * the value of the field. So, the column is the same object for all the calls.
  */
 internal class ColumnAccessor(
     private val entityState: ClassName,
@@ -91,6 +96,9 @@ internal class ColumnAccessor(
     private val methodName: String
         get() = columnMethodName(this.field)
 
+    private val constantName: String
+        get() = columnConstantName(this.field)
+
     private val javadoc: PsiDocComment by lazy {
         @Language("JAVA") @Suppress("EmptyClass")
         val doc = elementFactory.createDocCommentFromText("""
@@ -104,12 +112,22 @@ internal class ColumnAccessor(
         doc
     }
 
+    private val constant: PsiField by lazy {
+        @Language("JAVA") @Suppress("EmptyClass")
+        val newField = elementFactory.createFieldFromText("""
+            private static final $columnType $constantName =
+                new $container<>("$fieldName", $fieldType.class, $getterRef);
+            """.trimIndent(), columnClass
+        )
+        newField
+    }
+
     private val method: PsiMethod by lazy {
         @Language("JAVA") @Suppress("EmptyClass", "NewClassNamingConvention")
         val newMethod = elementFactory.createMethodFromText("""
             public static $columnType $methodName() {
-              return new $container<>("$fieldName", $fieldType.class, $getterRef);    
-            }                                
+              return $constantName;
+            }
             """.trimIndent(), columnClass
         )
         newMethod.addFirst(javadoc)
@@ -117,9 +135,10 @@ internal class ColumnAccessor(
     }
 
     /**
-     * Adds the method to [columnClass].
+     * Adds the constant and the method to [columnClass].
      */
     fun render() {
+        columnClass.addLast(constant)
         columnClass.addLast(method)
     }
 }
@@ -130,6 +149,19 @@ internal class ColumnAccessor(
 internal fun columnMethodName(field: Field): String =
     field.name.javaCase()
 
+/**
+ * Obtains a name of the constant holding the column for the given field.
+ *
+ * For example, the constant for the `project_name` field is called `PROJECT_NAME_COLUMN`.
+ * The suffix prevents a clash with other constants of the column class.
+ */
+internal fun columnConstantName(field: Field): String {
+    val snakeCase = field.name.value.replace(camelHump, "$1_$2")
+    return "${snakeCase.uppercase()}_COLUMN"
+}
+
+private val camelHump = Regex("([a-z0-9])([A-Z])")
+
 /**
  * Obtains a string with the name of an entity column parameterized by
  * the type of the field, if specified.
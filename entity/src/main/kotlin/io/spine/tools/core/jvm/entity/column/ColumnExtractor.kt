@@ -0,0 +1,150 @@
+/*
+ * Copyright 2026, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.tools.core.jvm.entity.column
+
+import com.intellij.psi.PsiClass
+import com.intellij.psi.PsiField
+import com.intellij.psi.PsiMethod
+import io.spine.tools.compiler.ast.Field
+import io.spine.tools.compiler.jvm.ClassName
+import io.spine.tools.compiler.jvm.getterName
+import io.spine.tools.core.jvm.entity.EntityPlugin.Companion.EXTRACT_ALL_METHOD_NAME
+import io.spine.tools.core.jvm.entity.EntityPlugin.Companion.ORDINAL_METHOD_NAME
+import io.spine.tools.psi.java.Environment.elementFactory
+import io.spine.tools.psi.java.addLast
+import java.lang.String.format
+import org.intellij.lang.annotations.Language
+
+/**
+ * Generates methods of a `Column` class which read the values of all the columns
+ * of an entity state in one pass.
+ *
+ * The columns are numbered in the order of their declaration in the entity state,
+ * which is also the order of iterating the `definitions()` set.
+ * The generated code includes:
+ *
+ *  1. The `COLUMN_COUNT` constant with the number of the columns.
+ *  2. The [ordinal][ORDINAL_METHOD_NAME] method which returns the number of the given column.
+ *  3. The [extractAll][EXTRACT_ALL_METHOD_NAME] method which puts the values of
+ *     the columns into an array at the positions of their numbers.
+ *
+ * The `extractAll` method calls the getters of the entity state directly, so storages
+ * may fill records or prepared statements without calling each of the columns
+ * and without looking up the columns in a map.
+ *
+ * The `ordinal` method compares the columns by identity, which relies on
+ * the columns being kept in constants by [ColumnAccessor].
+ */
+internal class ColumnExtractor(
+    private val entityState: ClassName,
+    private val columns: List<Field>,
+    private val columnClass: PsiClass
+) {
+
+    /**
+     * The reference to the entity state class.
+     *
+     * Since the column class is nested in the entity state class,
+     * it is safe to use a simple class name.
+     */
+    private val stateRef = entityState.simpleName
+
+    private val countConstant: PsiField by lazy {
+        @Language("JAVA") @Suppress("EmptyClass")
+        val newField = elementFactory.createFieldFromText("""
+            /**
+             * The number of the columns of {@link $stateRef}.
+             */
+            public static final int $COLUMN_COUNT_CONSTANT = ${columns.size};
+            """.trimIndent(), columnClass
+        )
+        newField
+    }
+
+    private val ordinalMethod: PsiMethod by lazy {
+        val checks = columns.mapIndexed { index, column ->
+            "if (column == ${columnConstantName(column)}) {\n    return $index;\n  }\n  "
+        }.joinToString(separator = "")
+        @Language("JAVA") @Suppress("EmptyClass", "DanglingJavadoc")
+        val methodTemplate = """
+            /**
+             * Returns the position of the given column among the values obtained
+             * by {@link #$EXTRACT_ALL_METHOD_NAME}.
+             *
+             * <p>Returns {@code -1} if the column does not belong to {@link $stateRef}.
+             */
+            public static int $ORDINAL_METHOD_NAME(${columnType(entityState)} column) {
+              %sreturn -1;
+            }
+            """.trimIndent()
+        elementFactory.createMethodFromText(format(methodTemplate, checks), columnClass)
+    }
+
+    private val extractAllMethod: PsiMethod by lazy {
+        val assignments = columns.mapIndexed { index, column ->
+            "values[$index] = state.${column.getterName}();"
+        }.joinToString(separator = "\n  ")
+        @Language("JAVA") @Suppress("EmptyClass", "DanglingJavadoc")
+        val methodTemplate = """
+            /**
+             * Puts the values of all the columns of the given state into the given array.
+             *
+             * <p>The value of each column is put at the position returned by
+             * {@link #$ORDINAL_METHOD_NAME} for the column.
+             *
+             * @throws IllegalArgumentException
+             *         if the array is shorter than {@link #$COLUMN_COUNT_CONSTANT}
+             */
+            public static void $EXTRACT_ALL_METHOD_NAME($stateRef state, Object[] values) {
+              if (values.length < $COLUMN_COUNT_CONSTANT) {
+                throw new IllegalArgumentException(
+                        "Expected an array of at least " + $COLUMN_COUNT_CONSTANT
+                                + " elements, got " + values.length + '.');
+              }
+              %s
+            }
+            """.trimIndent()
+        elementFactory.createMethodFromText(format(methodTemplate, assignments), columnClass)
+    }
+
+    /**
+     * Adds the constant and the methods to [columnClass].
+     *
+     * The methods refer to the constants of the columns, which must be
+     * added to the class before.
+     */
+    fun render() {
+        columnClass.addLast(countConstant)
+        columnClass.addLast(ordinalMethod)
+        columnClass.addLast(extractAllMethod)
+    }
+}
+
+/**
+ * The name of the constant with the number of the columns of the entity state.
+ */
+private const val COLUMN_COUNT_CONSTANT = "COLUMN_COUNT"
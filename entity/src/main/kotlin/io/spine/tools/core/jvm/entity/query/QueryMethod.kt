@@ -26,13 +26,13 @@
 
 package io.spine.tools.core.jvm.entity.query
 
-import com.intellij.psi.PsiJavaFile
 import com.intellij.psi.javadoc.PsiDocComment
 import com.intellij.refactoring.extractMethod.newImpl.ExtractMethodHelper.addSiblingAfter
 import io.spine.logging.WithLogging
 import io.spine.tools.compiler.render.SourceFile
 import io.spine.tools.code.Java
 import io.spine.tools.core.jvm.GeneratedAnnotation
+import io.spine.tools.core.jvm.render.PsiSession
 import io.spine.tools.core.jvm.entity.EntityPlugin.Companion.QUERY_BUILDER_CLASS_NAME
 import io.spine.tools.core.jvm.entity.EntityPlugin.Companion.QUERY_METHOD_NAME
 import io.spine.tools.psi.addFirst
@@ -48,7 +48,7 @@ import org.intellij.lang.annotations.Language
  */
 internal class QueryMethod(private val file: SourceFile<Java>) : WithLogging {
 
-    private val psiFile = file.psi() as PsiJavaFile
+    private val psiFile = PsiSession.psi(file)
     private val entityStateClass = psiFile.topLevelClass
     private val queryBuilder = QUERY_BUILDER_CLASS_NAME
 
@@ -93,8 +93,9 @@ internal class QueryMethod(private val file: SourceFile<Java>) : WithLogging {
             val lastConstructor = entityStateClass.constructors.last()
             lastConstructor.addSiblingAfter(method)
 
-            val updatedFile = psiFile.text
-            file.overwrite(updatedFile)
+            // The query classes are added by actions parsing the file themselves.
+            PsiSession.write(file, psiFile)
+            PsiSession.flush(file)
         } catch (e: Throwable) {
             logger.atError().withCause(e).log { """
                 Caught exception while rendering the `query()` method in `${entityStateClass.name}`.
@@ -0,0 +1,148 @@
+/*
+ * Copyright 2026, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.tools.core.jvm.gradle.plugins
+
+import io.spine.tools.compiler.gradle.plugin.LaunchSpineCompiler
+import java.io.File
+import java.security.MessageDigest
+import javax.inject.Inject
+import org.gradle.api.DefaultTask
+import org.gradle.api.GradleException
+import org.gradle.api.tasks.Internal
+import org.gradle.api.tasks.TaskAction
+import org.gradle.api.tasks.TaskCollection
+import org.gradle.process.ExecOperations
+import org.gradle.work.DisableCachingByDefault
+
+/**
+ * A task that checks that the Spine Compiler renders the same code when run twice.
+ *
+ * The task depends on the [launchTasks], so the first rendering is made by them.
+ * Then, for each of the launch tasks, the task takes the content of its outputs,
+ * runs the Compiler again with the same arguments, and compares the outputs with
+ * the ones of the first run. If any file was changed or added by the second run,
+ * the build fails.
+ *
+ * The second run is made without the incremental rendering, which would restore
+ * the code recorded by the first run instead of rendering it, and without writing
+ * the pipeline reports, which contain the measured time.
+ *
+ * The task is not a part of the regular build. It is meant to be run explicitly,
+ * e.g., on CI, along with
+ * [RenderingOptions.reproducible][io.spine.tools.core.jvm.gradle.RenderingOptions.reproducible].
+ */
+@DisableCachingByDefault(because = "Checks the outputs of other tasks, producing none.")
+public abstract class CheckCompilerReproducibility : DefaultTask() {
+
+    /**
+     * The tasks running the Spine Compiler in the project.
+     */
+    @get:Internal
+    internal lateinit var launchTasks: TaskCollection<LaunchSpineCompiler>
+
+    @get:Inject
+    protected abstract val execOperations: ExecOperations
+
+    @TaskAction
+    public fun check() {
+        launchTasks.forEach { launch ->
+            val outputs = launch.outputs.files.files
+            val first = OutputTree.of(outputs)
+            rerun(launch)
+            val second = OutputTree.of(outputs)
+            val differences = first.differencesFrom(second)
+            if (differences.isNotEmpty()) {
+                throw GradleException(
+                    "The second run of the task `${launch.path}` produced output different" +
+                            " from the first one. Please check the generated code for values" +
+                            " depending on time, environment, or iteration order of" +
+                            " unordered collections. The differing files:" +
+                            differences.joinToString(separator = "") { "\n - $it" }
+                )
+            }
+        }
+    }
+
+    private fun rerun(launch: LaunchSpineCompiler) {
+        execOperations.javaexec { spec ->
+            launch.javaLauncher.orNull?.let {
+                spec.executable = it.executablePath.asFile.absolutePath
+            }
+            spec.classpath = launch.classpath
+            spec.mainClass.set(launch.mainClass)
+            spec.workingDir = launch.workingDir
+            spec.environment(launch.environment)
+            spec.systemProperties(launch.systemProperties)
+            spec.jvmArgs(launch.jvmArgs.orEmpty())
+            spec.jvmArgumentProviders.addAll(
+                launch.jvmArgumentProviders.filterNot {
+                    it is IncrementalRenderingArguments || it is PipelineReportArgument
+                }
+            )
+            launch.maxHeapSize?.let { spec.maxHeapSize = it }
+            spec.args(launch.args.orEmpty())
+            spec.argumentProviders.addAll(launch.argumentProviders)
+            spec.standardOutput = System.out
+            spec.errorOutput = System.err
+        }
+    }
+}
+
+/**
+ * The hashes of the files found under the given roots by their paths.
+ */
+internal class OutputTree private constructor(private val hashes: Map<String, String>) {
+
+    /**
+     * Obtains the paths of the files which are missing, added, or have different
+     * content in the [other] tree, in the order of the paths.
+     */
+    fun differencesFrom(other: OutputTree): List<String> =
+        (hashes.keys + other.hashes.keys)
+            .filter { hashes[it] != other.hashes[it] }
+            .sorted()
+
+    companion object {
+
+        /**
+         * Takes the content of the files under the given [roots].
+         *
+         * A root may be a file or a directory. Missing roots are skipped.
+         */
+        fun of(roots: Iterable<File>): OutputTree {
+            val hashes = roots
+                .flatMap { root -> root.walkTopDown().filter { it.isFile }.toList() }
+                .associate { it.invariantSeparatorsPath to it.sha256() }
+            return OutputTree(hashes)
+        }
+
+        private fun File.sha256(): String =
+            MessageDigest.getInstance("SHA-256")
+                .digest(readBytes())
+                .joinToString(separator = "") { "%02x".format(it) }
+    }
+}
@@ -28,17 +28,21 @@
 
 package io.spine.tools.core.jvm.gradle.plugins
 
+import io.spine.tools.code.SourceSetName
 import io.spine.tools.compiler.gradle.api.CompilerSettings
 import io.spine.tools.compiler.gradle.api.addUserClasspathDependency
 import io.spine.tools.compiler.gradle.api.compilerSettings
 import io.spine.tools.compiler.gradle.api.compilerWorkingDir
+import io.spine.tools.compiler.gradle.plugin.Extension
 import io.spine.tools.compiler.gradle.plugin.LaunchSpineCompiler
 import io.spine.tools.compiler.jvm.style.JavaCodeStyleFormatterPlugin
 import io.spine.tools.compiler.params.WorkingDirectory
 import io.spine.tools.core.jvm.gradle.CoreJvmCompiler
+import io.spine.tools.core.jvm.gradle.CoreJvmCompilerTaskName.Companion.launchSpineCompiler
 import io.spine.tools.core.jvm.gradle.coreJvmOptions
 import io.spine.tools.core.jvm.gradle.generatedGrpcDirName
 import io.spine.tools.core.jvm.gradle.generatedJavaDirName
+import io.spine.tools.core.jvm.gradle.plugins.CompilerConfigPlugin.Companion.CHECK_COMPILER_REPRODUCIBILITY
 import io.spine.tools.core.jvm.gradle.plugins.CompilerConfigPlugin.Companion.WRITE_COMPILER_PLUGINS_SETTINGS
 import io.spine.tools.core.jvm.gradle.plugins.CoreJvmCompilerPlugins.API_ANNOTATIONS
 import io.spine.tools.core.jvm.gradle.plugins.CoreJvmCompilerPlugins.COMPARABLE
@@ -49,14 +53,23 @@ import io.spine.tools.core.jvm.gradle.plugins.CoreJvmCompilerPlugins.REJECTION_T
 import io.spine.tools.core.jvm.gradle.plugins.CoreJvmCompilerPlugins.SIGNAL
 import io.spine.tools.core.jvm.gradle.plugins.CoreJvmCompilerPlugins.UUID
 import io.spine.tools.core.jvm.gradle.settings.CoreJvmCompilerSettings
+import io.spine.tools.core.jvm.render.IncrementalRecordPlugin
+import io.spine.tools.core.jvm.render.IncrementalRestorePlugin
+import io.spine.tools.core.jvm.render.PipelineMetrics
+import io.spine.tools.core.jvm.render.PipelineReportPlugin
+import io.spine.tools.core.jvm.render.PipelineTrace
 import io.spine.tools.fs.DirectoryName
 import io.spine.tools.gradle.task.JavaTaskName.Companion.processResources
 import io.spine.tools.gradle.task.JavaTaskName.Companion.sourcesJar
 import io.spine.tools.gradle.task.SpineTaskGroup
 import io.spine.tools.validation.gradle.ValidationGradlePlugin
+import java.io.File
 import org.gradle.api.Plugin
 import org.gradle.api.Project
+import org.gradle.api.file.FileCollection
 import org.gradle.api.provider.Provider
+import org.gradle.api.tasks.CompileClasspathNormalizer
+import org.gradle.api.tasks.SourceSetContainer
 import org.gradle.kotlin.dsl.apply
 import org.gradle.kotlin.dsl.register
 import org.gradle.kotlin.dsl.withType
@@ -72,7 +85,8 @@ import io.spine.tools.compiler.plugin.Plugin as CompilerPlugin
  *      introduced by the modules of the CoreJvm Compiler modules.
  *   3. Creates a [WriteCompilerPluginsSettings] task for passing configuration to the Compiler, and
  *      links it to the [LaunchSpineCompiler] task.
- *   4. Adds required dependencies.
+ *   4. Creates a [CheckCompilerReproducibility] task, which is run only when requested.
+ *   5. Adds required dependencies.
  */
 internal class CompilerConfigPlugin : Plugin<Project> {
 
@@ -84,6 +98,9 @@ internal class CompilerConfigPlugin : Plugin<Project> {
      * We need to squeeze our configuration before the `LaunchSpineCompiler` task is configured.
      * This means adding the `afterEvaluate(..)` hook before the Compiler Gradle plugin
      * is applied to the project.
+     *
+     * The tasks are configured via `configureEach` and `named` so that none of them
+     * is created during the configuration phase, unless Gradle needs to run it.
      */
     override fun apply(project: Project) {
         project.afterEvaluate {
@@ -101,6 +118,12 @@ internal class CompilerConfigPlugin : Plugin<Project> {
          */
         const val WRITE_COMPILER_PLUGINS_SETTINGS = "writeSpineCompilerPluginsSettings"
 
+        /**
+         * The name of the task checking that the Compiler renders the same code
+         * when run twice.
+         */
+        const val CHECK_COMPILER_REPRODUCIBILITY = "checkSpineCompilerReproducibility"
+
         /**
          * The name of the Validation plugin for the Compiler.
          */
@@ -111,29 +134,131 @@ internal class CompilerConfigPlugin : Plugin<Project> {
 private fun Project.configureCompiler() {
     configureCompilerPlugins()
     val writeSettingsTask = createWriteSettingsTask()
-    tasks.withType<LaunchSpineCompiler>().all { task ->
+    val rendering = coreJvmOptions.rendering
+    tasks.withType<LaunchSpineCompiler>().configureEach { task ->
         task.apply {
             dependsOn(writeSettingsTask)
             standardOutput = System.out
             errorOutput = System.err
+            systemProperties(rendering.systemProperties())
+            compileClasspathOf(this)?.let { classpath ->
+                inputs.files(classpath)
+                    .withPropertyName(COMPILE_CLASSPATH_INPUT)
+                    .withNormalizer(CompileClasspathNormalizer::class.java)
+            }
+            if (rendering.incremental.get()) {
+                val cacheDir = incrementalCacheDir(name)
+                localState.register(cacheDir)
+                jvmArgumentProviders.add(
+                    IncrementalRenderingArguments(
+                        cacheDir,
+                        settingsDirectory(),
+                        (compilerSettings as Extension).plugins
+                    )
+                )
+            }
+            if (rendering.metrics.get()) {
+                jvmArgumentProviders.add(
+                    PipelineReportArgument(
+                        PipelineMetrics.REPORT_PROPERTY,
+                        reportFile(name, METRICS_FILE)
+                    )
+                )
+            }
+            if (rendering.trace.get()) {
+                jvmArgumentProviders.add(
+                    PipelineReportArgument(
+                        PipelineTrace.TRACE_PROPERTY,
+                        reportFile(name, TRACE_FILE)
+                    )
+                )
+            }
         }
     }
     // Make `processResources` and `sourceJar` depend on `writeSpineCompilerPluginsSettings`
     // as demanded by Gradle 9.x. The settings task does not produce resources or sources,
     // but we want to avoid forcing users set the dependencies manually in their projects.
-    tasks.findByName(processResources.value())?.mustRunAfter(writeSettingsTask)
-    tasks.findByName(sourcesJar.value())?.mustRunAfter(writeSettingsTask)
+    val settingsConsumers = setOf(processResources.value(), sourcesJar.value())
+    tasks.named { it in settingsConsumers }.configureEach {
+        it.mustRunAfter(writeSettingsTask)
+    }
+    createCheckReproducibilityTask()
 }
 
+private fun Project.createCheckReproducibilityTask() {
+    tasks.register<CheckCompilerReproducibility>(CHECK_COMPILER_REPRODUCIBILITY) {
+        group = SpineTaskGroup.name
+        description = "Runs the Spine Compiler again and checks that it renders the same code"
+        launchTasks = project.tasks.withType<LaunchSpineCompiler>()
+        dependsOn(launchTasks)
+        notCompatibleWithConfigurationCache("Runs the Compiler as configured by other tasks.")
+    }
+}
+
+/**
+ * Obtains the compilation classpath of the source set processed by the given task.
+ *
+ * The classpath is declared as an input of the task, so that the task is not up-to-date
+ * when the API of the classes the generated code is compiled against changes.
+ * The classpath is resolved by Gradle only when the task is about to run.
+ *
+ * @return the classpath, or `null` if the project has no source set for the task.
+ */
+private fun Project.compileClasspathOf(task: LaunchSpineCompiler): FileCollection? {
+    val sourceSets = extensions.findByType(SourceSetContainer::class.java) ?: return null
+    val sourceSet = sourceSets.find {
+        launchSpineCompiler(SourceSetName(it.name)).value() == task.name
+    }
+    return sourceSet?.compileClasspath
+}
+
+/**
+ * The name of the input property of the [LaunchSpineCompiler] tasks
+ * with the compilation classpath of the source set.
+ */
+private const val COMPILE_CLASSPATH_INPUT = "compileClasspath"
+
+/**
+ * Obtains the directory storing the cache of the incremental rendering
+ * performed by the task with the given name.
+ */
+private fun Project.incrementalCacheDir(taskName: String): File =
+    layout.buildDirectory.dir("spine/incremental/$taskName").get().asFile
+
+/**
+ * Obtains the directory to which [WriteCompilerPluginsSettings] writes the settings.
+ */
+private fun Project.settingsDirectory(): File {
+    val workingDir = WorkingDirectory(compilerWorkingDir.asFile.toPath())
+    return workingDir.settingsDirectory.path.toFile()
+}
+
+/**
+ * The name of the file for the report of [PipelineMetrics].
+ */
+private const val METRICS_FILE = "pipeline-metrics.json"
+
+/**
+ * The name of the file for the timeline recorded by [PipelineTrace].
+ */
+private const val TRACE_FILE = "pipeline-trace.json"
+
+/**
+ * Obtains the path to the report file with the given name for the task with the given name.
+ */
+private fun Project.reportFile(taskName: String, fileName: String): File =
+    layout.buildDirectory.file("spine/reports/$taskName/$fileName").get().asFile
+
 private fun Project.createWriteSettingsTask(): Provider<WriteCompilerPluginsSettings> {
     val result = tasks.register<WriteCompilerPluginsSettings>(WRITE_COMPILER_PLUGINS_SETTINGS) {
         group = SpineTaskGroup.name
         description = "Writes settings for Spine Compiler plugins of this project"
 
-        val workingDir = WorkingDirectory(compilerWorkingDir.asFile.toPath())
-        val settingsDir = workingDir.settingsDirectory.path.toFile()
+        val settingsDir = project.settingsDirectory()
         val settingsDirProvider = project.layout.dir(provider { settingsDir })
         this.settingsDir.set(settingsDirProvider)
+        val options = coreJvmOptions
+        this.settings.set(provider { options.compilerPluginsSettings() })
     }
     return result
 }
@@ -154,6 +279,13 @@ private fun Project.configureCompilerPlugins() {
     // comes first in the pipeline.
     pluginManager.apply(ValidationGradlePlugin::class.java)
 
+    val rendering = coreJvmOptions.rendering
+    val incremental = rendering.incremental.get()
+    if (incremental) {
+        // Restores the code of unchanged proto files before the CoreJvm plugins.
+        compiler.addPlugin<IncrementalRestorePlugin>()
+    }
+
     configureSignals(compiler)
 
     compiler.run {
@@ -167,8 +299,18 @@ private fun Project.configureCompilerPlugins() {
         // so that their output is annotated too.
         addPlugin(API_ANNOTATIONS)
 
+        if (incremental) {
+            // Records the code rendered by the CoreJvm plugins before it is formatted.
+            addPlugin<IncrementalRecordPlugin>()
+        }
+
         // The Java style formatting comes last to conclude all the rendering.
         addPlugin<JavaCodeStyleFormatterPlugin>()
+
+        if (rendering.metrics.get() || rendering.trace.get()) {
+            // Writes the reports after all the other plugins, including the formatter.
+            addPlugin<PipelineReportPlugin>()
+        }
     }
 }
 
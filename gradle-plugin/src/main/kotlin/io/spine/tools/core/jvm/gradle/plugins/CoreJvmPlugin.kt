@@ -26,8 +26,10 @@
 
 package io.spine.tools.core.jvm.gradle.plugins
 
+import com.google.devtools.ksp.gradle.KspExtension
 import com.google.protobuf.gradle.ProtobufPlugin
 import io.spine.string.simply
+import io.spine.tools.core.jvm.GeneratedAnnotation
 import io.spine.tools.core.jvm.VersionHolder
 import io.spine.tools.core.jvm.gradle.CoreJvmOptions
 import io.spine.tools.core.jvm.gradle.CoreJvmOptions.Companion.name
@@ -42,6 +44,7 @@ import io.spine.tools.time.gradle.TimeGradlePlugin
 import org.gradle.api.Plugin
 import org.gradle.api.Project
 import org.gradle.kotlin.dsl.apply
+import org.gradle.kotlin.dsl.findByType
 
 /**
  * The CoreJvm Compiler plugin for Gradle.
@@ -88,6 +91,21 @@ private fun Project.applyCoreJvmPlugins() {
     val extension = project.coreJvmOptions
     extension.injectProject(project)
     createAndApplyPlugins()
+    afterEvaluate {
+        it.passReproducibleModeToKsp()
+    }
+}
+
+/**
+ * Passes the reproducible mode to KSP processors as a processor option.
+ *
+ * @see io.spine.tools.core.jvm.gradle.RenderingOptions.reproducible
+ */
+private fun Project.passReproducibleModeToKsp() {
+    if (coreJvmOptions.rendering.reproducible.get()) {
+        extensions.findByType<KspExtension>()
+            ?.arg(GeneratedAnnotation.REPRODUCIBLE_PROPERTY, true.toString())
+    }
 }
 
 private fun Project.logApplying() {
@@ -0,0 +1,113 @@
+/*
+ * Copyright 2026, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+
+package io.spine.tools.core.jvm.gradle.plugins
+
+import io.spine.tools.core.jvm.gradle.plugins.CoreJvmCompilerPlugins.API_ANNOTATIONS
+import io.spine.tools.core.jvm.gradle.plugins.CoreJvmCompilerPlugins.COMPARABLE
+import io.spine.tools.core.jvm.gradle.plugins.CoreJvmCompilerPlugins.ENTITY
+import io.spine.tools.core.jvm.gradle.plugins.CoreJvmCompilerPlugins.MARKER
+import io.spine.tools.core.jvm.gradle.plugins.CoreJvmCompilerPlugins.MESSAGE_GROUP
+import io.spine.tools.core.jvm.gradle.plugins.CoreJvmCompilerPlugins.REJECTION_THROWABLE
+import io.spine.tools.core.jvm.gradle.plugins.CoreJvmCompilerPlugins.SIGNAL
+import io.spine.tools.core.jvm.gradle.plugins.CoreJvmCompilerPlugins.UUID
+import io.spine.tools.core.jvm.render.IncrementalCache
+import io.spine.tools.core.jvm.render.IncrementalRecordPlugin
+import io.spine.tools.core.jvm.render.IncrementalRestorePlugin
+import java.io.File
+import org.gradle.api.provider.Provider
+import org.gradle.api.tasks.Internal
+import org.gradle.process.CommandLineArgumentProvider
+
+/**
+ * Passes the directories used by the incremental rendering to the Spine Compiler process.
+ *
+ * The absolute paths of the directories are not inputs of the task, so that
+ * the task stays relocatable. The cache directory is registered as
+ * the [local state][org.gradle.api.Task.getLocalState] of the task, and
+ * the settings directory is the output of [WriteCompilerPluginsSettings].
+ *
+ * The restored code is correct only if every renderer between
+ * [IncrementalRestorePlugin] and [IncrementalRecordPlugin] skips the restored
+ * files, which only the CoreJvm plugins are known to do. If the pipeline has
+ * any other plugin between the two, no arguments are passed. [IncrementalCache]
+ * is then not loaded, and both plugins do nothing.
+ *
+ * @property cacheDir The directory of [IncrementalCache].
+ * @property settingsDir The directory with the settings of the Compiler plugins.
+ * @property plugins The class names of the Compiler plugins in the pipeline order.
+ */
+internal class IncrementalRenderingArguments(
+    @get:Internal val cacheDir: File,
+    @get:Internal val settingsDir: File,
+    @get:Internal val plugins: Provider<out List<String>>
+) : CommandLineArgumentProvider {
+
+    override fun asArguments(): Iterable<String> {
+        if (!supportsIncrementalRendering(plugins.get())) {
+            return emptyList()
+        }
+        return listOf(
+            "-D${IncrementalCache.DIR_PROPERTY}=${cacheDir.absolutePath}",
+            "-D${IncrementalCache.SETTINGS_PROPERTY}=${settingsDir.absolutePath}"
+        )
+    }
+}
+
+/**
+ * The CoreJvm plugins which skip the files restored by [IncrementalRestorePlugin].
+ */
+private val restoreAwarePlugins = setOf(
+    SIGNAL,
+    REJECTION_THROWABLE,
+    MARKER,
+    MESSAGE_GROUP,
+    UUID,
+    COMPARABLE,
+    ENTITY,
+    API_ANNOTATIONS
+)
+
+/**
+ * Tells if the pipeline with the given plugins may restore the rendered code.
+ *
+ * Returns `true` if the pipeline has [IncrementalRestorePlugin] followed by
+ * [IncrementalRecordPlugin], and all the plugins between them are
+ * [known][restoreAwarePlugins] to skip the restored files.
+ *
+ * The plugins before the restore do not matter because their output is a part
+ * of the cache key. The plugins after the record do not matter because their
+ * output is not cached.
+ */
+internal fun supportsIncrementalRendering(plugins: List<String>): Boolean {
+    val restore = plugins.indexOf(IncrementalRestorePlugin::class.java.name)
+    val record = plugins.indexOf(IncrementalRecordPlugin::class.java.name)
+    if (restore < 0 || record < restore) {
+        return false
+    }
+    return plugins.subList(restore + 1, record).all { it in restoreAwarePlugins }
+}
@@ -24,8 +24,6 @@
  * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
  */
 
-@file:Suppress("TooManyFunctions")
-
 package io.spine.tools.core.jvm.gradle.plugins
 
 import com.google.protobuf.Message
@@ -35,7 +33,6 @@ import io.spine.tools.compiler.settings.SettingsDirectory
 import io.spine.tools.core.jvm.annotation.SettingsKt.annotationTypes
 import io.spine.tools.core.jvm.annotation.settings
 import io.spine.tools.core.jvm.gradle.CoreJvmOptions
-import io.spine.tools.core.jvm.gradle.coreJvmOptions
 import io.spine.tools.core.jvm.gradle.plugins.CoreJvmCompilerPlugins.API_ANNOTATIONS
 import io.spine.tools.core.jvm.gradle.plugins.CoreJvmCompilerPlugins.COMPARABLE
 import io.spine.tools.core.jvm.gradle.plugins.CoreJvmCompilerPlugins.ENTITY
@@ -43,15 +40,18 @@ import io.spine.tools.core.jvm.gradle.plugins.CoreJvmCompilerPlugins.MESSAGE_GRO
 import io.spine.tools.core.jvm.gradle.plugins.CoreJvmCompilerPlugins.SIGNAL
 import io.spine.tools.core.jvm.gradle.plugins.CoreJvmCompilerPlugins.UUID
 import io.spine.tools.core.jvm.gradle.plugins.WriteCompilerPluginsSettings.Companion.JAVA_CODE_STYLE_ID
+import io.spine.tools.core.jvm.settings.Combined
 import io.spine.tools.core.jvm.settings.signalSettings
 import io.spine.type.toJson
+import java.io.File
 import java.io.IOException
 import org.gradle.api.DefaultTask
 import org.gradle.api.file.DirectoryProperty
-import org.gradle.api.tasks.Internal
+import org.gradle.api.provider.MapProperty
+import org.gradle.api.tasks.CacheableTask
+import org.gradle.api.tasks.Input
 import org.gradle.api.tasks.OutputDirectory
 import org.gradle.api.tasks.TaskAction
-import org.gradle.work.DisableCachingByDefault
 
 /**
  * A task that writes settings for CoreJvm plugins of the Spine Compiler.
@@ -59,38 +59,44 @@ import org.gradle.work.DisableCachingByDefault
  * The [settingsDir] property defines the directory where settings files for
  * the CoreJvm Compiler plugins are stored.
  *
- * This task writes settings files for the CoreJvm plugins to the Compiler.
+ * The settings are snapshotted into the [settings] property when the task graph is
+ * calculated, serialized in the [Format.ProtoJson] format. So, the task does not access
+ * the project when executed, which makes it compatible with the configuration cache.
+ * Having the serialized settings as the input, the task is up-to-date and
+ * can be taken from the build cache if the settings did not change.
+ *
+ * When the task is executed, only the files the content of which differs from
+ * the serialized settings are written. This keeps the timestamps of the unchanged
+ * files intact for the tasks consuming them.
  */
-@DisableCachingByDefault(because =
-    "We cannot have the `options` property as declared task input, but settings are fast to write."
-)
+@CacheableTask
 @Suppress("unused") // Gradle creates a subtype for this class.
 public abstract class WriteCompilerPluginsSettings : DefaultTask() {
 
     @get:OutputDirectory
     public abstract val settingsDir: DirectoryProperty
 
-    @get:Internal
-    internal val options: CoreJvmOptions by lazy {
-        project.coreJvmOptions
-    }
-
-    @get:Internal
-    internal val compilerSettings by lazy {
-        options.compiler!!.toProto()
-    }
+    /**
+     * The settings of the Compiler plugins serialized as JSON, by the IDs of the settings.
+     */
+    @get:Input
+    public abstract val settings: MapProperty<String, String>
 
     @TaskAction
     @Throws(IOException::class)
     public fun writeFiles() {
-        val dir = settingsDirectory()
-        forAnnotationPlugin(dir)
-        forEntityPlugin(dir)
-        forSignalPlugin(dir)
-        forMessageGroupPlugin(dir)
-        forUuidPlugin(dir)
-        forComparablePlugin(dir)
-        forStyleFormattingPlugin(dir)
+        val targetDir = settingsDir.get().asFile
+        targetDir.mkdirs()
+        val stagingDir = temporaryDir.resolve("settings")
+        stagingDir.deleteRecursively()
+        stagingDir.mkdirs()
+        val staging = SettingsDirectory(stagingDir.toPath())
+        settings.get().forEach { (id, json) ->
+            staging.write(id, Format.ProtoJson, json)
+        }
+        stagingDir.listFiles()!!.forEach {
+            it.copyIfChanged(targetDir.resolve(it.name))
+        }
     }
 
     internal companion object {
@@ -108,18 +114,34 @@ public abstract class WriteCompilerPluginsSettings : DefaultTask() {
 }
 
 /**
- * Obtains an instance of [SettingsDirectory] to be used for writing files that
- * points to the directory specified by the [WriteCompilerPluginsSettings.settingsDir] property.
+ * Copies this file to the [target] unless the target already has the same content.
  */
-private fun WriteCompilerPluginsSettings.settingsDirectory(): SettingsDirectory {
-    val dir = project.file(settingsDir)
-    dir.mkdirs()
-    val settings = SettingsDirectory(dir.toPath())
-    return settings
+private fun File.copyIfChanged(target: File) {
+    val content = readBytes()
+    if (target.isFile && target.readBytes().contentEquals(content)) {
+        return
+    }
+    target.writeBytes(content)
+}
+
+/**
+ * Serializes the settings of all the CoreJvm Compiler plugins by the IDs of the settings.
+ */
+internal fun CoreJvmOptions.compilerPluginsSettings(): Map<String, String> {
+    val compilerSettings = compiler!!.toProto()
+    return buildMap<String, Message> {
+        put(API_ANNOTATIONS, annotationSettings())
+        put(ENTITY, compilerSettings.entities)
+        put(SIGNAL, signalSettings(compilerSettings))
+        put(MESSAGE_GROUP, compilerSettings.groupSettings)
+        put(UUID, compilerSettings.uuids)
+        put(COMPARABLE, compilerSettings.comparables)
+        put(JAVA_CODE_STYLE_ID, style.get())
+    }.mapValues { (_, message) -> message.toJson() }
 }
 
-private fun WriteCompilerPluginsSettings.forAnnotationPlugin(dir: SettingsDirectory) {
-    val annotation = options.annotation
+private fun CoreJvmOptions.annotationSettings(): Message {
+    val annotation = annotation
     val proto = settings {
         val javaType = annotation.types
         annotationTypes = annotationTypes {
@@ -131,47 +153,14 @@ private fun WriteCompilerPluginsSettings.forAnnotationPlugin(dir: SettingsDirect
         internalClassPattern.addAll(annotation.internalClassPatterns.get())
         internalMethodName.addAll(annotation.internalMethodNames.get())
     }
-    dir.write(API_ANNOTATIONS, proto)
-}
-
-private fun WriteCompilerPluginsSettings.forEntityPlugin(dir: SettingsDirectory) {
-    val entitySettings = compilerSettings.entities
-    dir.write(ENTITY, entitySettings)
+    return proto
 }
 
-private fun WriteCompilerPluginsSettings.forSignalPlugin(dir: SettingsDirectory) {
+private fun signalSettings(compilerSettings: Combined): Message {
     val codegen = compilerSettings.signalSettings
-    val signalSettings = signalSettings {
+    return signalSettings {
         commands = codegen.commands
         events = codegen.events
         rejections = codegen.rejections
     }
-    dir.write(SIGNAL, signalSettings)
-}
-
-private fun WriteCompilerPluginsSettings.forMessageGroupPlugin(dir: SettingsDirectory) {
-    val groupSettings = compilerSettings.groupSettings
-    dir.write(MESSAGE_GROUP, groupSettings)
-}
-
-private fun WriteCompilerPluginsSettings.forUuidPlugin(dir: SettingsDirectory) {
-    val uuidSettings = compilerSettings.uuids
-    dir.write(UUID, uuidSettings)
-}
-
-private fun WriteCompilerPluginsSettings.forComparablePlugin(dir: SettingsDirectory) {
-    val settings = compilerSettings.comparables
-    dir.write(COMPARABLE, settings)
-}
-
-private fun WriteCompilerPluginsSettings.forStyleFormattingPlugin(dir: SettingsDirectory) {
-    val styleSettings = options.style.get()
-    dir.write(JAVA_CODE_STYLE_ID, styleSettings)
-}
-
-/**
- * Writes the given instance of settings in [Format.ProtoJson] format using the [id].
- */
-private fun SettingsDirectory.write(id: String, settings: Message) {
-    write(id, Format.ProtoJson, settings.toJson())
 }
@@ -27,6 +27,8 @@
 package io.spine.tools.core.jvm.gradle.plugins
 
 import io.kotest.matchers.shouldBe
+import io.kotest.matchers.string.shouldContain
+import io.kotest.matchers.string.shouldNotContain
 import io.spine.tools.core.jvm.gradle.Compiler
 import io.spine.tools.core.jvm.gradle.module.ArtifactRegistry
 import io.spine.tools.gradle.task.BaseTaskName
@@ -188,4 +190,46 @@ class CoreJvmPluginIgTest {
         val result = project.executeTask(task)
         result[task] shouldBe TaskOutcome.SUCCESS
     }
+
+    @Test
+    fun `not create tasks during configuration`(@TempDir projectDir: File) {
+        @Language("kotlin")
+        val buildFile = buildscriptWithFullClasspath + """
+            |plugins {
+            |    java
+            |    kotlin("jvm").version("${KotlinGradlePlugin.version}")
+            |    id("com.google.protobuf").version("${ProtobufGradlePlugin.version}")
+            |}
+            |
+            |tasks.configureEach {
+            |    println("Created task: `${'$'}name`.")
+            |}
+            |
+            |apply(plugin = "io.spine.core-jvm")
+            |
+            |group = "io.spine.tools.tests"
+            |version = "1.0.0-SNAPSHOT"
+            |""".trimMargin()
+        val project = GradleProject.setupAt(projectDir)
+            .withSharedTestKitDirectory()
+            .addFile("settings.gradle.kts", settingsFile.lines())
+            .addFile("build.gradle.kts", buildFile.lines())
+            .create()
+        val result = project.runner
+            .withArguments("help", "--configuration-cache")
+            .build()
+        result.task(":help")?.outcome shouldBe TaskOutcome.SUCCESS
+        result.output shouldContain "Configuration cache entry stored"
+        val configuredByPlugin = listOf(
+            "launchSpineCompiler",
+            "launchTestSpineCompiler",
+            "writeSpineCompilerPluginsSettings",
+            "kspKotlin",
+            "kspTestKotlin",
+            "processResources",
+        )
+        configuredByPlugin.forEach {
+            result.output shouldNotContain "Created task: `$it`."
+        }
+    }
 }
@@ -26,15 +26,18 @@
 
 package io.spine.tools.core.jvm.gradle.plugins
 
+import io.kotest.matchers.collections.shouldContainAll
 import io.kotest.matchers.collections.shouldContainInOrder
 import io.kotest.matchers.collections.shouldNotBeEmpty
 import io.kotest.matchers.shouldNotBe
+import io.kotest.matchers.types.shouldBeInstanceOf
 import io.spine.tools.compiler.gradle.api.CompilerSettings
 import io.spine.tools.compiler.gradle.plugin.Extension
 import io.spine.tools.compiler.gradle.plugin.LaunchSpineCompiler
 import io.spine.tools.core.annotation.ApiAnnotationsPlugin
 import io.spine.tools.core.jvm.gradle.GradleProjects.evaluate
 import io.spine.tools.core.jvm.gradle.given.StubProject
+import io.spine.tools.core.jvm.gradle.plugins.CompilerConfigPlugin.Companion.CHECK_COMPILER_REPRODUCIBILITY
 import io.spine.tools.core.jvm.gradle.plugins.CompilerConfigPlugin.Companion.VALIDATION_PLUGIN_CLASS
 import io.spine.tools.core.jvm.signal.rejection.RThrowablePlugin
 import io.spine.tools.gradle.lib.spineExtension
@@ -101,4 +104,12 @@ internal class CoreJvmPluginSpec {
         task shouldNotBe null
         task.shouldNotBeEmpty()
     }
+
+    @Test
+    fun `add a task for checking the reproducibility of the Compiler output`() {
+        val task = project.tasks.getByName(CHECK_COMPILER_REPRODUCIBILITY)
+        task.shouldBeInstanceOf<CheckCompilerReproducibility>()
+        task.taskDependencies.getDependencies(task) shouldContainAll
+                project.tasks.withType<LaunchSpineCompiler>().toList()
+    }
 }
@@ -0,0 +1,104 @@
+/*
+ * Copyright 2026, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.tools.core.jvm.gradle.plugins
+
+import io.kotest.matchers.collections.shouldBeEmpty
+import io.kotest.matchers.collections.shouldHaveSize
+import io.kotest.matchers.shouldBe
+import io.spine.tools.compiler.jvm.style.JavaCodeStyleFormatterPlugin
+import io.spine.tools.core.jvm.gradle.plugins.CompilerConfigPlugin.Companion.VALIDATION_PLUGIN_CLASS
+import io.spine.tools.core.jvm.gradle.plugins.CoreJvmCompilerPlugins.API_ANNOTATIONS
+import io.spine.tools.core.jvm.gradle.plugins.CoreJvmCompilerPlugins.ENTITY
+import io.spine.tools.core.jvm.gradle.plugins.CoreJvmCompilerPlugins.SIGNAL
+import io.spine.tools.core.jvm.render.IncrementalRecordPlugin
+import io.spine.tools.core.jvm.render.IncrementalRestorePlugin
+import java.io.File
+import org.gradle.api.Project
+import org.gradle.testfixtures.ProjectBuilder
+import org.junit.jupiter.api.BeforeEach
+import org.junit.jupiter.api.DisplayName
+import org.junit.jupiter.api.Test
+import org.junit.jupiter.api.io.TempDir
+
+@DisplayName("`IncrementalRenderingArguments` should")
+internal class IncrementalRenderingArgumentsSpec {
+
+    private lateinit var project: Project
+
+    @BeforeEach
+    fun createProject(@TempDir projectDir: File) {
+        project = ProjectBuilder.builder().withProjectDir(projectDir).build()
+    }
+
+    private fun arguments(vararg plugins: String) = IncrementalRenderingArguments(
+        project.file("cache"),
+        project.file("settings"),
+        project.provider { plugins.toList() }
+    ).asArguments().toList()
+
+    @Test
+    fun `pass the directories when only CoreJvm plugins are between the restore and the record`() {
+        arguments(
+            VALIDATION_PLUGIN_CLASS,
+            RESTORE,
+            SIGNAL,
+            ENTITY,
+            API_ANNOTATIONS,
+            RECORD,
+            FORMATTER
+        ) shouldHaveSize 2
+    }
+
+    @Test
+    fun `pass nothing when a foreign renderer is between the restore and the record`() {
+        arguments(RESTORE, SIGNAL, FOREIGN_PLUGIN, API_ANNOTATIONS, RECORD).shouldBeEmpty()
+    }
+
+    @Test
+    fun `allow foreign plugins before the restore and after the record`() {
+        arguments(FOREIGN_PLUGIN, RESTORE, SIGNAL, RECORD, FOREIGN_PLUGIN) shouldHaveSize 2
+    }
+
+    @Test
+    fun `pass nothing when the record does not follow the restore`() {
+        arguments(RESTORE, SIGNAL).shouldBeEmpty()
+        arguments(RECORD, SIGNAL, RESTORE).shouldBeEmpty()
+    }
+
+    @Test
+    fun `not support the pipeline with a foreign renderer between the restore and the record`() {
+        supportsIncrementalRendering(listOf(RESTORE, FOREIGN_PLUGIN, RECORD)) shouldBe false
+        supportsIncrementalRendering(listOf(RESTORE, RECORD)) shouldBe true
+    }
+
+    private companion object {
+        val RESTORE: String = IncrementalRestorePlugin::class.java.name
+        val RECORD: String = IncrementalRecordPlugin::class.java.name
+        val FORMATTER: String = JavaCodeStyleFormatterPlugin::class.java.name
+        const val FOREIGN_PLUGIN = "org.example.codegen.CustomRendererPlugin"
+    }
+}
@@ -0,0 +1,78 @@
+/*
+ * Copyright 2026, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.tools.core.jvm.gradle.plugins
+
+import io.kotest.matchers.collections.shouldBeEmpty
+import io.kotest.matchers.collections.shouldContainExactly
+import java.io.File
+import org.junit.jupiter.api.BeforeEach
+import org.junit.jupiter.api.DisplayName
+import org.junit.jupiter.api.Test
+import org.junit.jupiter.api.io.TempDir
+
+@DisplayName("`OutputTree` should")
+internal class OutputTreeSpec {
+
+    private lateinit var root: File
+    private lateinit var output: File
+
+    @BeforeEach
+    fun createOutput(@TempDir dir: File) {
+        root = dir.resolve("generated")
+        output = root.resolve("java/org/example/A.java").apply {
+            parentFile.mkdirs()
+            writeText("class A {}")
+        }
+    }
+
+    private fun tree() = OutputTree.of(listOf(root, root.resolveSibling("missing")))
+
+    @Test
+    fun `find no differences when the files are the same`() {
+        val first = tree()
+        output.writeText("class A {}")
+        first.differencesFrom(tree()).shouldBeEmpty()
+    }
+
+    @Test
+    fun `find changed files`() {
+        val first = tree()
+        output.writeText("class A { /* 2nd run */ }")
+        first.differencesFrom(tree()) shouldContainExactly listOf(output.invariantSeparatorsPath)
+    }
+
+    @Test
+    fun `find added and removed files`() {
+        val first = tree()
+        val added = root.resolve("java/org/example/B.java").apply { writeText("class B {}") }
+        output.delete()
+        first.differencesFrom(tree()) shouldContainExactly listOf(
+            output.invariantSeparatorsPath,
+            added.invariantSeparatorsPath
+        )
+    }
+}
@@ -0,0 +1,82 @@
+/*
+ * Copyright 2026, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.tools.core.jvm.gradle.plugins
+
+import io.kotest.matchers.collections.shouldHaveSize
+import io.kotest.matchers.shouldBe
+import io.kotest.matchers.string.shouldContain
+import java.io.File
+import org.gradle.api.Project
+import org.gradle.kotlin.dsl.register
+import org.gradle.testfixtures.ProjectBuilder
+import org.junit.jupiter.api.BeforeEach
+import org.junit.jupiter.api.DisplayName
+import org.junit.jupiter.api.Test
+import org.junit.jupiter.api.io.TempDir
+
+@DisplayName("`WriteCompilerPluginsSettings` should")
+internal class WriteCompilerPluginsSettingsSpec {
+
+    private lateinit var project: Project
+    private lateinit var task: WriteCompilerPluginsSettings
+    private lateinit var outputDir: File
+
+    @BeforeEach
+    fun createTask(@TempDir projectDir: File) {
+        project = ProjectBuilder.builder().withProjectDir(projectDir).build()
+        outputDir = projectDir.resolve("settings")
+        task = project.tasks.register<WriteCompilerPluginsSettings>("writeSettings") {
+            settingsDir.set(outputDir)
+            settings.put("first", """{ "value": 1 }""")
+            settings.put("second", """{ "value": 2 }""")
+        }.get()
+    }
+
+    @Test
+    fun `write a file per settings ID`() {
+        task.writeFiles()
+        val files = outputDir.listFiles()!!.sortedBy { it.name }
+        files shouldHaveSize 2
+        files[0].readText() shouldContain "1"
+        files[1].readText() shouldContain "2"
+    }
+
+    @Test
+    fun `not touch files which did not change`() {
+        task.writeFiles()
+        val files = outputDir.listFiles()!!.sortedBy { it.name }
+        val past = (System.currentTimeMillis() / 1000 - 10) * 1000
+        files.forEach { it.setLastModified(past) }
+
+        task.settings.put("second", """{ "value": 3 }""")
+        task.writeFiles()
+
+        files[0].lastModified() shouldBe past
+        (files[1].lastModified() > past) shouldBe true
+        files[1].readText() shouldContain "3"
+    }
+}
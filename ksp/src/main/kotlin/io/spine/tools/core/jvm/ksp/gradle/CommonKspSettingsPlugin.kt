@@ -29,15 +29,14 @@ package io.spine.tools.core.jvm.ksp.gradle
 import com.google.devtools.ksp.KspExperimental
 import com.google.devtools.ksp.gradle.KspExtension
 import com.google.protobuf.gradle.ProtobufExtension
+import io.spine.tools.code.SourceSetName
 import io.spine.tools.compiler.gradle.api.CompilerTaskName
 import io.spine.tools.compiler.gradle.api.generatedDir
-import io.spine.tools.core.jvm.gradle.debug
 import io.spine.tools.core.jvm.gradle.info
 import io.spine.tools.core.jvm.ksp.gradle.Meta.autoServiceAnnotations
 import io.spine.tools.fs.DirectoryName.grpc
 import io.spine.tools.fs.DirectoryName.java
 import io.spine.tools.fs.DirectoryName.kotlin
-import io.spine.tools.gradle.project.findKotlinCompileFor
 import io.spine.tools.gradle.project.sourceSet
 import io.spine.tools.gradle.project.sourceSets
 import io.spine.tools.gradle.task.findKotlinDirectorySet
@@ -67,7 +66,7 @@ public class CommonKspSettingsPlugin : Plugin<Project> {
     }
 
     private fun Project.addDependencies() {
-        sourceSets.forEach { sourceSet ->
+        sourceSets.configureEach { sourceSet ->
             val configurationName = sourceSet.compileOnlyConfigurationName
             dependencies.add(
                 configurationName,
@@ -145,20 +144,16 @@ private fun Project.addSourcesGeneratedBySpineCompiler() {
  * optimization because of the absence of explicit or implicit dependencies.
  */
 private fun Project.makeKspTasksDependOnSpineCompiler() {
-    afterEvaluate {
-        val kspTasks = kspTasks()
-        logger.debug { "Found ${kspTasks.size} KSP tasks in the project `$name`." }
-        kspTasks.forEach { (ssn, kspTask) ->
-            val taskName = CompilerTaskName(ssn)
-            // Even if a task with `taskName` does not exist, the call
-            // to `mustRunAfter` won't fail.
-            // We do this instead of `dependsOn` because historically it
-            // proves to be unreliable in this particular case.
-            kspTask.mustRunAfter(taskName.value())
-            logger.info {
-                " `${kspTask.name}` set to run after" +
-                        " `${taskName.value()}` in the project `$name`."
-            }
+    configureKspTasks { ssn, kspTask ->
+        val taskName = CompilerTaskName(ssn)
+        // Even if a task with `taskName` does not exist, the call
+        // to `mustRunAfter` won't fail.
+        // We do this instead of `dependsOn` because historically it
+        // proves to be unreliable in this particular case.
+        kspTask.mustRunAfter(taskName.value())
+        logger.info {
+            " `${kspTask.name}` set to run after" +
+                    " `${taskName.value()}` in the project `$name`."
         }
     }
 }
@@ -170,12 +165,11 @@ private fun Project.makeKspTasksDependOnSpineCompiler() {
  * So, we set this dependency to avoid the Gradle error when the CoreJvm Compiler is applied.
  */
 private fun Project.makeCompileKotlinTasksDependOnKspTasks() {
-    afterEvaluate {
-        val kspTasks = kspTasks()
-        kspTasks.forEach { (ssn, kspTask) ->
-            val sourceSet = sourceSets.findByName(ssn.value)
-            val compileKotlin = findKotlinCompileFor(sourceSet!!)
-            compileKotlin?.dependsOn(kspTask)
+    sourceSets.configureEach { sourceSet ->
+        val kspTasks = kspTasksOf(SourceSetName(sourceSet.name))
+        val compileKotlin = sourceSet.getCompileTaskName(kotlin.name)
+        tasks.named { it == compileKotlin }.configureEach {
+            it.dependsOn(kspTasks)
         }
     }
 }
@@ -187,12 +181,17 @@ private fun Project.makeCompileKotlinTasksDependOnKspTasks() {
  *
  * Also `kotlin` directory set for each source set gets new generated
  * Kotlin and Java source directories as its inputs.
+ *
+ * The KSP tasks are configured after the project is evaluated, so that our action
+ * is added after the one passed by KSP Gradle Plugin when registering a task.
+ * Gradle runs configuration actions in the order of their addition. So, the directories
+ * set by KSP are already there for replacing when the task is created.
  */
 private fun Project.replaceKspOutputDirs() {
     afterEvaluate {
         val underBuild = KspGradlePlugin.defaultTargetDirectory(it).toString()
         val underProject = generatedDir.toString()
-        kspTasks().forEach { (ssn, kspTask) ->
+        configureKspTasks { ssn, kspTask ->
             kspTask.kspConfig.run {
                 outputBaseDir.replacePath(underBuild, underProject)
                 kotlinOutputDir.replacePath(underBuild, underProject)
@@ -29,10 +29,15 @@ package io.spine.tools.core.jvm.ksp.gradle
 import com.google.devtools.ksp.gradle.KspAATask
 import io.spine.tools.code.SourceSetName
 import io.spine.tools.gradle.project.sourceSetNames
+import io.spine.tools.gradle.project.sourceSets
 import org.gradle.api.Project
+import org.gradle.api.tasks.TaskCollection
 
 /**
  * Lists KSP tasks found in this project for its source sets.
+ *
+ * Please note that the function creates the tasks which are only registered so far.
+ * Prefer [configureKspTasks] and [kspTasksOf] for configuring the tasks.
  */
 public fun Project.kspTasks(): Map<SourceSetName, KspAATask> {
     val withNulls = sourceSetNames.associateWith { ssn ->
@@ -43,3 +48,30 @@ public fun Project.kspTasks(): Map<SourceSetName, KspAATask> {
         .mapValues { it.value!! as KspAATask }
     return result
 }
+
+/**
+ * Obtains a live collection with the KSP task for the source set with the given name.
+ *
+ * The collection is empty if there is no such task. Obtaining the collection
+ * does not create the task, so it can be used, e.g., as a task dependency.
+ */
+public fun Project.kspTasksOf(ssn: SourceSetName): TaskCollection<KspAATask> {
+    val kspTaskName = KspTaskName(ssn).value()
+    return tasks.withType(KspAATask::class.java).named { it == kspTaskName }
+}
+
+/**
+ * Configures the KSP tasks of this project with the given [action]
+ * when Gradle creates them.
+ *
+ * The action receives the name of the source set of the task.
+ * The function works for the source sets and the tasks added after its call.
+ */
+public fun Project.configureKspTasks(action: (SourceSetName, KspAATask) -> Unit) {
+    sourceSets.configureEach { sourceSet ->
+        val ssn = SourceSetName(sourceSet.name)
+        kspTasksOf(ssn).configureEach {
+            action(ssn, it)
+        }
+    }
+}
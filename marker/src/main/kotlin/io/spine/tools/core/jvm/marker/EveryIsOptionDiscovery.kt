@@ -38,6 +38,7 @@ import io.spine.tools.compiler.ast.find
 import io.spine.tools.compiler.plugin.Reaction
 import io.spine.tools.core.jvm.marker.event.EveryIsOptionDiscovered
 import io.spine.tools.core.jvm.marker.event.everyIsOptionDiscovered
+import io.spine.tools.core.jvm.render.PipelineMetrics
 
 /**
  * Finds files with `(every_is)` option emitting [EveryIsOptionDiscovered], if found.
@@ -48,7 +49,10 @@ internal class EveryIsOptionDiscovery : Reaction<FileEntered>() {
     override fun whenever(
         @External event: FileEntered
     ): EitherOf2<EveryIsOptionDiscovered, NoReaction> {
-        val found = event.header.optionList.find<EveryIsOption>()
+        val found = PipelineMetrics.measure(this) {
+            event.header.optionList.find<EveryIsOption>()
+        }
+        PipelineMetrics.reacted(this, matched = found != null)
         return if (found != null) {
             everyIsOptionDiscovered {
                 file = event.file
@@ -27,7 +27,6 @@
 package io.spine.tools.core.jvm.marker
 
 import com.google.protobuf.Message
-import com.intellij.psi.PsiJavaFile
 import io.spine.tools.compiler.jvm.ClassName
 import io.spine.tools.compiler.jvm.qualifiedJavaType
 import io.spine.tools.compiler.jvm.render.CreateInterface
@@ -35,6 +34,7 @@ import io.spine.tools.compiler.jvm.render.superInterface
 import io.spine.tools.compiler.render.SourceFile
 import io.spine.tools.code.Java
 import io.spine.tools.core.jvm.GeneratedAnnotation
+import io.spine.tools.core.jvm.render.PsiSession
 import io.spine.tools.java.reference
 import io.spine.tools.psi.java.addFirst
 import io.spine.tools.psi.java.execute
@@ -50,7 +50,7 @@ import io.spine.tools.psi.java.topLevelClass
  */
 internal class EveryIsOptionRenderer : MarkerRenderer<EveryIsMessages>() {
 
-    override fun doRender(view: EveryIsMessages) {
+    override fun renderMarkers(view: EveryIsMessages) {
         execute {
             view.run {
                 val interfaceName = option.qualifiedJavaType(header)
@@ -86,9 +86,8 @@ internal class EveryIsOptionRenderer : MarkerRenderer<EveryIsMessages>() {
 }
 
 private fun annotate(file: SourceFile<Java>) {
-    val psiFile = file.psi() as PsiJavaFile
+    val psiFile = PsiSession.psi(file)
     val annotation = GeneratedAnnotation.forPsi()
     psiFile.topLevelClass.addFirst(annotation)
-    val updatedCode = psiFile.text
-    file.overwrite(updatedCode)
+    PsiSession.write(file, psiFile)
 }
@@ -38,6 +38,7 @@ import io.spine.tools.compiler.ast.find
 import io.spine.tools.compiler.plugin.Reaction
 import io.spine.tools.core.jvm.marker.event.IsOptionDiscovered
 import io.spine.tools.core.jvm.marker.event.isOptionDiscovered
+import io.spine.tools.core.jvm.render.PipelineMetrics
 
 /**
  * Finds message types with `(is)` option emitting [IsOptionDiscovered], if found.
@@ -48,7 +49,10 @@ internal class IsOptionDiscovery : Reaction<TypeDiscovered>() {
     override fun whenever(
         @External event: TypeDiscovered
     ): EitherOf2<IsOptionDiscovered, NoReaction> {
-        val found = event.type.optionList.find<IsOption>()
+        val found = PipelineMetrics.measure(this) {
+            event.type.optionList.find<IsOption>()
+        }
+        PipelineMetrics.reacted(this, matched = found != null)
         return if (found != null) {
             isOptionDiscovered {
                 file = event.file
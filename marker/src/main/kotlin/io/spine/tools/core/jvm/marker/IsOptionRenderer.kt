@@ -42,7 +42,7 @@ import io.spine.tools.psi.java.execute
  */
 internal class IsOptionRenderer : MarkerRenderer<MessagesWithIs>() {
 
-    override fun doRender(view: MessagesWithIs) {
+    override fun renderMarkers(view: MessagesWithIs) {
         view.typeList.forEach {
             doRender(it)
         }
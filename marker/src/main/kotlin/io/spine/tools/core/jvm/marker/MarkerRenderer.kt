@@ -31,6 +31,9 @@ import io.spine.tools.compiler.ast.MessageType
 import io.spine.tools.compiler.jvm.render.BaseRenderer
 import io.spine.tools.compiler.jvm.render.ImplementInterface
 import io.spine.tools.compiler.jvm.render.SuperInterface
+import io.spine.tools.core.jvm.render.IncrementalRendering
+import io.spine.tools.core.jvm.render.PipelineMetrics
+import io.spine.tools.core.jvm.render.PsiSession
 import org.checkerframework.checker.signature.qual.FullyQualifiedName
 
 /**
@@ -38,11 +41,31 @@ import org.checkerframework.checker.signature.qual.FullyQualifiedName
  */
 internal abstract class MarkerRenderer<V : EntityState<*>> : BaseRenderer<V>() {
 
+    final override fun doRender(view: V) {
+        PipelineMetrics.measure(this) {
+            renderMarkers(view)
+        }
+    }
+
+    /**
+     * Makes the message types of the given view implement the marker interfaces.
+     */
+    protected abstract fun renderMarkers(view: V)
+
     /**
      * Makes the Java class corresponding to this message type implement the given [superInterface].
+     *
+     * The [ImplementInterface] action parses the file itself, so the pending changes
+     * of [PsiSession] are written before running the action.
+     *
+     * Does nothing if the file of the class was restored by the incremental rendering.
      */
     protected fun MessageType.implementInterface(superInterface: SuperInterface) {
         val file = sources.javaFileOf(this)
+        if (IncrementalRendering.isRestored(file)) {
+            return
+        }
+        PsiSession.flush()
         val action = ImplementInterface(this, file, superInterface, context)
         action.render()
     }
@@ -38,8 +38,11 @@ import io.spine.tools.compiler.plugin.Reaction
 import io.spine.tools.compiler.settings.loadSettings
 import io.spine.tools.core.jvm.mgroup.event.GroupedMessageDiscovered
 import io.spine.tools.core.jvm.mgroup.event.groupedMessageDiscovered
+import io.spine.tools.core.jvm.render.PipelineMetrics
 import io.spine.tools.core.jvm.settings.GroupSettings
-import io.spine.tools.core.jvm.settings.matches
+import io.spine.tools.core.jvm.settings.MessageGroup
+import io.spine.tools.core.jvm.settings.PatternIndex
+import io.spine.tools.core.jvm.settings.toPatternIndex
 
 /**
  * Detects message types matching [GroupSettings] in response to [TypeDiscovered] event.
@@ -52,14 +55,22 @@ internal class GroupedMessageDiscovery : Reaction<TypeDiscovered>(), MessageGrou
         loadSettings()
     }
 
+    /**
+     * The patterns of the groups compiled once for all the discovered types.
+     */
+    private val groups: PatternIndex<MessageGroup> by lazy {
+        settings.toPatternIndex()
+    }
+
     @React
     override fun whenever(
         @External event: TypeDiscovered
     ): EitherOf2<GroupedMessageDiscovered, NoReaction> {
         val type = event.type
-        val matchingGroups = settings.groupList.filter {
-            it.pattern.matches(type) && type.isTopLevel
+        val matchingGroups = PipelineMetrics.measure(this) {
+            if (type.isTopLevel) groups.matching(type) else emptyList()
         }
+        PipelineMetrics.reacted(this, matched = matchingGroups.isNotEmpty())
         return if (matchingGroups.isNotEmpty()) {
             groupedMessageDiscovered {
                 this@groupedMessageDiscovered.type = type
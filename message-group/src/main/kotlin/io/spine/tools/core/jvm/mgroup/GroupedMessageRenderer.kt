@@ -26,17 +26,23 @@
 
 package io.spine.tools.core.jvm.mgroup
 
+import io.spine.tools.compiler.ast.qualifiedName
 import io.spine.tools.compiler.jvm.file.hasJavaRoot
 import io.spine.tools.compiler.jvm.render.JavaRenderer
 import io.spine.tools.compiler.jvm.render.RenderActions
 import io.spine.tools.compiler.render.SourceFile
 import io.spine.tools.compiler.render.SourceFileSet
 import io.spine.tools.code.Java
+import io.spine.tools.core.jvm.render.IncrementalRendering
+import io.spine.tools.core.jvm.render.PipelineMetrics
+import io.spine.tools.core.jvm.render.PsiSession
 import io.spine.tools.core.jvm.settings.GroupSettings
 import io.spine.tools.psi.java.execute
 
 /**
  * Renders code for message types gathered in [GroupedMessage].
+ *
+ * The types are processed in the order of their names.
  */
 internal class GroupedMessageRenderer : JavaRenderer(), MessageGroupPluginComponent {
 
@@ -59,18 +65,34 @@ internal class GroupedMessageRenderer : JavaRenderer(), MessageGroupPluginCompon
         if (!relevant) {
             return
         }
-        val types = findTypes()
-        types.forEach {
-            val sourceFile = sources.javaFileOf(it.type)
-            execute {
-                it.doRender(sourceFile)
+        // The actions parse the files themselves.
+        PsiSession.flush()
+        PipelineMetrics.measure(this) {
+            val types = findTypes().sortedBy { it.type.qualifiedName }
+            types.forEach { type ->
+                sources.sourceFileOf(type)?.let { sourceFile ->
+                    execute {
+                        type.doRender(sourceFile)
+                    }
+                }
             }
         }
     }
 
+    /**
+     * Obtains the file to render the given type in.
+     *
+     * @return the file, or `null` if the file was restored by the incremental rendering.
+     */
+    private fun SourceFileSet.sourceFileOf(type: GroupedMessage): SourceFile<Java>? {
+        val file = javaFileOf(type.type)
+        return file.takeUnless { IncrementalRendering.isRestored(it) }
+    }
+
     private fun GroupedMessage.doRender(sourceFile: SourceFile<Java>) {
         groupList.forEach {
             RenderActions(type, sourceFile, it.actions, context).apply()
+            PipelineMetrics.applied(it.actions.actionMap.keys)
         }
     }
 
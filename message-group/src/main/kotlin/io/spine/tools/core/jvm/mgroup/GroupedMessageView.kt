@@ -30,6 +30,7 @@ import io.spine.core.Subscribe
 import io.spine.tools.compiler.ast.MessageType
 import io.spine.tools.compiler.plugin.View
 import io.spine.tools.core.jvm.mgroup.event.GroupedMessageDiscovered
+import io.spine.tools.core.jvm.render.PipelineTrace
 
 /**
  * Gathers group settings for a matching message type.
@@ -37,7 +38,9 @@ import io.spine.tools.core.jvm.mgroup.event.GroupedMessageDiscovered
 internal class GroupedMessageView : View<MessageType, GroupedMessage, GroupedMessage.Builder>() {
 
     @Subscribe
-    fun on(e: GroupedMessageDiscovered) = alter {
-        addAllGroup(e.groupList)
+    fun on(e: GroupedMessageDiscovered) = PipelineTrace.spanOf(this) {
+        alter {
+            addAllGroup(e.groupList)
+        }
     }
 }
@@ -0,0 +1,51 @@
+/*
+ * Copyright 2026, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.tools.core.jvm.routing.processor
+
+import com.google.devtools.ksp.symbol.KSType
+
+/**
+ * Caches the results of [KSType.isAssignableFrom] calls during a processing round.
+ *
+ * Route signatures check the same pairs of types many times, e.g., the base entity
+ * classes against the class declaring route functions, or the ID type of an entity
+ * against the return types of its functions.
+ *
+ * The cache is a part of [Environment] which is created anew for each processing round.
+ */
+internal class AssignabilityCache {
+
+    private val results = mutableMapOf<Pair<KSType, KSType>, Boolean>()
+
+    /**
+     * Tells if the [subtype] can be assigned to the [supertype].
+     */
+    fun isAssignable(supertype: KSType, subtype: KSType): Boolean =
+        results.getOrPut(supertype to subtype) {
+            supertype.isAssignableFrom(subtype)
+        }
+}
@@ -44,11 +44,11 @@ internal class CommandRouteSignature(
         fn: KSFunctionDeclaration,
         declaringClass: EntityClass
     ): Boolean = environment.run {
-        val isAggregate = aggregateClass.isAssignableFrom(declaringClass.type)
-        val isProcessManager = processManagerClass.isAssignableFrom(declaringClass.type)
+        val isAggregate = isAssignable(aggregateClass, declaringClass.type)
+        val isProcessManager = isAssignable(processManagerClass, declaringClass.type)
         val match = isAggregate || isProcessManager
         if (!match) {
-            val parent = declaringClass.superClass()
+            val parent = declaringClass.superClass
             logger.error(
                 "A command routing function can be declared in a class derived" +
                         " from ${processManagerClass.ref} or ${aggregateClass.ref}." +
@@ -109,8 +109,12 @@ private fun KSFunctionDeclaration.acceptsOneOrTwoParameters(logger: KSPLogger):
  * If it does not, the error is logged using the logger of the [environment] pointing to
  * this function declaration as the source of the error, and `null` is returned.
  *
+ * The returned instance is shared by all the route functions declared in the same class
+ * during a processing round.
+ *
  * @return The entity class that declares this routing function, or `null` if the class
  *  does not implement the [Entity] interface.
+ * @see EntityClassRegistry
  */
 internal fun KSFunctionDeclaration.declaringClass(environment: Environment): EntityClass? {
     val parent = parentDeclaration!!.qualifiedName!!
@@ -121,8 +125,7 @@ internal fun KSFunctionDeclaration.declaringClass(environment: Environment): Ent
         declaringClass = declaringClass.parentDeclaration!! as KSClassDeclaration
     }
     // Check that the class implements `Entity`.
-    val projectedType = declaringClass.asStarProjectedType()
-    if (!environment.entityInterface.isAssignableFrom(projectedType)) {
+    if (!environment.entityClasses.isEntity(declaringClass)) {
         environment.logger.error(
             "The declaring class of the $diagRef annotated with $routeRef" +
                     " must implement the `${Entity::class.java.canonicalName}` interface.",
@@ -130,7 +133,7 @@ internal fun KSFunctionDeclaration.declaringClass(environment: Environment): Ent
         )
         return null
     }
-    return EntityClass(declaringClass, environment)
+    return environment.entityClasses[declaringClass]
 }
 
 /**
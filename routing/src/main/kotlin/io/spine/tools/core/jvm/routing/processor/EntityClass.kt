@@ -39,6 +39,10 @@ import io.spine.tools.core.jvm.routing.processor.EntityClass.Companion.ID_METHOD
 /**
  * Provides information about an entity class.
  *
+ * The types related to the class are resolved lazily and only once.
+ * Instances are obtained via [EntityClassRegistry] so that all the route functions
+ * of a class share them.
+ *
  * @property decl The declaration of the class.
  * @param environment The environment for resolving generic parameters.
  */
@@ -100,12 +104,12 @@ internal class EntityClass(
     /**
      * The class that this entity class extends.
      */
-    fun superClass(): KSType {
-        val found = decl.superTypes.find {
-            val superType = it.resolve().declaration
+    val superClass: KSType by lazy {
+        val found = decl.superTypes.map { it.resolve() }.find {
+            val superType = it.declaration
             (superType is KSClassDeclaration) && (superType.classKind == CLASS)
         }
-        return found!!.resolve().makeNotNullable()
+        found!!.makeNotNullable()
     }
 
     override fun equals(other: Any?): Boolean {
@@ -0,0 +1,64 @@
+/*
+ * Copyright 2026, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.tools.core.jvm.routing.processor
+
+import com.google.devtools.ksp.symbol.KSClassDeclaration
+
+/**
+ * Caches [EntityClass] instances created during a processing round.
+ *
+ * An entity class usually declares several route functions. Having one [EntityClass]
+ * instance per declaration allows resolving its type, the type of its identifiers, and
+ * its superclass only once for all the functions of the class.
+ *
+ * The registry is a part of [Environment] which is created anew for each processing round.
+ * So, the declarations and types obtained from the resolver of the previous round
+ * are never reused.
+ *
+ * @param environment The environment for resolving types of the entity classes.
+ */
+internal class EntityClassRegistry(private val environment: Environment) {
+
+    private val entityClasses = mutableMapOf<KSClassDeclaration, EntityClass>()
+    private val entityChecks = mutableMapOf<KSClassDeclaration, Boolean>()
+
+    /**
+     * Obtains the [EntityClass] for the given declaration, creating it on the first call.
+     */
+    operator fun get(decl: KSClassDeclaration): EntityClass =
+        entityClasses.getOrPut(decl) { EntityClass(decl, environment) }
+
+    /**
+     * Tells if the given class implements the [Entity][io.spine.server.entity.Entity] interface.
+     *
+     * The result is calculated once per class declaration.
+     */
+    fun isEntity(decl: KSClassDeclaration): Boolean =
+        entityChecks.getOrPut(decl) {
+            environment.entityInterface.isAssignableFrom(decl.asStarProjectedType())
+        }
+}
@@ -46,11 +46,15 @@ import kotlin.reflect.KClass
 
 /**
  * Provides instances required for resolving types or reporting errors or warnings.
+ *
+ * @property reproducible If `true`, the generated code must not refer to
+ *   the version of the CoreJvm Compiler.
  */
 internal class Environment(
     val resolver: Resolver,
     val logger: KSPLogger,
-    val codeGenerator: CodeGenerator
+    val codeGenerator: CodeGenerator,
+    val reproducible: Boolean = false
 ) {
     val entityInterface by lazy { Entity::class.toType(resolver) }
     val aggregateClass by lazy { Aggregate::class.toType(resolver) }
@@ -58,6 +62,21 @@ internal class Environment(
     val processManagerClass by lazy { ProcessManager::class.toType(resolver) }
     val setClass by lazy { Set::class.toType(resolver) }
 
+    /**
+     * Entity classes declaring route functions found in this processing round.
+     */
+    val entityClasses = EntityClassRegistry(this)
+
+    private val assignability = AssignabilityCache()
+
+    /**
+     * Tells if the [subtype] can be assigned to the [supertype].
+     *
+     * The result is calculated once per pair of types in a processing round.
+     */
+    fun isAssignable(supertype: KSType, subtype: KSType): Boolean =
+        assignability.isAssignable(supertype, subtype)
+
     val commandRoutingSetup = SetupType(CommandRoutingSetup::class, CommandRouting::class)
     val eventRoutingSetup = SetupType(EventRoutingSetup::class, EventRouting::class)
     val stateRoutingSetup = SetupType(StateRoutingSetup::class, StateUpdateRouting::class)
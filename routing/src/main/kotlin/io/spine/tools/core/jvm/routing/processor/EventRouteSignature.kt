@@ -44,12 +44,12 @@ internal class EventRouteSignature(
         fn: KSFunctionDeclaration,
         declaringClass: EntityClass
     ): Boolean = environment.run {
-        val isAggregate = aggregateClass.isAssignableFrom(declaringClass.type)
-        val isProjection = projectionClass.isAssignableFrom(declaringClass.type)
-        val isProcessManager = processManagerClass.isAssignableFrom(declaringClass.type)
+        val isAggregate = isAssignable(aggregateClass, declaringClass.type)
+        val isProjection = isAssignable(projectionClass, declaringClass.type)
+        val isProcessManager = isAssignable(processManagerClass, declaringClass.type)
         val match = isAggregate || isProjection || isProcessManager
         if (!match) {
-            val parent = declaringClass.superClass()
+            val parent = declaringClass.superClass
             logger.error(
                 "An event routing function can be declared in a class derived" +
                         " from ${processManagerClass.ref} or ${aggregateClass.ref} or" +
@@ -62,7 +62,7 @@ internal class EventRouteSignature(
 
     @Suppress("ReturnCount") // Prefer a sooner exit to reduce nesting.
     override fun matchReturnType(
-        fn: KSFunctionDeclaration,
+        fn: ResolvedSignature,
         declaringClass: EntityClass
     ): KSType? = environment.run {
         val unicast = super.matchReturnType(fn, declaringClass)
@@ -70,15 +70,15 @@ internal class EventRouteSignature(
             return unicast
         }
         // Return type is not the entity ID.
-        val returnType = fn.returnType?.resolve()!!
-        if (!setClass.isAssignableFrom(returnType)) {
+        val returnType = fn.returnType
+        if (!isAssignable(setClass, returnType)) {
             logger.error(
                 "A routing function for events routed to" +
                         " `$declaringClass` must return either an identifier" +
                         " of the type ${declaringClass.idClass.qualifiedRef}" +
                         " or a ${setClass.ref} of entity identifiers." +
                         " Encountered: ${returnType.qualifiedRef}.",
-                fn
+                fn.decl
             )
             return null
         }
@@ -89,18 +89,18 @@ internal class EventRouteSignature(
                 "A multicast routing function for events must return" +
                         " a `Set` whose generic argument is an entity identifier." +
                         " Encountered: no argument.",
-                fn
+                fn.decl
             )
             return null
         }
         val argumentClass = firstArg.type!!.resolve()
-        if (!declaringClass.idClass.isAssignableFrom(argumentClass)) {
+        if (!isAssignable(declaringClass.idClass, argumentClass)) {
             logger.error(
                 "A multicast routing function for events must return" +
                         " a `Set` whose generic argument is an entity identifier." +
                         " Expected: ${declaringClass.idClass.ref}." +
                         " Encountered: ${argumentClass.qualifiedRef}.",
-                fn
+                fn.decl
             )
             return null
         }
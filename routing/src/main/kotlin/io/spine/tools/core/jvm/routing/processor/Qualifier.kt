@@ -75,13 +75,21 @@ internal class Qualifier(
         return result
     }
 
+    /**
+     * Tries the signatures of command, event, and state update routes against
+     * the given function.
+     *
+     * The types of the function parameters and its return type are resolved
+     * once for all the signatures.
+     */
     @Suppress("ReturnCount")
     private fun qualify(fn: KSFunctionDeclaration, declaringClass: EntityClass): RouteFun? {
-        commandRoutes.match(fn, declaringClass)?.let {
+        val signature = ResolvedSignature(fn)
+        commandRoutes.match(signature, declaringClass)?.let {
             return it
-        } ?: eventRoutes.match(fn, declaringClass)?.let {
+        } ?: eventRoutes.match(signature, declaringClass)?.let {
             return it
-        } ?: stateRoutes.match(fn, declaringClass)?.let {
+        } ?: stateRoutes.match(signature, declaringClass)?.let {
             return it
         }
         return null
@@ -0,0 +1,64 @@
+/*
+ * Copyright 2026, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.tools.core.jvm.routing.processor
+
+import com.google.devtools.ksp.symbol.KSFunctionDeclaration
+import com.google.devtools.ksp.symbol.KSType
+
+/**
+ * The types of the parameters and the return type of a route function
+ * resolved once for all the [route signatures][RouteSignature] tried
+ * against the function.
+ *
+ * The types are resolved lazily so that a signature which rejects
+ * the function early does not cause resolving types it does not need.
+ *
+ * @property decl The declaration of the function.
+ */
+internal class ResolvedSignature(val decl: KSFunctionDeclaration) {
+
+    /**
+     * The type of the first parameter.
+     */
+    val firstParameter: KSType by lazy {
+        decl.parameters[0].type.resolve()
+    }
+
+    /**
+     * The type of the second parameter, or `null` if the function accepts only one parameter.
+     */
+    val secondParameter: KSType? by lazy {
+        decl.parameters.getOrNull(1)?.type?.resolve()
+    }
+
+    /**
+     * The type returned by the function.
+     */
+    val returnType: KSType by lazy {
+        decl.returnType!!.resolve()
+    }
+}
@@ -34,27 +34,91 @@ import com.google.devtools.ksp.symbol.KSAnnotated
 import com.google.devtools.ksp.symbol.KSFunctionDeclaration
 import com.google.devtools.ksp.validate
 import io.spine.server.route.Route
+import java.util.concurrent.TimeUnit.NANOSECONDS
 
 /**
  * Gathers all functions annotated with [Route] and initiates their processing
  * by [RouteVisitor]s.
  *
+ * The annotated symbols are obtained and [validated][validate] in one pass.
+ * Valid functions stream directly into [qualification][Qualifier].
+ * Symbols which are not valid yet, e.g. because they refer to types to be generated
+ * in a later round, are collected during the same pass and deferred to the next round
+ * without being validated again.
+ *
+ * The number of [validate] calls and the time spent in them are reported
+ * via [KSPLogger.info] when processing [finishes][finish].
+ *
  * @see RouteVisitor.process
  */
 internal class RouteProcessor(
     private val codeGenerator: CodeGenerator,
-    private val logger: KSPLogger
+    private val logger: KSPLogger,
+    private val reproducible: Boolean = false
 ) : SymbolProcessor {
 
+    private val validation = ValidationStats()
+
     override fun process(resolver: Resolver): List<KSAnnotated> {
-        val allAnnotated = resolver.getSymbolsWithAnnotation(Route::class.qualifiedName!!)
-        val allValid = allAnnotated.filter { it.validate() }
+        val deferred = mutableListOf<KSAnnotated>()
+        val allValid = resolver.getSymbolsWithAnnotation(Route::class.qualifiedName!!)
+            .constrainOnce()
+            .filter { symbol ->
+                val valid = validation.measure { symbol.validate() }
+                if (!valid) {
+                    deferred.add(symbol)
+                }
+                valid
+            }
             .map { it as KSFunctionDeclaration }
 
-        val environment = Environment(resolver, logger, codeGenerator)
+        val environment = Environment(resolver, logger, codeGenerator, reproducible)
+        // Qualification consumes the sequence, filling `deferred` along the way.
         RouteVisitor.process(allValid, environment)
 
-        val unprocessed = allAnnotated.filterNot { it.validate() }.toList()
-        return unprocessed
+        if (deferred.isNotEmpty()) {
+            logger.logging("Deferred ${deferred.size} `@Route` symbol(s) to the next round.")
+        }
+        return deferred
+    }
+
+    override fun finish() {
+        logger.info(
+            "`${RouteProcessor::class.simpleName}` called `validate()` ${validation.calls} time(s)" +
+                    " taking ${validation.millis} ms."
+        )
+    }
+}
+
+/**
+ * Counts calls to [validate] and the time spent in them.
+ */
+private class ValidationStats {
+
+    /**
+     * The number of performed validations.
+     */
+    var calls: Int = 0
+        private set
+
+    private var nanos: Long = 0
+
+    /**
+     * The total time spent in validations, in milliseconds.
+     */
+    val millis: Long
+        get() = NANOSECONDS.toMillis(nanos)
+
+    /**
+     * Runs the given validation [block] counting the call and its duration.
+     */
+    fun measure(block: () -> Boolean): Boolean {
+        val start = System.nanoTime()
+        try {
+            return block()
+        } finally {
+            nanos += System.nanoTime() - start
+            calls++
+        }
     }
 }
@@ -30,14 +30,21 @@ import com.google.auto.service.AutoService
 import com.google.devtools.ksp.processing.SymbolProcessor
 import com.google.devtools.ksp.processing.SymbolProcessorEnvironment
 import com.google.devtools.ksp.processing.SymbolProcessorProvider
+import io.spine.tools.core.jvm.GeneratedAnnotation
 
 /**
  * Creates a symbol processor for the [Route][io.spine.server.route.Route] annotation.
  *
+ * The processor generates code in the reproducible mode if the processor option named
+ * [GeneratedAnnotation.REPRODUCIBLE_PROPERTY] is set to `true`.
+ *
  * @see RouteProcessor
  */
 @AutoService(SymbolProcessorProvider::class)
 public class RouteProcessorProvider : SymbolProcessorProvider {
-    override fun create(environment: SymbolProcessorEnvironment): SymbolProcessor =
-        RouteProcessor(environment.codeGenerator, environment.logger)
+    override fun create(environment: SymbolProcessorEnvironment): SymbolProcessor {
+        val reproducible = environment.options[GeneratedAnnotation.REPRODUCIBLE_PROPERTY]
+            .toBoolean()
+        return RouteProcessor(environment.codeGenerator, environment.logger, reproducible)
+    }
 }
@@ -69,12 +69,12 @@ internal sealed class RouteSignature<F : RouteFun>(
 
     @OverridingMethodsMustInvokeSuper
     protected open fun matchReturnType(
-        fn: KSFunctionDeclaration,
+        fn: ResolvedSignature,
         declaringClass: EntityClass
     ): KSType? {
         val idClass = declaringClass.idClass
-        val returnType = fn.returnType!!.resolve()
-        if (idClass.isAssignableFrom(returnType)) {
+        val returnType = fn.returnType
+        if (environment.isAssignable(idClass, returnType)) {
             return returnType
         }
         return null
@@ -90,16 +90,21 @@ internal sealed class RouteSignature<F : RouteFun>(
         returnType: KSType
     ): F
 
+    /**
+     * Matches the function with the given resolved signature against this kind of routes.
+     *
+     * @return the route function, or `null` if the function does not match this signature.
+     */
     @Suppress("ReturnCount")
-    fun match(fn: KSFunctionDeclaration, declaringClass: EntityClass): F? {
+    fun match(fn: ResolvedSignature, declaringClass: EntityClass): F? {
         val params = matchParameters(fn)
             ?: return null
-        if (!matchDeclaringClass(fn, declaringClass)) {
+        if (!matchDeclaringClass(fn.decl, declaringClass)) {
             return null
         }
         val returnType = matchReturnType(fn, declaringClass)
             ?: return null
-        return create(fn, declaringClass, params, returnType)
+        return create(fn.decl, declaringClass, params, returnType)
     }
 
     /**
@@ -113,28 +118,27 @@ internal sealed class RouteSignature<F : RouteFun>(
      */
     @OverridingMethodsMustInvokeSuper
     @Suppress("ReturnCount")
-    protected open fun matchParameters(fn: KSFunctionDeclaration): Pair<KSType, KSType?>? {
-        checkParamSize(fn)
+    protected open fun matchParameters(fn: ResolvedSignature): Pair<KSType, KSType?>? {
+        checkParamSize(fn.decl)
 
-        val firstParamType = fn.parameters[0].type.resolve()
-        if (!messageType.isAssignableFrom(firstParamType)) {
+        val firstParamType = fn.firstParameter
+        if (!environment.isAssignable(messageType, firstParamType)) {
             // Even if the parameter does not match, it could be another kind of
             // routing function, so we simply return `false`.
             return null
         }
-        var secondParamType: KSType? = null
-        if (fn.parameters.size == 2) {
-            secondParamType = fn.parameters[1].type.resolve()
+        val secondParamType = fn.secondParameter
+        if (secondParamType != null) {
             val match = contextType.isSame(secondParamType)
             if (!match) {
                 // Here, knowing that the first parameter type is correct, we can complain
                 // about the type of the second parameter.
                 val actualSecondParamName = secondParamType.declaration.simpleName.getShortName()
                 environment.logger.error(
-                    "The second parameter of the ${fn.diagRef} annotated with $routeRef" +
+                    "The second parameter of the ${fn.decl.diagRef} annotated with $routeRef" +
                             " must be `${contextClass.simpleName}`." +
                             " Encountered: `$actualSecondParamName`.",
-                    fn
+                    fn.decl
                 )
                 return null
             }
@@ -144,7 +144,9 @@ internal sealed class RouteVisitor<F : RouteFun>(
     }
 
     private fun createClass(className: String) {
-        val generated = GeneratedAnnotation.forKotlinPoet()
+        val generated = GeneratedAnnotation.forKotlinPoet(
+            GeneratedAnnotation.valueFor(environment.reproducible)
+        )
         val autoService = AnnotationSpec.builder(AutoService::class)
             .addMember("%T::class", setup.cls)
             .build()
@@ -228,8 +230,29 @@ internal sealed class RouteVisitor<F : RouteFun>(
             .addType(cls)
             .removeBackticksInImports()
             .build()
-        val deps = Dependencies(true, originalFile)
-        code.writeTo(environment.codeGenerator, deps)
+        code.writeTo(environment.codeGenerator, dependencies(cls.name!!))
+    }
+
+    /**
+     * Obtains the isolating dependencies of the generated setup class.
+     *
+     * The generated code refers only to the [entityClass], its identifier type, and
+     * the types of the routed messages. So, the output depends only on the files
+     * declaring these types, and KSP regenerates the class only when one of these
+     * files changes. Types coming from libraries do not have a containing file and
+     * are not tracked.
+     */
+    private fun dependencies(className: String): Dependencies {
+        val files = linkedSetOf(originalFile)
+        val types = functions.map { it.messageParameter } + entityClass.idClass
+        types.forEach { type ->
+            type.declaration.containingFile?.let { files.add(it) }
+        }
+        environment.logger.logging(
+            "`$packageName.$className` depends on: " +
+                    files.joinToString { "`${it.filePath}`" } + "."
+        )
+        return Dependencies(false, *files.toTypedArray())
     }
 
     /**
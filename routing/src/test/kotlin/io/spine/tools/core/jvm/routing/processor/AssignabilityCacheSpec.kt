@@ -0,0 +1,103 @@
+/*
+ * Copyright 2026, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.tools.core.jvm.routing.processor
+
+import com.google.devtools.ksp.symbol.KSType
+import io.kotest.matchers.shouldBe
+import java.lang.reflect.Proxy
+import org.junit.jupiter.api.DisplayName
+import org.junit.jupiter.api.Test
+
+@DisplayName("`AssignabilityCache` should")
+internal class AssignabilityCacheSpec {
+
+    private val cache = AssignabilityCache()
+
+    @Test
+    fun `check a pair of types only once`() {
+        val supertype = StubType(assignable = true)
+        val subtype = StubType(assignable = false)
+
+        repeat(3) {
+            cache.isAssignable(supertype.type, subtype.type) shouldBe true
+        }
+        supertype.checks shouldBe 1
+    }
+
+    @Test
+    fun `distinguish the order of types in a pair`() {
+        val first = StubType(assignable = true)
+        val second = StubType(assignable = false)
+
+        cache.isAssignable(first.type, second.type) shouldBe true
+        cache.isAssignable(second.type, first.type) shouldBe false
+        first.checks shouldBe 1
+        second.checks shouldBe 1
+    }
+
+    @Test
+    fun `check each pair of types separately`() {
+        val supertype = StubType(assignable = true)
+        val subtype = StubType(assignable = false)
+        val another = StubType(assignable = false)
+
+        cache.isAssignable(supertype.type, subtype.type)
+        cache.isAssignable(supertype.type, another.type)
+        supertype.checks shouldBe 2
+    }
+}
+
+/**
+ * Creates a [KSType] which counts calls to [KSType.isAssignableFrom].
+ *
+ * Other functions of the type, except for `equals()` and `hashCode()`, are not supported.
+ *
+ * @param assignable The value returned by [KSType.isAssignableFrom].
+ */
+private class StubType(assignable: Boolean) {
+
+    /**
+     * The number of [KSType.isAssignableFrom] calls.
+     */
+    var checks: Int = 0
+        private set
+
+    val type: KSType = Proxy.newProxyInstance(
+        KSType::class.java.classLoader,
+        arrayOf(KSType::class.java)
+    ) { proxy, method, args ->
+        when (method.name) {
+            "isAssignableFrom" -> {
+                checks++
+                assignable
+            }
+            "equals" -> proxy === args[0]
+            "hashCode" -> System.identityHashCode(proxy)
+            else -> throw UnsupportedOperationException(method.name)
+        }
+    } as KSType
+}
@@ -0,0 +1,125 @@
+/*
+ * Copyright 2026, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+@file:Suppress(
+    "ClassNameDiffersFromFileName" /* false positive in IDEA */,
+    "MissingPackageInfo" /* don't need them for these tests. */
+)
+
+package io.spine.tools.core.jvm.routing.processor
+
+import com.google.devtools.ksp.processing.Dependencies
+import com.google.devtools.ksp.processing.Resolver
+import com.google.devtools.ksp.processing.SymbolProcessor
+import com.google.devtools.ksp.processing.SymbolProcessorEnvironment
+import com.google.devtools.ksp.processing.SymbolProcessorProvider
+import com.google.devtools.ksp.symbol.KSAnnotated
+import com.tschuchort.compiletesting.KotlinCompilation.ExitCode
+import com.tschuchort.compiletesting.configureKsp
+import io.kotest.matchers.collections.shouldContain
+import io.kotest.matchers.shouldBe
+import org.jetbrains.kotlin.compiler.plugin.ExperimentalCompilerApi
+import org.junit.jupiter.api.DisplayName
+import org.junit.jupiter.api.Test
+
+@OptIn(ExperimentalCompilerApi::class)
+@DisplayName("`RouteProcessor` should")
+internal class RouteProcessorSpec : RouteCompilationTest() {
+
+    /**
+     * The route function is annotated with the annotation which does not exist
+     * until [AnnotationGenerator] creates it in the first round.
+     */
+    private val deferredRoute = kotlinFile("DeferredProjection", """
+    package io.spine.given.devices
+
+    import io.spine.given.devices.events.StatusReported
+    import io.spine.server.projection.Projection
+    import io.spine.server.route.Route
+
+    class DeferredProjection : Projection<DeviceId, DeviceStatus, DeviceStatus.Builder>() {
+
+        companion object {
+            @Route
+            @$GENERATED_ANNOTATION
+            fun route(e: StatusReported): DeviceId = e.device
+        }
+    }
+    """.trimIndent())
+
+    @Test
+    fun `defer route functions which are not valid yet to the next round`() {
+        compilation.apply {
+            sources = listOf(deferredRoute)
+            configureKsp {
+                symbolProcessorProviders += AnnotationGeneratorProvider()
+            }
+        }
+
+        val result = compilation.compileSilently()
+
+        result.exitCode shouldBe ExitCode.OK
+        val generated = compilation.kspSourcesDir.walk().map { it.name }.toList()
+        generated shouldContain "DeferredProjectionEventRouting.kt"
+    }
+}
+
+/**
+ * The name of the annotation class created by [AnnotationGenerator].
+ */
+private const val GENERATED_ANNOTATION = "GeneratedLater"
+
+private class AnnotationGeneratorProvider : SymbolProcessorProvider {
+    override fun create(environment: SymbolProcessorEnvironment): SymbolProcessor =
+        AnnotationGenerator(environment)
+}
+
+/**
+ * Creates the [GENERATED_ANNOTATION] class in the first processing round.
+ */
+private class AnnotationGenerator(
+    private val environment: SymbolProcessorEnvironment
+) : SymbolProcessor {
+
+    private var generated = false
+
+    override fun process(resolver: Resolver): List<KSAnnotated> {
+        if (!generated) {
+            environment.codeGenerator.createNewFile(
+                Dependencies(false),
+                "io.spine.given.devices",
+                GENERATED_ANNOTATION
+            ).bufferedWriter().use {
+                it.write(
+                    "package io.spine.given.devices\n\n" +
+                            "annotation class $GENERATED_ANNOTATION\n"
+                )
+            }
+            generated = true
+        }
+        return emptyList()
+    }
+}
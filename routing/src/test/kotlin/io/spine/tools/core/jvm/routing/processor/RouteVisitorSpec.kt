@@ -0,0 +1,164 @@
+/*
+ * Copyright 2026, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+@file:Suppress(
+    "ClassNameDiffersFromFileName" /* false positive in IDEA */,
+    "MissingPackageInfo" /* don't need them for these tests. */
+)
+
+package io.spine.tools.core.jvm.routing.processor
+
+import com.google.devtools.ksp.processing.CodeGenerator
+import com.google.devtools.ksp.processing.Dependencies
+import com.google.devtools.ksp.processing.SymbolProcessor
+import com.google.devtools.ksp.processing.SymbolProcessorEnvironment
+import com.google.devtools.ksp.processing.SymbolProcessorProvider
+import com.tschuchort.compiletesting.KotlinCompilation.ExitCode
+import com.tschuchort.compiletesting.configureKsp
+import io.kotest.matchers.collections.shouldContainExactly
+import io.kotest.matchers.maps.shouldContainKeys
+import io.kotest.matchers.shouldBe
+import java.io.OutputStream
+import org.jetbrains.kotlin.compiler.plugin.ExperimentalCompilerApi
+import org.junit.jupiter.api.BeforeEach
+import org.junit.jupiter.api.DisplayName
+import org.junit.jupiter.api.Test
+
+@OptIn(ExperimentalCompilerApi::class)
+@DisplayName("`RouteVisitor` should")
+internal class RouteVisitorSpec : RouteCompilationTest() {
+
+    private val provider = RecordingProcessorProvider()
+
+    private val statusProjection = kotlinFile("StatusProjection", """
+    package io.spine.given.devices
+
+    import io.spine.given.devices.events.StatusReported
+    import io.spine.server.projection.Projection
+    import io.spine.server.route.Route
+
+    class StatusProjection : Projection<DeviceId, DeviceStatus, DeviceStatus.Builder>() {
+
+        companion object {
+            @Route fun route(e: StatusReported): DeviceId = e.device
+        }
+    }
+    """.trimIndent())
+
+    private val registrationProjection = kotlinFile("RegistrationProjection", """
+    package io.spine.given.devices
+
+    import io.spine.given.devices.events.DeviceRegistered
+    import io.spine.server.projection.Projection
+    import io.spine.server.route.Route
+
+    class RegistrationProjection : Projection<DeviceId, DeviceStatus, DeviceStatus.Builder>() {
+
+        companion object {
+            @Route fun route(e: DeviceRegistered): DeviceId = e.device
+        }
+    }
+    """.trimIndent())
+
+    @BeforeEach
+    fun useRecordingProcessor() {
+        compilation.configureKsp {
+            symbolProcessorProviders.clear()
+            symbolProcessorProviders += provider
+        }
+    }
+
+    @Test
+    fun `write setup classes with isolating dependencies`() {
+        compilation.sources = listOf(statusProjection, registrationProjection)
+
+        val result = compilation.compileSilently()
+
+        result.exitCode shouldBe ExitCode.OK
+        val dependencies = provider.dependencies
+        dependencies.shouldContainKeys(
+            "StatusProjectionEventRouting",
+            "RegistrationProjectionEventRouting"
+        )
+        dependencies.values.forEach {
+            it.aggregating shouldBe false
+        }
+    }
+
+    @Test
+    fun `make a setup class depend only on the file declaring the entity class`() {
+        compilation.sources = listOf(statusProjection, registrationProjection)
+
+        compilation.compileSilently()
+
+        // The message and ID types come from the compiled protos and are not tracked.
+        provider.originatingFiles("StatusProjectionEventRouting") shouldContainExactly
+                listOf("StatusProjection.kt")
+        provider.originatingFiles("RegistrationProjectionEventRouting") shouldContainExactly
+                listOf("RegistrationProjection.kt")
+    }
+}
+
+/**
+ * Creates [RouteProcessor] which records the dependencies of the files it generates.
+ */
+private class RecordingProcessorProvider : SymbolProcessorProvider {
+
+    /**
+     * The dependencies of the generated files by their names.
+     */
+    val dependencies = mutableMapOf<String, Dependencies>()
+
+    override fun create(environment: SymbolProcessorEnvironment): SymbolProcessor {
+        val codeGenerator = RecordingCodeGenerator(environment.codeGenerator, dependencies)
+        return RouteProcessor(codeGenerator, environment.logger)
+    }
+
+    /**
+     * Obtains the names of the files the generated file with the given name depends on.
+     */
+    fun originatingFiles(fileName: String): List<String> =
+        dependencies.getValue(fileName).originatingFiles.map { it.fileName }
+}
+
+/**
+ * The [CodeGenerator] which remembers the dependencies of the created files.
+ */
+private class RecordingCodeGenerator(
+    private val delegate: CodeGenerator,
+    private val dependencies: MutableMap<String, Dependencies>
+) : CodeGenerator by delegate {
+
+    override fun createNewFile(
+        dependencies: Dependencies,
+        packageName: String,
+        fileName: String,
+        extensionName: String
+    ): OutputStream {
+        this.dependencies[fileName] = dependencies
+        return delegate.createNewFile(dependencies, packageName, fileName, extensionName)
+    }
+}
@@ -33,6 +33,7 @@ import io.spine.dependency.local.ToolBase
 plugins {
     module
     id("io.spine.core-jvm")
+    `jmh-module`
 }
 
 dependencies {
@@ -57,6 +58,10 @@ dependencies {
     ).forEach {
         testImplementation(it)
     }
+
+    jmhImplementation(testFixtures(project(":base")))?.because(
+        "Benchmarks take synthetic proto types from `SyntheticTypes`."
+    )
 }
 
 /**
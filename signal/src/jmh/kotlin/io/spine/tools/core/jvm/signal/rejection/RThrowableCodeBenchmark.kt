@@ -0,0 +1,88 @@
+/*
+ * Copyright 2026, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.tools.core.jvm.signal.rejection
+
+import com.squareup.javapoet.JavaFile
+import io.spine.string.Indent.Companion.defaultJavaIndent
+import io.spine.tools.compiler.ast.MessageType
+import io.spine.tools.compiler.type.TypeSystem
+import io.spine.tools.core.jvm.SyntheticTypes
+import java.util.concurrent.TimeUnit.MICROSECONDS
+import org.openjdk.jmh.annotations.Benchmark
+import org.openjdk.jmh.annotations.BenchmarkMode
+import org.openjdk.jmh.annotations.Mode
+import org.openjdk.jmh.annotations.OutputTimeUnit
+import org.openjdk.jmh.annotations.Param
+import org.openjdk.jmh.annotations.Scope
+import org.openjdk.jmh.annotations.Setup
+import org.openjdk.jmh.annotations.State
+
+/**
+ * Measures generating the code of a rejection throwable, the same way
+ * [RThrowableRenderer] does it.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(MICROSECONDS)
+open class RThrowableCodeBenchmark {
+
+    /**
+     * The number of the fields of the rejection message.
+     */
+    @Param("1", "8", "32")
+    @JvmField
+    var fieldCount: Int = 0
+
+    private lateinit var javaPackage: String
+    private lateinit var rejection: MessageType
+    private lateinit var typeSystem: TypeSystem
+
+    @Setup
+    fun setUp() {
+        val types = SyntheticTypes(
+            messageCount = 1,
+            fieldCount = fieldCount,
+            fileName = "given/synthetic/synthetic_rejections.proto",
+            multipleFiles = false
+        )
+        javaPackage = types.file.options.javaPackage
+        rejection = types.messageTypes.single()
+        typeSystem = types.typeSystem
+    }
+
+    @Benchmark
+    fun generate(): String {
+        val typeSpec = RThrowableCode(javaPackage, rejection, typeSystem).toPoet()
+        val javaFile = JavaFile.builder(javaPackage, typeSpec)
+            .skipJavaLangImports(true)
+            .indent(defaultJavaIndent.value)
+            .build()
+        val appendable = StringBuilder()
+        javaFile.writeTo(appendable)
+        return appendable.toString()
+    }
+}
@@ -31,14 +31,14 @@ import io.spine.core.External
 import io.spine.server.event.NoReaction
 import io.spine.server.event.React
 import io.spine.server.tuple.EitherOf2
-import io.spine.tools.compiler.ast.File
 import io.spine.tools.compiler.ast.FilePattern
 import io.spine.tools.compiler.ast.event.TypeDiscovered
 import io.spine.tools.compiler.ast.firstField
-import io.spine.tools.compiler.ast.matches
 import io.spine.tools.compiler.settings.loadSettings
 import io.spine.tools.core.jvm.field.RequiredIdReaction
+import io.spine.tools.core.jvm.settings.PatternIndex
 import io.spine.tools.core.jvm.settings.SignalSettings
+import io.spine.tools.core.jvm.settings.toPatternIndex
 import io.spine.tools.validation.event.RequiredFieldDiscovered
 
 /**
@@ -58,11 +58,11 @@ internal class CommandTargetReaction : RequiredIdReaction(), SignalPluginCompone
         loadSettings()
     }
 
-    private val filePatterns: List<FilePattern> by lazy {
+    private val filePatterns: PatternIndex<FilePattern> by lazy {
         if (!settingsAvailable()) {
-            emptyList()
+            PatternIndex.newBuilder<FilePattern>().build()
         } else {
-            settings.commands.patternList
+            settings.commands.toPatternIndex()
         }
     }
 
@@ -71,21 +71,16 @@ internal class CommandTargetReaction : RequiredIdReaction(), SignalPluginCompone
     override fun whenever(
         @External event: TypeDiscovered
     ): EitherOf2<RequiredFieldDiscovered, NoReaction> {
-        if (filePatterns.isEmpty()) {
+        if (filePatterns.isEmpty) {
             return ignore()
         }
-        if (!event.file.matchesPatterns()) {
+        if (!filePatterns.matchesAny(event.file)) {
             return ignore()
         }
         val type = event.type
         val field = type.firstField
         return withField(field, event.file, TARGET_ENTITY_ID_MUST_BE_SET)
     }
-
-    private fun File.matchesPatterns(): Boolean =
-        filePatterns.any {
-            it.matches(this)
-        }
 }
 
 /**
@@ -33,8 +33,13 @@ import io.spine.tools.compiler.ast.MessageType
 import io.spine.tools.compiler.jvm.render.RenderActions
 import io.spine.tools.compiler.jvm.render.TypeListRenderer
 import io.spine.tools.compiler.render.SourceFile
+import io.spine.tools.compiler.render.SourceFileSet
 import io.spine.tools.compiler.render.TypeListActions
 import io.spine.tools.code.Java
+import io.spine.tools.core.jvm.render.IncrementalRendering
+import io.spine.tools.core.jvm.render.PendingTypes
+import io.spine.tools.core.jvm.render.PipelineMetrics
+import io.spine.tools.core.jvm.render.PsiSession
 import io.spine.tools.core.jvm.settings.SignalSettings
 import io.spine.tools.core.jvm.settings.Signals
 import io.spine.tools.psi.java.execute
@@ -42,6 +47,9 @@ import io.spine.tools.psi.java.execute
 /**
  * An abstract base for renderers of signal messages.
  *
+ * The signal types are collected while the views are visited, and then rendered
+ * grouped by their files via [PendingTypes].
+ *
  * @param V the type of the view state that gathers signals of the type served by this renderer.
  */
 internal abstract class SignalRenderer<V> :
@@ -61,15 +69,33 @@ internal abstract class SignalRenderer<V> :
      */
     protected abstract val typeSettings: Signals
 
+    private val pending = PendingTypes()
+
     override fun isEnabled(settings: SignalSettings): Boolean {
         return typeSettings.actions.actionMap.isNotEmpty()
     }
 
+    override fun render(sources: SourceFileSet) {
+        super.render(sources)
+        pending.render(::renderType)
+    }
+
     @OverridingMethodsMustInvokeSuper
     override fun doRender(type: MessageType, file: SourceFile<Java>) {
-        execute {
-            RenderActions(type, file, typeSettings.actions, context).apply()
+        if (!IncrementalRendering.isRestored(file)) {
+            pending.add(type, file)
+        }
+    }
+
+    private fun renderType(type: MessageType, file: SourceFile<Java>) {
+        // The actions parse the file themselves.
+        PsiSession.flush()
+        PipelineMetrics.measure(this, detail = file.relativePath.toString()) {
+            execute {
+                RenderActions(type, file, typeSettings.actions, context).apply()
+            }
         }
+        PipelineMetrics.applied(typeSettings.actions.actionMap.keys)
     }
 }
 
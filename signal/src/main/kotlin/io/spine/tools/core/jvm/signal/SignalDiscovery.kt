@@ -26,18 +26,19 @@
 
 package io.spine.tools.core.jvm.signal
 
-import io.spine.annotation.VisibleForTesting
 import io.spine.core.External
 import io.spine.server.event.NoReaction
 import io.spine.server.event.React
 import io.spine.server.tuple.EitherOf4
+import io.spine.tools.compiler.ast.FilePattern
 import io.spine.tools.compiler.ast.MessageType
 import io.spine.tools.compiler.ast.event.TypeDiscovered
-import io.spine.tools.compiler.ast.matches
 import io.spine.tools.compiler.plugin.Reaction
 import io.spine.tools.compiler.settings.loadSettings
+import io.spine.tools.core.jvm.render.PipelineMetrics
+import io.spine.tools.core.jvm.settings.PatternIndex
 import io.spine.tools.core.jvm.settings.SignalSettings
-import io.spine.tools.core.jvm.settings.Signals
+import io.spine.tools.core.jvm.settings.toPatternIndex
 import io.spine.tools.core.jvm.signal.event.CommandDiscovered
 import io.spine.tools.core.jvm.signal.event.EventDiscovered
 import io.spine.tools.core.jvm.signal.event.RejectionDiscovered
@@ -62,47 +63,54 @@ internal class SignalDiscovery : Reaction<TypeDiscovered>(), SignalPluginCompone
     private val settings: SignalSettings by lazy {
         loadSettings()
     }
-    private val commands: Signals by lazy { settings.commands }
-    private val events: Signals by lazy { settings.events }
-    private val rejections: Signals by lazy { settings.rejections }
+    private val commands: PatternIndex<FilePattern> by lazy {
+        settings.commands.toPatternIndex()
+    }
+    private val events: PatternIndex<FilePattern> by lazy {
+        settings.events.toPatternIndex()
+    }
+    private val rejections: PatternIndex<FilePattern> by lazy {
+        settings.rejections.toPatternIndex()
+    }
 
     @React
     override fun whenever(@External event: TypeDiscovered):
             EitherOf4<CommandDiscovered, EventDiscovered, RejectionDiscovered, NoReaction> {
+        val discovered = PipelineMetrics.measure(this) {
+            discover(event)
+        }
+        PipelineMetrics.reacted(this, matched = discovered != null)
+        return discovered ?: EitherOf4.withD(noReaction())
+    }
+
+    private fun discover(
+        event: TypeDiscovered
+    ): EitherOf4<CommandDiscovered, EventDiscovered, RejectionDiscovered, NoReaction>? {
         val msg = event.type
         if (msg.isNested) {
             // Signals are only top-level messages. Ignore nested types.
-            return EitherOf4.withD(noReaction())
+            return null
         }
-        return if (commands.match(msg)) {
+        return if (commands.matchesAny(msg)) {
             EitherOf4.withA(commandDiscovered {
                 file = event.file
                 type = msg
             })
-        } else if (events.match(msg)) {
+        } else if (events.matchesAny(msg)) {
             EitherOf4.withB(eventDiscovered {
                 file = event.file
                 type = msg
             })
-        } else if (rejections.match(msg)) {
+        } else if (rejections.matchesAny(msg)) {
             EitherOf4.withC(rejectionDiscovered {
                 file = event.file
                 type = msg
             })
         } else {
-            EitherOf4.withD(noReaction())
+            null
         }
     }
 }
 
-/**
- * Tells if the given message type matches one of the file patterns.
- */
-@VisibleForTesting
-internal fun Signals.match(type: MessageType): Boolean =
-    patternList.any {
-        it.matches(type)
-    }
-
 private val MessageType.isNested: Boolean
     get () = name.nestingTypeNameCount > 0
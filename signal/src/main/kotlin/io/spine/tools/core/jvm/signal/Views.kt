@@ -29,6 +29,7 @@ package io.spine.tools.core.jvm.signal
 import io.spine.core.Subscribe
 import io.spine.tools.compiler.ast.File
 import io.spine.tools.compiler.plugin.View
+import io.spine.tools.core.jvm.render.PipelineTrace
 import io.spine.tools.core.jvm.signal.event.CommandDiscovered
 import io.spine.tools.core.jvm.signal.event.EventDiscovered
 import io.spine.tools.core.jvm.signal.event.RejectionDiscovered
@@ -41,8 +42,10 @@ import io.spine.tools.core.jvm.signal.event.RejectionDiscovered
 internal class CommandsPerFile : View<File, CommandActions, CommandActions.Builder>() {
 
     @Subscribe
-    fun on(e: CommandDiscovered) = alter {
-        addType(e.type)
+    fun on(e: CommandDiscovered) = PipelineTrace.spanOf(this) {
+        alter {
+            addType(e.type)
+        }
     }
 }
 
@@ -54,8 +57,10 @@ internal class CommandsPerFile : View<File, CommandActions, CommandActions.Build
 internal class EventsPerFile : View<File, EventActions, EventActions.Builder>() {
 
     @Subscribe
-    fun on(e: EventDiscovered) = alter {
-        addType(e.type)
+    fun on(e: EventDiscovered) = PipelineTrace.spanOf(this) {
+        alter {
+            addType(e.type)
+        }
     }
 }
 
@@ -67,7 +72,9 @@ internal class EventsPerFile : View<File, EventActions, EventActions.Builder>()
 internal class RejectionsPerFile : View<File, RejectionActions, RejectionActions.Builder>() {
 
     @Subscribe
-    fun on(e: RejectionDiscovered) = alter {
-        addType(e.type)
+    fun on(e: RejectionDiscovered) = PipelineTrace.spanOf(this) {
+        alter {
+            addType(e.type)
+        }
     }
 }
@@ -37,6 +37,8 @@ import io.spine.tools.compiler.jvm.render.JavaRenderer
 import io.spine.tools.compiler.render.SourceFileSet
 import io.spine.string.Indent.Companion.defaultJavaIndent
 import io.spine.string.ti
+import io.spine.tools.core.jvm.render.IncrementalRendering
+import io.spine.tools.core.jvm.render.PipelineMetrics
 import java.nio.file.Path
 
 /**
@@ -55,9 +57,11 @@ internal class RThrowableRenderer: JavaRenderer(), WithLogging {
             return
         }
         this.sources = sources
-        val rejectionFiles = findRejectionFiles()
-        rejectionFiles.forEach {
-            generateRejections(it)
+        PipelineMetrics.measure(this) {
+            val rejectionFiles = findRejectionFiles()
+            rejectionFiles.forEach {
+                generateRejections(it)
+            }
         }
     }
 
@@ -79,6 +83,9 @@ internal class RThrowableRenderer: JavaRenderer(), WithLogging {
     }
 
     private fun generateRejections(protoFile: ProtobufSourceFile) {
+        if (IncrementalRendering.isRestored(protoFile.file)) {
+            return
+        }
         if (protoFile.typeMap.isEmpty()) {
             logger.atWarning().log {
                 "No rejection types found in the file `${protoFile.file.path}`."
@@ -0,0 +1,113 @@
+/*
+ * Copyright 2026, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.tools.core.jvm.benchmarks;
+
+import io.spine.query.EntityColumn;
+import io.spine.tools.core.jvm.benchmarks.given.TaskId;
+import io.spine.tools.core.jvm.benchmarks.given.TaskView;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import static io.spine.tools.core.jvm.benchmarks.given.TaskView.Status.OPEN;
+
+/**
+ * Measures the {@code Column} class generated for an entity state.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ColumnBenchmark {
+
+    private TaskView task;
+    private EntityColumn<TaskView, String> title;
+    private Object[] values;
+
+    @Setup
+    public void setUp() {
+        task = TaskView.newBuilder()
+                .setId(TaskId.generate())
+                .setTitle("Measure the columns")
+                .setStatus(OPEN)
+                .setPriority(3)
+                .setAssignee("alice")
+                .build();
+        title = TaskView.Column.title();
+        values = new Object[TaskView.Column.COLUMN_COUNT];
+    }
+
+    /**
+     * Obtains all the columns of the entity state.
+     */
+    @Benchmark
+    public Set<EntityColumn<TaskView, ?>> definitions() {
+        return TaskView.Column.definitions();
+    }
+
+    /**
+     * Obtains a single column.
+     */
+    @Benchmark
+    public EntityColumn<TaskView, String> accessor() {
+        return TaskView.Column.title();
+    }
+
+    /**
+     * Reads the value of a column from the entity state.
+     */
+    @Benchmark
+    public String value() {
+        return title.valueIn(task);
+    }
+
+    /**
+     * Reads the values of all the columns, as a storage does when writing a record.
+     */
+    @Benchmark
+    public void allValues(Blackhole blackhole) {
+        for (var column : TaskView.Column.definitions()) {
+            blackhole.consume(column.valueIn(task));
+        }
+    }
+
+    /**
+     * Reads the values of all the columns in one pass using the generated extractor.
+     */
+    @Benchmark
+    public Object[] extractAll() {
+        TaskView.Column.extractAll(task, values);
+        return values;
+    }
+}
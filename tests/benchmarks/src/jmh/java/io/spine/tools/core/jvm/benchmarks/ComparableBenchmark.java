@@ -0,0 +1,113 @@
+/*
+ * Copyright 2026, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.tools.core.jvm.benchmarks;
+
+import io.spine.tools.core.jvm.benchmarks.given.Player;
+import io.spine.tools.core.jvm.benchmarks.given.Score;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures {@code compareTo()} generated for a message with
+ * the {@code (compare_by)} option.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ComparableBenchmark {
+
+    private static final int SORTED_COUNT = 1_000;
+
+    private Score score;
+    private Score higherScore;
+    private Score sameScore;
+    private List<Score> unsorted;
+
+    @Setup
+    public void setUp() {
+        score = score(100, "alice", 0.5, true);
+        higherScore = score(200, "alice", 0.5, true);
+        sameScore = score(100, "alice", 0.5, true);
+        var random = new Random(42);
+        unsorted = new ArrayList<>(SORTED_COUNT);
+        for (var i = 0; i < SORTED_COUNT; i++) {
+            unsorted.add(score(random.nextInt(10),
+                               "player-" + random.nextInt(10),
+                               random.nextInt(4) / 4.0,
+                               random.nextBoolean()));
+        }
+    }
+
+    /**
+     * Compares the messages which differ in the first field.
+     */
+    @Benchmark
+    public int compareByFirstField() {
+        return score.compareTo(higherScore);
+    }
+
+    /**
+     * Compares the equal messages, which requires comparing all the fields.
+     */
+    @Benchmark
+    public int compareAllFields() {
+        return score.compareTo(sameScore);
+    }
+
+    /**
+     * Sorts the messages, many of which differ only in the last fields.
+     */
+    @Benchmark
+    public List<Score> sort() {
+        var scores = new ArrayList<>(unsorted);
+        Collections.sort(scores);
+        return scores;
+    }
+
+    private static Score score(long points, String nickname, double ratio, boolean verified) {
+        var player = Player.newBuilder()
+                .setNickname(nickname)
+                .build();
+        return Score.newBuilder()
+                .setPoints(points)
+                .setPlayer(player)
+                .setRatio(ratio)
+                .setVerified(verified)
+                .build();
+    }
+}
@@ -0,0 +1,86 @@
+/*
+ * Copyright 2026, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.tools.core.jvm.benchmarks;
+
+import io.spine.base.Field;
+import io.spine.query.EntityStateField;
+import io.spine.tools.core.jvm.benchmarks.given.TaskId;
+import io.spine.tools.core.jvm.benchmarks.given.TaskView;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the {@code Field} class generated for an entity state.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class FieldBenchmark {
+
+    private TaskView task;
+    private Field uuid;
+
+    @Setup
+    public void setUp() {
+        task = TaskView.newBuilder()
+                .setId(TaskId.generate())
+                .setTitle("Measure the fields")
+                .build();
+        uuid = TaskView.Field.id().uuid().getField();
+    }
+
+    /**
+     * Obtains a top-level field.
+     */
+    @Benchmark
+    public EntityStateField topLevel() {
+        return TaskView.Field.title();
+    }
+
+    /**
+     * Obtains a nested field through the chain of the generated accessors.
+     */
+    @Benchmark
+    public EntityStateField nested() {
+        return TaskView.Field.id().uuid();
+    }
+
+    /**
+     * Reads the value of a nested field obtained from the generated accessors.
+     */
+    @Benchmark
+    public Object nestedValue() {
+        return uuid.valueIn(task);
+    }
+}
@@ -29,4 +29,15 @@ plugins {
     id("io.spine.core-jvm")
 }
 
+spine {
+    coreJvm {
+        compiler {
+            forComparables {
+                generateSortKeys()
+                unrollCompareTo()
+            }
+        }
+    }
+}
+
 spineCompilerRemoteDebug()
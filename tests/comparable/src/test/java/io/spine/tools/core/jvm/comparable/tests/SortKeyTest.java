@@ -0,0 +1,220 @@
+/*
+ * Copyright 2026, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.tools.core.jvm.comparable.tests;
+
+import com.google.protobuf.Int64Value;
+import com.google.protobuf.Timestamp;
+import io.spine.test.tools.core.jvm.comparable.tests.Level;
+import io.spine.test.tools.core.jvm.comparable.tests.Measurement;
+import io.spine.test.tools.core.jvm.comparable.tests.Reading;
+import io.spine.tools.core.jvm.comparable.tests.env.Joggings;
+import io.spine.tools.core.jvm.comparable.tests.env.LocalDateTimes;
+import io.spine.tools.core.jvm.comparable.tests.env.Students;
+import io.spine.tools.core.jvm.comparable.tests.env.Travelers;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.function.Function;
+
+import static com.google.common.truth.Truth.assertThat;
+import static com.google.common.truth.Truth.assertWithMessage;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@DisplayName("Sort keys generated by `ComparablePlugin` should")
+class SortKeyTest {
+
+    /**
+     * The number of random pairs of messages compared by each property check.
+     */
+    private static final int PAIRS = 20_000;
+
+    private static final int[] INTS = {
+            Integer.MIN_VALUE, Integer.MIN_VALUE + 1, -256, -1, 0, 1, 255, 256,
+            Integer.MAX_VALUE - 1, Integer.MAX_VALUE
+    };
+
+    private static final long[] LONGS = {
+            Long.MIN_VALUE, -4_294_967_296L, -1L, 0L, 1L, 4_294_967_296L, Long.MAX_VALUE
+    };
+
+    private static final float[] FLOATS = {
+            Float.NEGATIVE_INFINITY, -Float.MAX_VALUE, -1.5f, -Float.MIN_VALUE, -0.0f, 0.0f,
+            Float.MIN_VALUE, 1.5f, Float.MAX_VALUE, Float.POSITIVE_INFINITY, Float.NaN
+    };
+
+    private static final double[] DOUBLES = {
+            Double.NEGATIVE_INFINITY, -Double.MAX_VALUE, -1.5, -Double.MIN_VALUE, -0.0, 0.0,
+            Double.MIN_VALUE, 1.5, Double.MAX_VALUE, Double.POSITIVE_INFINITY, Double.NaN
+    };
+
+    /**
+     * Strings covering the zero char, prefixes, and all the lengths of the UTF-8 encoding,
+     * including surrogates, which sort before the rest of 3-byte chars in {@code String}.
+     */
+    private static final String[] STRINGS = {
+            "", "\u0000", "a", "a\u0000", "a\u0000b", "ab", "b", "\u007F", "\u0080", "\u07FF",
+            "\u0800", "\uD83D\uDE00", "\uE000", "\uFFFF"
+    };
+
+    private final Random random = new Random(42);
+
+    @Nested
+    @DisplayName("order messages as `compareTo()` with")
+    class OrderMessages {
+
+        @Test
+        @DisplayName("fields of all kinds")
+        void allKinds() {
+            assertSameOrder(SortKeyTest.this::measurement, Measurement::sortKey);
+        }
+
+        @Test
+        @DisplayName("the descending order")
+        void descending() {
+            assertSameOrder(SortKeyTest.this::reading, Reading::sortKey);
+        }
+
+        @Test
+        @DisplayName("the given messages")
+        void givenMessages() {
+            assertSortedByKeys(LocalDateTimes.unsorted(), m -> m.sortKey());
+            assertSortedByKeys(Students.unsorted(), m -> m.sortKey());
+            assertSortedByKeys(Travelers.unsorted(), m -> m.sortKey());
+            assertSortedByKeys(Joggings.unsorted(), m -> m.sortKey());
+        }
+    }
+
+    @Test
+    @DisplayName("have the size reported by `sortKeySize()`")
+    void size() {
+        for (var i = 0; i < PAIRS; i++) {
+            var measurement = measurement(random);
+            assertThat(measurement.sortKey().length)
+                    .isEqualTo(measurement.sortKeySize());
+        }
+    }
+
+    @Test
+    @DisplayName("be written after the current position of the buffer")
+    void writeAfterPosition() {
+        var measurement = measurement(random);
+        var buffer = ByteBuffer.allocate(measurement.sortKeySize() + 3);
+        buffer.put(new byte[3]);
+        measurement.writeSortKey(buffer);
+
+        var written = Arrays.copyOfRange(buffer.array(), 3, buffer.position());
+        assertThat(written).isEqualTo(measurement.sortKey());
+    }
+
+    @Test
+    @DisplayName("reject a little-endian buffer")
+    void rejectLittleEndian() {
+        var measurement = measurement(random);
+        var buffer = ByteBuffer.allocate(measurement.sortKeySize())
+                               .order(ByteOrder.LITTLE_ENDIAN);
+        assertThrows(IllegalArgumentException.class, () -> measurement.writeSortKey(buffer));
+    }
+
+    /**
+     * Checks that the sort keys of random pairs of messages compare the same way
+     * as the messages.
+     *
+     * <p>The field values are mostly picked from small sets of edge cases. So, the messages
+     * of a pair often have equal leading fields, and all the fields participate
+     * in the comparison.
+     */
+    private <M extends Comparable<M>>
+    void assertSameOrder(Function<Random, M> generator, Function<M, byte[]> sortKey) {
+        for (var i = 0; i < PAIRS; i++) {
+            var left = generator.apply(random);
+            var right = random.nextInt(4) == 0 ? left : generator.apply(random);
+            var expected = Integer.signum(left.compareTo(right));
+            var actual = Integer.signum(
+                    Arrays.compareUnsigned(sortKey.apply(left), sortKey.apply(right))
+            );
+            assertWithMessage("Comparing `%s` with `%s`.", left, right)
+                    .that(actual)
+                    .isEqualTo(expected);
+        }
+    }
+
+    private static <M extends Comparable<M>>
+    void assertSortedByKeys(List<M> unsorted, Function<M, byte[]> sortKey) {
+        var expected = new ArrayList<>(unsorted);
+        expected.sort(null);
+        var actual = new ArrayList<>(unsorted);
+        actual.sort((l, r) -> Arrays.compareUnsigned(sortKey.apply(l), sortKey.apply(r)));
+        assertThat(actual).isEqualTo(expected);
+    }
+
+    /**
+     * Generates a measurement with the fields picked mostly from the edge cases.
+     */
+    private Measurement measurement(Random random) {
+        return Measurement.newBuilder()
+                .setValid(random.nextInt(8) == 0)
+                .setLevel(Level.forNumber(random.nextInt(3)))
+                .setCount(pick(random, INTS))
+                .setTotal(pick(random, LONGS))
+                .setUnsignedCount(pick(random, INTS))
+                .setRatio(FLOATS[random.nextInt(FLOATS.length)])
+                .setPreciseRatio(DOUBLES[random.nextInt(DOUBLES.length)])
+                .setLabel(string(random))
+                .setWeight(Int64Value.of(pick(random, LONGS)))
+                .setReading(reading(random))
+                .setTakenAt(Timestamp.newBuilder()
+                                    .setSeconds(random.nextInt(3) - 1)
+                                    .setNanos(random.nextInt(2) * 999_999_999))
+                .build();
+    }
+
+    private Reading reading(Random random) {
+        return Reading.newBuilder()
+                .setValue(pick(random, LONGS))
+                .setUnit(string(random))
+                .build();
+    }
+
+    private static String string(Random random) {
+        return STRINGS[random.nextInt(STRINGS.length)] + STRINGS[random.nextInt(STRINGS.length)];
+    }
+
+    private static int pick(Random random, int[] values) {
+        return random.nextInt(3) == 0 ? random.nextInt() : values[random.nextInt(values.length)];
+    }
+
+    private static long pick(Random random, long[] values) {
+        return random.nextInt(3) == 0 ? random.nextLong() : values[random.nextInt(values.length)];
+    }
+}
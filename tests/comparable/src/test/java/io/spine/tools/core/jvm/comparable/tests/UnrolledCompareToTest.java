@@ -0,0 +1,104 @@
+/*
+ * Copyright 2026, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+
+package io.spine.tools.core.jvm.comparable.tests;
+
+import io.spine.test.tools.core.jvm.comparable.tests.Jogging;
+import io.spine.test.tools.core.jvm.comparable.tests.LocalDateTime;
+import io.spine.test.tools.core.jvm.comparable.tests.Student;
+import io.spine.test.tools.core.jvm.comparable.tests.Traveler;
+import io.spine.tools.core.jvm.comparable.tests.env.Joggings;
+import io.spine.tools.core.jvm.comparable.tests.env.LocalDateTimes;
+import io.spine.tools.core.jvm.comparable.tests.env.Students;
+import io.spine.tools.core.jvm.comparable.tests.env.Travelers;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Modifier;
+import java.util.Comparator;
+import java.util.List;
+
+import static com.google.common.truth.Truth.assertThat;
+import static com.google.common.truth.Truth.assertWithMessage;
+
+@DisplayName("Unrolled `compareTo()` generated by `ComparablePlugin` should")
+class UnrolledCompareToTest {
+
+    @Test
+    @DisplayName("order messages as the `comparator` field")
+    void sameAsComparator() {
+        assertSameOrder(LocalDateTimes.unsorted(), LocalDateTime.class);
+        assertSameOrder(Travelers.unsorted(), Traveler.class);
+        assertSameOrder(Joggings.unsorted(), Jogging.class);
+    }
+
+    @Test
+    @DisplayName("order messages as the `comparator` field in the descending order")
+    void descending() {
+        assertSameOrder(Students.unsorted(), Student.class);
+    }
+
+    @Test
+    @DisplayName("keep the comparators from `ComparatorRegistry` in static fields")
+    void registryComparatorsInFields() throws NoSuchFieldException {
+        var field = Jogging.class.getDeclaredField("START_COMPARATOR");
+        var modifiers = field.getModifiers();
+        assertThat(Modifier.isPrivate(modifiers)).isTrue();
+        assertThat(Modifier.isStatic(modifiers)).isTrue();
+        assertThat(Modifier.isFinal(modifiers)).isTrue();
+        assertThat(field.getType()).isEqualTo(Comparator.class);
+    }
+
+    /**
+     * Checks that {@code compareTo()} orders each pair of the given messages
+     * in the same way as the {@code comparator} field of their class.
+     */
+    private static <M extends Comparable<M>>
+    void assertSameOrder(List<M> messages, Class<M> cls) {
+        var comparator = comparatorOf(cls);
+        for (var left : messages) {
+            for (var right : messages) {
+                var expected = Integer.signum(comparator.compare(left, right));
+                var actual = Integer.signum(left.compareTo(right));
+                assertWithMessage("Comparing `%s` with `%s`.", left, right)
+                        .that(actual)
+                        .isEqualTo(expected);
+            }
+        }
+    }
+
+    @SuppressWarnings("unchecked") // The type of the field is `Comparator` of the class.
+    private static <M> Comparator<M> comparatorOf(Class<M> cls) {
+        try {
+            var field = cls.getDeclaredField("comparator");
+            field.setAccessible(true);
+            return (Comparator<M>) field.get(null);
+        } catch (NoSuchFieldException | IllegalAccessException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -28,14 +28,17 @@ package io.spine.tools.mc.java.protoc;
 
 import io.spine.tools.column.Project;
 import io.spine.tools.column.ProjectCreation;
+import io.spine.tools.column.ProjectName;
 import io.spine.tools.column.ProjectView;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 
+import static com.google.common.truth.Truth.assertThat;
 import static io.spine.testing.Assertions.assertHasPrivateParameterlessCtor;
 import static io.spine.tools.mc.java.protoc.given.ColumnsTestEnv.assertDoesNotContainMethod;
 import static io.spine.tools.mc.java.protoc.given.ColumnsTestEnv.checkColumnName;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 
 @SuppressWarnings("DuplicateStringLiteralInspection") // Random duplication.
 @DisplayName("`ProtocPlugin`, when generating entity columns, should")
@@ -57,6 +60,64 @@ class ColumnsTest {
             checkColumnName(Project.Column.projectName(), "project_name");
             checkColumnName(Project.Column.status(), "status");
         }
+
+        @Test
+        @DisplayName("return the same column instance on each call")
+        void returnSameColumn() {
+            assertThat(Project.Column.status()).isSameInstanceAs(Project.Column.status());
+            assertThat(Project.Column.definitions()).isSameInstanceAs(Project.Column.definitions());
+        }
+
+        @Test
+        @DisplayName("include the instances returned by column methods into definitions")
+        void includeSameColumnsIntoDefinitions() {
+            var definitions = Project.Column.definitions();
+            assertThat(definitions).hasSize(2);
+            assertThat(definitions.stream()
+                               .anyMatch(column -> column == Project.Column.projectName()))
+                    .isTrue();
+            assertThat(definitions.stream()
+                               .anyMatch(column -> column == Project.Column.status()))
+                    .isTrue();
+        }
+
+        @Test
+        @DisplayName("extract the values of all the columns at their ordinals")
+        void extractAllValues() {
+            var name = ProjectName.newBuilder()
+                    .setValue("Extraction")
+                    .build();
+            var project = Project.newBuilder()
+                    .setProjectName(name)
+                    .setStatus(Project.Status.STARTED)
+                    .build();
+            var values = new Object[Project.Column.COLUMN_COUNT];
+            Project.Column.extractAll(project, values);
+
+            assertThat(values).hasLength(2);
+            assertThat(values[Project.Column.ordinal(Project.Column.projectName())])
+                    .isEqualTo(name);
+            assertThat(values[Project.Column.ordinal(Project.Column.status())])
+                    .isEqualTo(Project.Status.STARTED);
+        }
+
+        @Test
+        @DisplayName("number the columns in the order of definitions")
+        void numberColumnsInOrderOfDefinitions() {
+            var ordinal = 0;
+            for (var column : Project.Column.definitions()) {
+                assertThat(Project.Column.ordinal(column)).isEqualTo(ordinal);
+                ordinal++;
+            }
+        }
+
+        @Test
+        @DisplayName("reject an array too short for the column values")
+        void rejectShortArray() {
+            assertThrows(IllegalArgumentException.class,
+                         () -> Project.Column.extractAll(Project.getDefaultInstance(),
+                                                         new Object[1]));
+        }
     }
 
     @Nested
@@ -0,0 +1,78 @@
+/*
+ * Copyright 2026, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+/*
+    Measures how the CoreJvm Compiler scales with the size of a proto schema.
+
+    The module has no proto files of its own. Its schema is generated by `SyntheticSchema`
+    of the default `SchemaShape` multiplied by the `schemaScale` Gradle property.
+    The Compiler reports its time and memory into
+    `build/spine/reports/launchSpineCompiler/pipeline-metrics.json`.
+
+    Run the measurements for all the scales from the root project with:
+
+        ./gradlew checkScaling
+
+    See `ScalingBenchmark` for the details of the report.
+
+    The module is also the benchmark project of `checkBuildSpeed`, which compares
+    the durations of its tasks recorded by `TaskTimingsPlugin` with a stored baseline.
+    See `BuildSpeedGate` for details.
+*/
+
+import io.spine.gradle.performance.GenerateSyntheticSchema
+import io.spine.gradle.performance.ScalingBenchmark
+import io.spine.gradle.performance.SchemaShape
+import io.spine.gradle.performance.TaskTimingsPlugin
+
+plugins {
+    java
+    kotlin("jvm")
+    id("io.spine.core-jvm")
+}
+
+apply<TaskTimingsPlugin>()
+
+val schemaScale = providers.gradleProperty(ScalingBenchmark.SCALE_PROPERTY)
+    .map { it.toInt() }
+    .orElse(1)
+
+val generateSyntheticSchema = tasks.register<GenerateSyntheticSchema>("generateSyntheticSchema") {
+    shape.set(schemaScale.map { SchemaShape().scaled(it) })
+    outputDir.set(layout.buildDirectory.dir("synthetic/proto"))
+}
+
+sourceSets.main {
+    extensions.getByName<SourceDirectorySet>("proto").srcDir(generateSyntheticSchema)
+}
+
+spine {
+    coreJvm {
+        rendering {
+            metrics.set(true)
+        }
+    }
+}
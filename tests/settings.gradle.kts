@@ -26,12 +26,14 @@
 
 include(
     "annotator",
+    "benchmarks",
     "custom-annotations",
     "factories",
     "entity-queries",
     "known-types",
     "compiler",
     "rejection",
+    "scaling",
     "comparable",
     "validation-smoke"
 )
@@ -27,9 +27,30 @@
 package io.spine.tools.core.jvm.uuid
 
 import io.spine.tools.compiler.jvm.render.TypeRenderer
+import io.spine.tools.core.jvm.render.IncrementalRendering
+import io.spine.tools.core.jvm.render.PipelineMetrics
+import io.spine.tools.core.jvm.render.PsiSession
 
 /**
  * Renders code by applying actions specified in
  * [settings][io.spine.tools.core.jvm.settings.Uuids.getActions].
  */
-internal class UuidActionRenderer : TypeRenderer<UuidActions>()
+internal class UuidActionRenderer : TypeRenderer<UuidActions>() {
+
+    /**
+     * Skips the types of the proto files restored by the incremental rendering.
+     *
+     * The actions parse the files themselves, so the pending changes of
+     * [PsiSession] are written before the actions run.
+     */
+    override fun doRender(view: UuidActions) {
+        if (IncrementalRendering.isRestored(view.type.file)) {
+            return
+        }
+        PipelineMetrics.measure(this) {
+            PsiSession.flush()
+            super.doRender(view)
+        }
+        PipelineMetrics.applied(view.actions.actionMap.keys)
+    }
+}
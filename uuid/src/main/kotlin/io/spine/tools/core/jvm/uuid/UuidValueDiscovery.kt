@@ -37,6 +37,7 @@ import io.spine.tools.compiler.ast.PrimitiveType
 import io.spine.tools.compiler.ast.event.TypeDiscovered
 import io.spine.tools.compiler.plugin.Reaction
 import io.spine.tools.compiler.settings.loadSettings
+import io.spine.tools.core.jvm.render.PipelineMetrics
 import io.spine.tools.core.jvm.settings.Uuids
 import io.spine.tools.core.jvm.uuid.event.UuidValueDiscovered
 import io.spine.tools.core.jvm.uuid.event.uuidValueDiscovered
@@ -55,7 +56,11 @@ internal class UuidValueDiscovery : Reaction<TypeDiscovered>(), UuidPluginCompon
         @External event: TypeDiscovered
     ): EitherOf2<UuidValueDiscovered, NoReaction> {
         val type = event.type
-        return if (type.isUuidValue()) {
+        val isUuidValue = PipelineMetrics.measure(this) {
+            type.isUuidValue()
+        }
+        PipelineMetrics.reacted(this, matched = isUuidValue)
+        return if (isUuidValue) {
             uuidValueDiscovered {
                 this@uuidValueDiscovered.type = type
                 settings = this@UuidValueDiscovery.settings